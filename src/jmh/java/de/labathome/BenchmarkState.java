@@ -0,0 +1,222 @@
+package de.labathome;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state holding a time series with one particular combination of
+ * scaling and raw data type in a heap, direct or memory-mapped buffer. The
+ * generated benchmarks in {@link GeneratedBenchmarks} use one subclass of this
+ * per combination of types.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+@State(Scope.Thread)
+public abstract class BenchmarkState {
+
+	/** number of samples in the benchmark time series */
+	public static final int NUM_SAMPLES = 1 << 20;
+
+	/** index of the first sample read by the range benchmarks */
+	public static final int FIRST_INDEX = NUM_SAMPLES / 4;
+
+	/** index of the last sample read by the range benchmarks */
+	public static final int LAST_INDEX = 3 * NUM_SAMPLES / 4 - 1;
+
+	/** kind of buffer in which the time series is stored */
+	@Param({ "heap", "direct", "mapped" })
+	public String bufferType;
+
+	private final byte scaling_dtype;
+	private final byte data_dtype;
+
+	/** buffer containing the time series */
+	public ByteBuffer source;
+
+	/** buffer into which the time series is written by the write benchmarks */
+	public ByteBuffer target;
+
+	/** raw data of the time series */
+	public Object rawData;
+
+	/** array into which the raw data is read by the readRawData benchmarks */
+	public Object rawTarget;
+
+	/** reader of {@link #source} used by the reader benchmarks */
+	public BinaryTimeseriesReader reader;
+
+	/** arrays into which the data is read by the readDataInto benchmarks */
+	public byte[] byteTarget;
+	public short[] shortTarget;
+	public int[] intTarget;
+	public long[] longTarget;
+	public float[] floatTarget;
+	public double[] doubleTarget;
+
+	private File sourceFile;
+	private File targetFile;
+
+	/**
+	 * @param scaling_dtype scaling data type of the benchmark time series
+	 * @param data_dtype    raw data type of the benchmark time series
+	 */
+	protected BenchmarkState(final byte scaling_dtype, final byte data_dtype) {
+		this.scaling_dtype = scaling_dtype;
+		this.data_dtype = data_dtype;
+	}
+
+	/**
+	 * Create the raw data and write the time series into a new buffer of the
+	 * configured kind. The arrays for the readDataInto benchmarks are allocated
+	 * here as well, so that these benchmarks do not include any allocation.
+	 * 
+	 * @throws IOException if the memory-mapped file could not be created
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		rawData = createRawData(data_dtype);
+		rawTarget = Array.newInstance(rawData.getClass().getComponentType(), NUM_SAMPLES);
+		byteTarget = new byte[NUM_SAMPLES];
+		shortTarget = new short[NUM_SAMPLES];
+		intTarget = new int[NUM_SAMPLES];
+		longTarget = new long[NUM_SAMPLES];
+		floatTarget = new float[NUM_SAMPLES];
+		doubleTarget = new double[NUM_SAMPLES];
+
+		final int size = BinaryTimeseries.fileOffset(BinaryTimeseries.dtypeSize(data_dtype), NUM_SAMPLES);
+		if ("heap".equals(bufferType)) {
+			source = ByteBuffer.allocate(size);
+			target = ByteBuffer.allocate(size);
+		} else if ("direct".equals(bufferType)) {
+			source = ByteBuffer.allocateDirect(size);
+			target = ByteBuffer.allocateDirect(size);
+		} else if ("mapped".equals(bufferType)) {
+			sourceFile = File.createTempFile("benchmark_source", ".bts");
+			targetFile = File.createTempFile("benchmark_target", ".bts");
+			source = map(sourceFile, size);
+			target = map(targetFile, size);
+		} else {
+			throw new RuntimeException("unknown buffer type: " + bufferType);
+		}
+
+		BinaryTimeseries.write(source, 0L, 1L, rawData, scalingValue(scaling_dtype, 1),
+				scalingValue(scaling_dtype, 2));
+		source.position(0);
+		reader = new BinaryTimeseriesReader(source);
+	}
+
+	/**
+	 * Release the buffers and delete the memory-mapped files.
+	 * 
+	 * @throws IOException if a memory-mapped file could not be deleted
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if ("mapped".equals(bufferType)) {
+			BufferUnmapper.unmap(source);
+			BufferUnmapper.unmap(target);
+			Files.deleteIfExists(sourceFile.toPath());
+			Files.deleteIfExists(targetFile.toPath());
+		}
+		reader = null;
+		source = null;
+		target = null;
+	}
+
+	/**
+	 * @param file file to map
+	 * @param size number of bytes to map
+	 * @return buffer mapped for reading and writing
+	 * @throws IOException if the file could not be mapped
+	 */
+	private static MappedByteBuffer map(final File file, final int size) throws IOException {
+		try (RandomAccessFile memoryFile = new RandomAccessFile(file, "rw")) {
+			memoryFile.setLength(size);
+			return memoryFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+	}
+
+	/**
+	 * @param data_dtype raw data type
+	 * @return {@link #NUM_SAMPLES} raw values which fit into all data types
+	 */
+	private static Object createRawData(final byte data_dtype) {
+		final Object values = Array.newInstance(javaType(data_dtype), NUM_SAMPLES);
+		for (int i = 0; i < NUM_SAMPLES; ++i) {
+			final int value = i % 100 - 50;
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				Array.setByte(values, i, (byte) value);
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				Array.setShort(values, i, (short) value);
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				Array.setInt(values, i, value);
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				Array.setLong(values, i, value);
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				Array.setFloat(values, i, value);
+			} else {
+				Array.setDouble(values, i, value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @param dtype data type
+	 * @return primitive Java type corresponding to the given data type
+	 */
+	private static Class<?> javaType(final byte dtype) {
+		if (dtype == BinaryTimeseries.DTYPE_BYTE) {
+			return byte.class;
+		} else if (dtype == BinaryTimeseries.DTYPE_SHORT) {
+			return short.class;
+		} else if (dtype == BinaryTimeseries.DTYPE_INT) {
+			return int.class;
+		} else if (dtype == BinaryTimeseries.DTYPE_LONG) {
+			return long.class;
+		} else if (dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			return float.class;
+		} else if (dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			return double.class;
+		} else {
+			throw new RuntimeException("unknown dtype: " + dtype);
+		}
+	}
+
+	/**
+	 * @param scaling_dtype scaling data type
+	 * @param value         scaling value
+	 * @return the scaling value as an instance of the class corresponding to the
+	 *         scaling data type or {@code null} if no scaling is used
+	 */
+	private static Object scalingValue(final byte scaling_dtype, final int value) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			return null;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			return (byte) value;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			return (short) value;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			return value;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			return (long) value;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			return (float) value;
+		} else {
+			return (double) value;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package de.labathome;
+
+import static de.labathome.GenerateTestData.data_dtypes;
+import static de.labathome.GenerateTestData.javaName;
+import static de.labathome.GenerateTestData.scaling_dtypes;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Generate the JMH benchmarks in {@link GeneratedBenchmarks}, which cover
+ * writing, reading the raw data and reading the (scaled) data for all
+ * combinations of scaling type, raw data type and target type. The (scaled)
+ * data is read as a whole, as a range of samples and into a preallocated
+ * array, both through the static methods in {@link BinaryTimeseries} and
+ * through a {@link BinaryTimeseriesReader}. The benchmark
+ * code can be generated by running the {@code main} method of this class. The
+ * benchmarks are compiled and run in the {@code benchmark} Maven profile:
+ * 
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark.args="readData_D_S_D"
+ * </pre>
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class GenerateBenchmarkCode {
+
+	public static void main(String[] args) {
+		generateBenchmarkCode();
+	}
+
+	/**
+	 * generate the benchmarks and write them to
+	 * src/jmh/java/de/labathome/GeneratedBenchmarks.java
+	 */
+	public static void generateBenchmarkCode() {
+		try (FileWriter fw = new FileWriter("src/jmh/java/de/labathome/GeneratedBenchmarks.java")) {
+			try (PrintWriter pw = new PrintWriter(fw)) {
+				pw.println("package de.labathome;\n" +
+						"\n" +
+						"import java.util.concurrent.TimeUnit;\n" +
+						"\n" +
+						"import org.openjdk.jmh.annotations.Benchmark;\n" +
+						"import org.openjdk.jmh.annotations.BenchmarkMode;\n" +
+						"import org.openjdk.jmh.annotations.Mode;\n" +
+						"import org.openjdk.jmh.annotations.OutputTimeUnit;\n" +
+						"import org.openjdk.jmh.annotations.Scope;\n" +
+						"import org.openjdk.jmh.annotations.State;\n" +
+						"\n" +
+						"/**\n" +
+						" * Throughput of writing and reading time series of\n" +
+						" * {@link BenchmarkState#NUM_SAMPLES} samples for all combinations of scaling\n" +
+						" * type, raw data type and target type. Benchmark names are built from the\n" +
+						" * dtype strings of the scaling type, the raw data type and the target type.\n" +
+						" * The readData, readDataRange and readDataInto benchmarks use the static\n" +
+						" * methods in {@link BinaryTimeseries}, the readerReadData* benchmarks use a\n" +
+						" * {@link BinaryTimeseriesReader}.\n" +
+						" * This class is generated by {@link GenerateBenchmarkCode}; do not edit.\n" +
+						" * \n" +
+						" * @author Jonathan Schilling (jonathan.schilling@mail.de)\n" +
+						" */\n" +
+						"@BenchmarkMode(Mode.Throughput)\n" +
+						"@OutputTimeUnit(TimeUnit.SECONDS)\n" +
+						"public class GeneratedBenchmarks {");
+
+				// one state per combination of scaling and raw data type
+				for (byte scaling_dtype : scaling_dtypes) {
+					final String tS = BinaryTimeseries.dtypeStr(scaling_dtype);
+					for (byte data_dtype : data_dtypes) {
+						final String tD = BinaryTimeseries.dtypeStr(data_dtype);
+						pw.println("\n" +
+								"\t@State(Scope.Thread)\n" +
+								"\tpublic static class State_" + tS + "_" + tD + " extends BenchmarkState {\n" +
+								"\t\tpublic State_" + tS + "_" + tD + "() {\n" +
+								"\t\t\tsuper(BinaryTimeseries." + dtypeConstant(scaling_dtype) + ", BinaryTimeseries."
+								+ dtypeConstant(data_dtype) + ");\n" +
+								"\t\t}\n" +
+								"\t}");
+					}
+				}
+
+				// writing and reading raw data only depends on the raw data type
+				for (byte data_dtype : data_dtypes) {
+					final String tD = BinaryTimeseries.dtypeStr(data_dtype);
+					final String jtD = javaName.get(data_dtype);
+					pw.println("\n" +
+							"\t@Benchmark\n" +
+							"\tpublic void write_" + tD + "(final State_N_" + tD + " state) {\n" +
+							"\t\tstate.target.clear();\n" +
+							"\t\tBinaryTimeseries.write(state.target, 0L, 1L, state.rawData);\n" +
+							"\t}\n" +
+							"\n" +
+							"\t@Benchmark\n" +
+							"\tpublic " + jtD + "[] readRawData_" + tD + "(final State_N_" + tD + " state) {\n" +
+							"\t\tstate.source.position(64);\n" +
+							"\t\tBinaryTimeseries.readRawData(state.source, (" + jtD
+							+ "[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);\n" +
+							"\t\treturn (" + jtD + "[]) state.rawTarget;\n" +
+							"\t}");
+				}
+
+				// reading (scaled) data for all combinations of types: the whole time series,
+				// a range of samples and the whole time series into a preallocated array,
+				// each through the static methods and through a BinaryTimeseriesReader
+				for (byte scaling_dtype : scaling_dtypes) {
+					final String tS = BinaryTimeseries.dtypeStr(scaling_dtype);
+					for (byte data_dtype : data_dtypes) {
+						final String tD = BinaryTimeseries.dtypeStr(data_dtype);
+						for (byte target_dtype : data_dtypes) {
+							final String tT = BinaryTimeseries.dtypeStr(target_dtype);
+							final String jtT = javaName.get(target_dtype);
+							final String suffix = tS + "_" + tD + "_" + tT;
+							pw.println("\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readData_" + tS + "_" + tD + "_" + tT + "(final State_" + tS
+									+ "_" + tD + " state) {\n" +
+									"\t\tstate.source.position(19);\n" +
+									"\t\treturn BinaryTimeseries.readData_" + jtT + "(state.source);\n" +
+									"\t}\n" +
+									"\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readDataRange_" + suffix + "(final State_" + tS + "_" + tD
+									+ " state) {\n" +
+									"\t\tstate.source.position(19);\n" +
+									"\t\treturn BinaryTimeseries.readData_" + jtT
+									+ "(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);\n" +
+									"\t}\n" +
+									"\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readDataInto_" + suffix + "(final State_" + tS + "_" + tD
+									+ " state) {\n" +
+									"\t\tstate.source.position(19);\n" +
+									"\t\tBinaryTimeseries.readData_" + jtT + "(state.source, 0, -1, state." + jtT
+									+ "Target, 0);\n" +
+									"\t\treturn state." + jtT + "Target;\n" +
+									"\t}\n" +
+									"\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readerReadData_" + suffix + "(final State_" + tS + "_" + tD
+									+ " state) {\n" +
+									"\t\treturn state.reader.readData_" + jtT + "();\n" +
+									"\t}\n" +
+									"\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readerReadDataRange_" + suffix + "(final State_" + tS + "_"
+									+ tD + " state) {\n" +
+									"\t\treturn state.reader.readData_" + jtT
+									+ "(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);\n" +
+									"\t}\n" +
+									"\n" +
+									"\t@Benchmark\n" +
+									"\tpublic " + jtT + "[] readerReadDataInto_" + suffix + "(final State_" + tS + "_"
+									+ tD + " state) {\n" +
+									"\t\tstate.reader.readData_" + jtT + "(0, -1, state." + jtT + "Target, 0);\n" +
+									"\t\treturn state." + jtT + "Target;\n" +
+									"\t}");
+						}
+					}
+				}
+
+				pw.println("}");
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * @param dtype data type
+	 * @return name of the constant in {@link BinaryTimeseries} for the given data
+	 *         type
+	 */
+	private static String dtypeConstant(final byte dtype) {
+		if (dtype == BinaryTimeseries.DTYPE_NONE) {
+			return "DTYPE_NONE";
+		} else {
+			return "DTYPE_" + javaName.get(dtype).toUpperCase();
+		}
+	}
+}
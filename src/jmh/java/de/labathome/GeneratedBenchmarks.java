@@ -0,0 +1,9219 @@
+package de.labathome;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of writing and reading time series of
+ * {@link BenchmarkState#NUM_SAMPLES} samples for all combinations of scaling
+ * type, raw data type and target type. Benchmark names are built from the
+ * dtype strings of the scaling type, the raw data type and the target type.
+ * The readData, readDataRange and readDataInto benchmarks use the static
+ * methods in {@link BinaryTimeseries}, the readerReadData* benchmarks use a
+ * {@link BinaryTimeseriesReader}.
+ * This class is generated by {@link GenerateBenchmarkCode}; do not edit.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeneratedBenchmarks {
+
+	@State(Scope.Thread)
+	public static class State_N_B extends BenchmarkState {
+		public State_N_B() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_N_S extends BenchmarkState {
+		public State_N_S() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_N_I extends BenchmarkState {
+		public State_N_I() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_N_L extends BenchmarkState {
+		public State_N_L() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_N_F extends BenchmarkState {
+		public State_N_F() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_N_D extends BenchmarkState {
+		public State_N_D() {
+			super(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_B extends BenchmarkState {
+		public State_B_B() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_S extends BenchmarkState {
+		public State_B_S() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_I extends BenchmarkState {
+		public State_B_I() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_L extends BenchmarkState {
+		public State_B_L() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_F extends BenchmarkState {
+		public State_B_F() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_B_D extends BenchmarkState {
+		public State_B_D() {
+			super(BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_B extends BenchmarkState {
+		public State_S_B() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_S extends BenchmarkState {
+		public State_S_S() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_I extends BenchmarkState {
+		public State_S_I() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_L extends BenchmarkState {
+		public State_S_L() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_F extends BenchmarkState {
+		public State_S_F() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_S_D extends BenchmarkState {
+		public State_S_D() {
+			super(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_B extends BenchmarkState {
+		public State_I_B() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_S extends BenchmarkState {
+		public State_I_S() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_I extends BenchmarkState {
+		public State_I_I() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_L extends BenchmarkState {
+		public State_I_L() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_F extends BenchmarkState {
+		public State_I_F() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_I_D extends BenchmarkState {
+		public State_I_D() {
+			super(BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_B extends BenchmarkState {
+		public State_L_B() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_S extends BenchmarkState {
+		public State_L_S() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_I extends BenchmarkState {
+		public State_L_I() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_L extends BenchmarkState {
+		public State_L_L() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_F extends BenchmarkState {
+		public State_L_F() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_L_D extends BenchmarkState {
+		public State_L_D() {
+			super(BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_B extends BenchmarkState {
+		public State_F_B() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_S extends BenchmarkState {
+		public State_F_S() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_I extends BenchmarkState {
+		public State_F_I() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_L extends BenchmarkState {
+		public State_F_L() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_F extends BenchmarkState {
+		public State_F_F() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_F_D extends BenchmarkState {
+		public State_F_D() {
+			super(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_B extends BenchmarkState {
+		public State_D_B() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_BYTE);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_S extends BenchmarkState {
+		public State_D_S() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_SHORT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_I extends BenchmarkState {
+		public State_D_I() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_INT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_L extends BenchmarkState {
+		public State_D_L() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_LONG);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_F extends BenchmarkState {
+		public State_D_F() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_FLOAT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class State_D_D extends BenchmarkState {
+		public State_D_D() {
+			super(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_DOUBLE);
+		}
+	}
+
+	@Benchmark
+	public void write_B(final State_N_B state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public byte[] readRawData_B(final State_N_B state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (byte[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (byte[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public void write_S(final State_N_S state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public short[] readRawData_S(final State_N_S state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (short[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (short[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public void write_I(final State_N_I state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public int[] readRawData_I(final State_N_I state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (int[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (int[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public void write_L(final State_N_L state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public long[] readRawData_L(final State_N_L state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (long[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (long[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public void write_F(final State_N_F state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public float[] readRawData_F(final State_N_F state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (float[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (float[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public void write_D(final State_N_D state) {
+		state.target.clear();
+		BinaryTimeseries.write(state.target, 0L, 1L, state.rawData);
+	}
+
+	@Benchmark
+	public double[] readRawData_D(final State_N_D state) {
+		state.source.position(64);
+		BinaryTimeseries.readRawData(state.source, (double[]) state.rawTarget, 0, BenchmarkState.NUM_SAMPLES);
+		return (double[]) state.rawTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_B_B(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_B_B(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_B_B(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_B_B(final State_N_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_B_B(final State_N_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_B_B(final State_N_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_B_S(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_B_S(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_B_S(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_B_S(final State_N_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_B_S(final State_N_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_B_S(final State_N_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_B_I(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_B_I(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_B_I(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_B_I(final State_N_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_B_I(final State_N_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_B_I(final State_N_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_B_L(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_B_L(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_B_L(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_B_L(final State_N_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_B_L(final State_N_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_B_L(final State_N_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_B_F(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_B_F(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_B_F(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_B_F(final State_N_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_B_F(final State_N_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_B_F(final State_N_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_B_D(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_B_D(final State_N_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_B_D(final State_N_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_B_D(final State_N_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_B_D(final State_N_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_B_D(final State_N_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_S_B(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_S_B(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_S_B(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_S_B(final State_N_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_S_B(final State_N_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_S_B(final State_N_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_S_S(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_S_S(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_S_S(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_S_S(final State_N_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_S_S(final State_N_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_S_S(final State_N_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_S_I(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_S_I(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_S_I(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_S_I(final State_N_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_S_I(final State_N_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_S_I(final State_N_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_S_L(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_S_L(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_S_L(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_S_L(final State_N_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_S_L(final State_N_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_S_L(final State_N_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_S_F(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_S_F(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_S_F(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_S_F(final State_N_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_S_F(final State_N_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_S_F(final State_N_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_S_D(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_S_D(final State_N_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_S_D(final State_N_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_S_D(final State_N_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_S_D(final State_N_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_S_D(final State_N_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_I_B(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_I_B(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_I_B(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_I_B(final State_N_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_I_B(final State_N_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_I_B(final State_N_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_I_S(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_I_S(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_I_S(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_I_S(final State_N_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_I_S(final State_N_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_I_S(final State_N_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_I_I(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_I_I(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_I_I(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_I_I(final State_N_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_I_I(final State_N_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_I_I(final State_N_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_I_L(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_I_L(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_I_L(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_I_L(final State_N_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_I_L(final State_N_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_I_L(final State_N_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_I_F(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_I_F(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_I_F(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_I_F(final State_N_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_I_F(final State_N_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_I_F(final State_N_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_I_D(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_I_D(final State_N_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_I_D(final State_N_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_I_D(final State_N_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_I_D(final State_N_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_I_D(final State_N_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_L_B(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_L_B(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_L_B(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_L_B(final State_N_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_L_B(final State_N_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_L_B(final State_N_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_L_S(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_L_S(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_L_S(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_L_S(final State_N_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_L_S(final State_N_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_L_S(final State_N_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_L_I(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_L_I(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_L_I(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_L_I(final State_N_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_L_I(final State_N_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_L_I(final State_N_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_L_L(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_L_L(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_L_L(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_L_L(final State_N_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_L_L(final State_N_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_L_L(final State_N_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_L_F(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_L_F(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_L_F(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_L_F(final State_N_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_L_F(final State_N_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_L_F(final State_N_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_L_D(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_L_D(final State_N_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_L_D(final State_N_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_L_D(final State_N_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_L_D(final State_N_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_L_D(final State_N_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_F_B(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_F_B(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_F_B(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_F_B(final State_N_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_F_B(final State_N_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_F_B(final State_N_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_F_S(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_F_S(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_F_S(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_F_S(final State_N_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_F_S(final State_N_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_F_S(final State_N_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_F_I(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_F_I(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_F_I(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_F_I(final State_N_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_F_I(final State_N_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_F_I(final State_N_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_F_L(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_F_L(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_F_L(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_F_L(final State_N_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_F_L(final State_N_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_F_L(final State_N_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_F_F(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_F_F(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_F_F(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_F_F(final State_N_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_F_F(final State_N_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_F_F(final State_N_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_F_D(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_F_D(final State_N_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_F_D(final State_N_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_F_D(final State_N_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_F_D(final State_N_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_F_D(final State_N_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_N_D_B(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_N_D_B(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_N_D_B(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_N_D_B(final State_N_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_N_D_B(final State_N_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_N_D_B(final State_N_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_N_D_S(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_N_D_S(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_N_D_S(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_N_D_S(final State_N_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_N_D_S(final State_N_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_N_D_S(final State_N_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_N_D_I(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_N_D_I(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_N_D_I(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_N_D_I(final State_N_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_N_D_I(final State_N_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_N_D_I(final State_N_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_N_D_L(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_N_D_L(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_N_D_L(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_N_D_L(final State_N_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_N_D_L(final State_N_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_N_D_L(final State_N_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_N_D_F(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_N_D_F(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_N_D_F(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_N_D_F(final State_N_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_N_D_F(final State_N_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_N_D_F(final State_N_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_N_D_D(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_N_D_D(final State_N_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_N_D_D(final State_N_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_N_D_D(final State_N_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_N_D_D(final State_N_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_N_D_D(final State_N_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_B_B(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_B_B(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_B_B(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_B_B(final State_B_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_B_B(final State_B_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_B_B(final State_B_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_B_S(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_B_S(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_B_S(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_B_S(final State_B_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_B_S(final State_B_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_B_S(final State_B_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_B_I(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_B_I(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_B_I(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_B_I(final State_B_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_B_I(final State_B_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_B_I(final State_B_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_B_L(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_B_L(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_B_L(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_B_L(final State_B_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_B_L(final State_B_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_B_L(final State_B_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_B_F(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_B_F(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_B_F(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_B_F(final State_B_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_B_F(final State_B_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_B_F(final State_B_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_B_D(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_B_D(final State_B_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_B_D(final State_B_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_B_D(final State_B_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_B_D(final State_B_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_B_D(final State_B_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_S_B(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_S_B(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_S_B(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_S_B(final State_B_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_S_B(final State_B_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_S_B(final State_B_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_S_S(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_S_S(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_S_S(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_S_S(final State_B_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_S_S(final State_B_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_S_S(final State_B_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_S_I(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_S_I(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_S_I(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_S_I(final State_B_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_S_I(final State_B_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_S_I(final State_B_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_S_L(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_S_L(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_S_L(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_S_L(final State_B_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_S_L(final State_B_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_S_L(final State_B_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_S_F(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_S_F(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_S_F(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_S_F(final State_B_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_S_F(final State_B_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_S_F(final State_B_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_S_D(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_S_D(final State_B_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_S_D(final State_B_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_S_D(final State_B_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_S_D(final State_B_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_S_D(final State_B_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_I_B(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_I_B(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_I_B(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_I_B(final State_B_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_I_B(final State_B_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_I_B(final State_B_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_I_S(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_I_S(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_I_S(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_I_S(final State_B_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_I_S(final State_B_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_I_S(final State_B_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_I_I(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_I_I(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_I_I(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_I_I(final State_B_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_I_I(final State_B_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_I_I(final State_B_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_I_L(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_I_L(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_I_L(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_I_L(final State_B_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_I_L(final State_B_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_I_L(final State_B_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_I_F(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_I_F(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_I_F(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_I_F(final State_B_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_I_F(final State_B_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_I_F(final State_B_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_I_D(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_I_D(final State_B_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_I_D(final State_B_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_I_D(final State_B_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_I_D(final State_B_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_I_D(final State_B_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_L_B(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_L_B(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_L_B(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_L_B(final State_B_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_L_B(final State_B_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_L_B(final State_B_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_L_S(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_L_S(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_L_S(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_L_S(final State_B_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_L_S(final State_B_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_L_S(final State_B_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_L_I(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_L_I(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_L_I(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_L_I(final State_B_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_L_I(final State_B_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_L_I(final State_B_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_L_L(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_L_L(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_L_L(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_L_L(final State_B_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_L_L(final State_B_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_L_L(final State_B_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_L_F(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_L_F(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_L_F(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_L_F(final State_B_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_L_F(final State_B_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_L_F(final State_B_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_L_D(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_L_D(final State_B_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_L_D(final State_B_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_L_D(final State_B_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_L_D(final State_B_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_L_D(final State_B_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_F_B(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_F_B(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_F_B(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_F_B(final State_B_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_F_B(final State_B_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_F_B(final State_B_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_F_S(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_F_S(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_F_S(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_F_S(final State_B_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_F_S(final State_B_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_F_S(final State_B_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_F_I(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_F_I(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_F_I(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_F_I(final State_B_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_F_I(final State_B_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_F_I(final State_B_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_F_L(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_F_L(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_F_L(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_F_L(final State_B_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_F_L(final State_B_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_F_L(final State_B_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_F_F(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_F_F(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_F_F(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_F_F(final State_B_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_F_F(final State_B_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_F_F(final State_B_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_F_D(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_F_D(final State_B_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_F_D(final State_B_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_F_D(final State_B_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_F_D(final State_B_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_F_D(final State_B_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_B_D_B(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_B_D_B(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_B_D_B(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_B_D_B(final State_B_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_B_D_B(final State_B_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_B_D_B(final State_B_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_B_D_S(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_B_D_S(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_B_D_S(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_B_D_S(final State_B_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_B_D_S(final State_B_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_B_D_S(final State_B_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_B_D_I(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_B_D_I(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_B_D_I(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_B_D_I(final State_B_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_B_D_I(final State_B_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_B_D_I(final State_B_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_B_D_L(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_B_D_L(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_B_D_L(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_B_D_L(final State_B_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_B_D_L(final State_B_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_B_D_L(final State_B_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_B_D_F(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_B_D_F(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_B_D_F(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_B_D_F(final State_B_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_B_D_F(final State_B_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_B_D_F(final State_B_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_B_D_D(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_B_D_D(final State_B_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_B_D_D(final State_B_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_B_D_D(final State_B_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_B_D_D(final State_B_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_B_D_D(final State_B_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_B_B(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_B_B(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_B_B(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_B_B(final State_S_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_B_B(final State_S_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_B_B(final State_S_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_B_S(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_B_S(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_B_S(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_B_S(final State_S_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_B_S(final State_S_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_B_S(final State_S_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_B_I(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_B_I(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_B_I(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_B_I(final State_S_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_B_I(final State_S_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_B_I(final State_S_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_B_L(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_B_L(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_B_L(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_B_L(final State_S_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_B_L(final State_S_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_B_L(final State_S_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_B_F(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_B_F(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_B_F(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_B_F(final State_S_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_B_F(final State_S_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_B_F(final State_S_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_B_D(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_B_D(final State_S_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_B_D(final State_S_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_B_D(final State_S_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_B_D(final State_S_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_B_D(final State_S_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_S_B(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_S_B(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_S_B(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_S_B(final State_S_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_S_B(final State_S_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_S_B(final State_S_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_S_S(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_S_S(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_S_S(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_S_S(final State_S_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_S_S(final State_S_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_S_S(final State_S_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_S_I(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_S_I(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_S_I(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_S_I(final State_S_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_S_I(final State_S_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_S_I(final State_S_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_S_L(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_S_L(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_S_L(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_S_L(final State_S_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_S_L(final State_S_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_S_L(final State_S_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_S_F(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_S_F(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_S_F(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_S_F(final State_S_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_S_F(final State_S_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_S_F(final State_S_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_S_D(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_S_D(final State_S_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_S_D(final State_S_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_S_D(final State_S_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_S_D(final State_S_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_S_D(final State_S_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_I_B(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_I_B(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_I_B(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_I_B(final State_S_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_I_B(final State_S_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_I_B(final State_S_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_I_S(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_I_S(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_I_S(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_I_S(final State_S_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_I_S(final State_S_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_I_S(final State_S_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_I_I(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_I_I(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_I_I(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_I_I(final State_S_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_I_I(final State_S_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_I_I(final State_S_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_I_L(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_I_L(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_I_L(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_I_L(final State_S_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_I_L(final State_S_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_I_L(final State_S_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_I_F(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_I_F(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_I_F(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_I_F(final State_S_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_I_F(final State_S_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_I_F(final State_S_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_I_D(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_I_D(final State_S_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_I_D(final State_S_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_I_D(final State_S_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_I_D(final State_S_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_I_D(final State_S_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_L_B(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_L_B(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_L_B(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_L_B(final State_S_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_L_B(final State_S_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_L_B(final State_S_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_L_S(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_L_S(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_L_S(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_L_S(final State_S_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_L_S(final State_S_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_L_S(final State_S_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_L_I(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_L_I(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_L_I(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_L_I(final State_S_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_L_I(final State_S_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_L_I(final State_S_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_L_L(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_L_L(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_L_L(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_L_L(final State_S_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_L_L(final State_S_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_L_L(final State_S_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_L_F(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_L_F(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_L_F(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_L_F(final State_S_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_L_F(final State_S_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_L_F(final State_S_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_L_D(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_L_D(final State_S_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_L_D(final State_S_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_L_D(final State_S_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_L_D(final State_S_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_L_D(final State_S_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_F_B(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_F_B(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_F_B(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_F_B(final State_S_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_F_B(final State_S_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_F_B(final State_S_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_F_S(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_F_S(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_F_S(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_F_S(final State_S_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_F_S(final State_S_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_F_S(final State_S_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_F_I(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_F_I(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_F_I(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_F_I(final State_S_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_F_I(final State_S_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_F_I(final State_S_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_F_L(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_F_L(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_F_L(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_F_L(final State_S_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_F_L(final State_S_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_F_L(final State_S_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_F_F(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_F_F(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_F_F(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_F_F(final State_S_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_F_F(final State_S_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_F_F(final State_S_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_F_D(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_F_D(final State_S_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_F_D(final State_S_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_F_D(final State_S_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_F_D(final State_S_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_F_D(final State_S_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_S_D_B(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_S_D_B(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_S_D_B(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_S_D_B(final State_S_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_S_D_B(final State_S_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_S_D_B(final State_S_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_S_D_S(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_S_D_S(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_S_D_S(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_S_D_S(final State_S_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_S_D_S(final State_S_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_S_D_S(final State_S_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_S_D_I(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_S_D_I(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_S_D_I(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_S_D_I(final State_S_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_S_D_I(final State_S_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_S_D_I(final State_S_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_S_D_L(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_S_D_L(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_S_D_L(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_S_D_L(final State_S_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_S_D_L(final State_S_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_S_D_L(final State_S_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_S_D_F(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_S_D_F(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_S_D_F(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_S_D_F(final State_S_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_S_D_F(final State_S_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_S_D_F(final State_S_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_S_D_D(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_S_D_D(final State_S_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_S_D_D(final State_S_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_S_D_D(final State_S_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_S_D_D(final State_S_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_S_D_D(final State_S_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_B_B(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_B_B(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_B_B(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_B_B(final State_I_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_B_B(final State_I_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_B_B(final State_I_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_B_S(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_B_S(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_B_S(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_B_S(final State_I_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_B_S(final State_I_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_B_S(final State_I_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_B_I(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_B_I(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_B_I(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_B_I(final State_I_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_B_I(final State_I_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_B_I(final State_I_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_B_L(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_B_L(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_B_L(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_B_L(final State_I_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_B_L(final State_I_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_B_L(final State_I_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_B_F(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_B_F(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_B_F(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_B_F(final State_I_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_B_F(final State_I_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_B_F(final State_I_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_B_D(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_B_D(final State_I_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_B_D(final State_I_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_B_D(final State_I_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_B_D(final State_I_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_B_D(final State_I_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_S_B(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_S_B(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_S_B(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_S_B(final State_I_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_S_B(final State_I_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_S_B(final State_I_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_S_S(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_S_S(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_S_S(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_S_S(final State_I_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_S_S(final State_I_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_S_S(final State_I_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_S_I(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_S_I(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_S_I(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_S_I(final State_I_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_S_I(final State_I_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_S_I(final State_I_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_S_L(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_S_L(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_S_L(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_S_L(final State_I_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_S_L(final State_I_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_S_L(final State_I_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_S_F(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_S_F(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_S_F(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_S_F(final State_I_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_S_F(final State_I_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_S_F(final State_I_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_S_D(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_S_D(final State_I_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_S_D(final State_I_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_S_D(final State_I_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_S_D(final State_I_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_S_D(final State_I_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_I_B(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_I_B(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_I_B(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_I_B(final State_I_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_I_B(final State_I_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_I_B(final State_I_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_I_S(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_I_S(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_I_S(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_I_S(final State_I_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_I_S(final State_I_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_I_S(final State_I_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_I_I(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_I_I(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_I_I(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_I_I(final State_I_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_I_I(final State_I_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_I_I(final State_I_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_I_L(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_I_L(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_I_L(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_I_L(final State_I_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_I_L(final State_I_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_I_L(final State_I_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_I_F(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_I_F(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_I_F(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_I_F(final State_I_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_I_F(final State_I_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_I_F(final State_I_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_I_D(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_I_D(final State_I_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_I_D(final State_I_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_I_D(final State_I_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_I_D(final State_I_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_I_D(final State_I_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_L_B(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_L_B(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_L_B(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_L_B(final State_I_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_L_B(final State_I_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_L_B(final State_I_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_L_S(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_L_S(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_L_S(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_L_S(final State_I_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_L_S(final State_I_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_L_S(final State_I_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_L_I(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_L_I(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_L_I(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_L_I(final State_I_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_L_I(final State_I_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_L_I(final State_I_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_L_L(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_L_L(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_L_L(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_L_L(final State_I_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_L_L(final State_I_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_L_L(final State_I_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_L_F(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_L_F(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_L_F(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_L_F(final State_I_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_L_F(final State_I_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_L_F(final State_I_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_L_D(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_L_D(final State_I_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_L_D(final State_I_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_L_D(final State_I_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_L_D(final State_I_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_L_D(final State_I_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_F_B(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_F_B(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_F_B(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_F_B(final State_I_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_F_B(final State_I_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_F_B(final State_I_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_F_S(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_F_S(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_F_S(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_F_S(final State_I_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_F_S(final State_I_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_F_S(final State_I_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_F_I(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_F_I(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_F_I(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_F_I(final State_I_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_F_I(final State_I_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_F_I(final State_I_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_F_L(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_F_L(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_F_L(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_F_L(final State_I_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_F_L(final State_I_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_F_L(final State_I_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_F_F(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_F_F(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_F_F(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_F_F(final State_I_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_F_F(final State_I_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_F_F(final State_I_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_F_D(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_F_D(final State_I_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_F_D(final State_I_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_F_D(final State_I_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_F_D(final State_I_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_F_D(final State_I_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_I_D_B(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_I_D_B(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_I_D_B(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_I_D_B(final State_I_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_I_D_B(final State_I_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_I_D_B(final State_I_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_I_D_S(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_I_D_S(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_I_D_S(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_I_D_S(final State_I_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_I_D_S(final State_I_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_I_D_S(final State_I_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_I_D_I(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_I_D_I(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_I_D_I(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_I_D_I(final State_I_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_I_D_I(final State_I_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_I_D_I(final State_I_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_I_D_L(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_I_D_L(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_I_D_L(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_I_D_L(final State_I_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_I_D_L(final State_I_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_I_D_L(final State_I_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_I_D_F(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_I_D_F(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_I_D_F(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_I_D_F(final State_I_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_I_D_F(final State_I_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_I_D_F(final State_I_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_I_D_D(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_I_D_D(final State_I_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_I_D_D(final State_I_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_I_D_D(final State_I_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_I_D_D(final State_I_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_I_D_D(final State_I_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_B_B(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_B_B(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_B_B(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_B_B(final State_L_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_B_B(final State_L_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_B_B(final State_L_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_B_S(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_B_S(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_B_S(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_B_S(final State_L_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_B_S(final State_L_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_B_S(final State_L_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_B_I(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_B_I(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_B_I(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_B_I(final State_L_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_B_I(final State_L_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_B_I(final State_L_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_B_L(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_B_L(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_B_L(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_B_L(final State_L_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_B_L(final State_L_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_B_L(final State_L_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_B_F(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_B_F(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_B_F(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_B_F(final State_L_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_B_F(final State_L_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_B_F(final State_L_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_B_D(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_B_D(final State_L_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_B_D(final State_L_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_B_D(final State_L_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_B_D(final State_L_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_B_D(final State_L_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_S_B(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_S_B(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_S_B(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_S_B(final State_L_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_S_B(final State_L_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_S_B(final State_L_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_S_S(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_S_S(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_S_S(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_S_S(final State_L_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_S_S(final State_L_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_S_S(final State_L_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_S_I(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_S_I(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_S_I(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_S_I(final State_L_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_S_I(final State_L_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_S_I(final State_L_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_S_L(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_S_L(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_S_L(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_S_L(final State_L_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_S_L(final State_L_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_S_L(final State_L_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_S_F(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_S_F(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_S_F(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_S_F(final State_L_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_S_F(final State_L_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_S_F(final State_L_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_S_D(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_S_D(final State_L_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_S_D(final State_L_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_S_D(final State_L_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_S_D(final State_L_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_S_D(final State_L_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_I_B(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_I_B(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_I_B(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_I_B(final State_L_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_I_B(final State_L_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_I_B(final State_L_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_I_S(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_I_S(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_I_S(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_I_S(final State_L_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_I_S(final State_L_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_I_S(final State_L_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_I_I(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_I_I(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_I_I(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_I_I(final State_L_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_I_I(final State_L_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_I_I(final State_L_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_I_L(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_I_L(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_I_L(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_I_L(final State_L_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_I_L(final State_L_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_I_L(final State_L_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_I_F(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_I_F(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_I_F(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_I_F(final State_L_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_I_F(final State_L_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_I_F(final State_L_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_I_D(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_I_D(final State_L_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_I_D(final State_L_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_I_D(final State_L_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_I_D(final State_L_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_I_D(final State_L_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_L_B(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_L_B(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_L_B(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_L_B(final State_L_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_L_B(final State_L_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_L_B(final State_L_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_L_S(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_L_S(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_L_S(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_L_S(final State_L_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_L_S(final State_L_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_L_S(final State_L_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_L_I(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_L_I(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_L_I(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_L_I(final State_L_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_L_I(final State_L_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_L_I(final State_L_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_L_L(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_L_L(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_L_L(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_L_L(final State_L_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_L_L(final State_L_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_L_L(final State_L_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_L_F(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_L_F(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_L_F(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_L_F(final State_L_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_L_F(final State_L_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_L_F(final State_L_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_L_D(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_L_D(final State_L_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_L_D(final State_L_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_L_D(final State_L_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_L_D(final State_L_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_L_D(final State_L_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_F_B(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_F_B(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_F_B(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_F_B(final State_L_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_F_B(final State_L_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_F_B(final State_L_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_F_S(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_F_S(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_F_S(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_F_S(final State_L_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_F_S(final State_L_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_F_S(final State_L_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_F_I(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_F_I(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_F_I(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_F_I(final State_L_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_F_I(final State_L_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_F_I(final State_L_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_F_L(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_F_L(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_F_L(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_F_L(final State_L_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_F_L(final State_L_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_F_L(final State_L_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_F_F(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_F_F(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_F_F(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_F_F(final State_L_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_F_F(final State_L_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_F_F(final State_L_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_F_D(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_F_D(final State_L_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_F_D(final State_L_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_F_D(final State_L_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_F_D(final State_L_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_F_D(final State_L_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_L_D_B(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_L_D_B(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_L_D_B(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_L_D_B(final State_L_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_L_D_B(final State_L_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_L_D_B(final State_L_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_L_D_S(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_L_D_S(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_L_D_S(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_L_D_S(final State_L_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_L_D_S(final State_L_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_L_D_S(final State_L_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_L_D_I(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_L_D_I(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_L_D_I(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_L_D_I(final State_L_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_L_D_I(final State_L_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_L_D_I(final State_L_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_L_D_L(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_L_D_L(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_L_D_L(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_L_D_L(final State_L_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_L_D_L(final State_L_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_L_D_L(final State_L_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_L_D_F(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_L_D_F(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_L_D_F(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_L_D_F(final State_L_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_L_D_F(final State_L_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_L_D_F(final State_L_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_L_D_D(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_L_D_D(final State_L_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_L_D_D(final State_L_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_L_D_D(final State_L_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_L_D_D(final State_L_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_L_D_D(final State_L_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_B_B(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_B_B(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_B_B(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_B_B(final State_F_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_B_B(final State_F_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_B_B(final State_F_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_B_S(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_B_S(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_B_S(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_B_S(final State_F_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_B_S(final State_F_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_B_S(final State_F_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_B_I(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_B_I(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_B_I(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_B_I(final State_F_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_B_I(final State_F_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_B_I(final State_F_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_B_L(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_B_L(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_B_L(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_B_L(final State_F_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_B_L(final State_F_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_B_L(final State_F_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_B_F(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_B_F(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_B_F(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_B_F(final State_F_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_B_F(final State_F_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_B_F(final State_F_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_B_D(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_B_D(final State_F_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_B_D(final State_F_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_B_D(final State_F_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_B_D(final State_F_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_B_D(final State_F_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_S_B(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_S_B(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_S_B(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_S_B(final State_F_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_S_B(final State_F_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_S_B(final State_F_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_S_S(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_S_S(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_S_S(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_S_S(final State_F_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_S_S(final State_F_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_S_S(final State_F_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_S_I(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_S_I(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_S_I(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_S_I(final State_F_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_S_I(final State_F_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_S_I(final State_F_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_S_L(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_S_L(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_S_L(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_S_L(final State_F_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_S_L(final State_F_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_S_L(final State_F_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_S_F(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_S_F(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_S_F(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_S_F(final State_F_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_S_F(final State_F_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_S_F(final State_F_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_S_D(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_S_D(final State_F_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_S_D(final State_F_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_S_D(final State_F_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_S_D(final State_F_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_S_D(final State_F_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_I_B(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_I_B(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_I_B(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_I_B(final State_F_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_I_B(final State_F_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_I_B(final State_F_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_I_S(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_I_S(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_I_S(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_I_S(final State_F_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_I_S(final State_F_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_I_S(final State_F_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_I_I(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_I_I(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_I_I(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_I_I(final State_F_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_I_I(final State_F_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_I_I(final State_F_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_I_L(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_I_L(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_I_L(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_I_L(final State_F_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_I_L(final State_F_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_I_L(final State_F_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_I_F(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_I_F(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_I_F(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_I_F(final State_F_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_I_F(final State_F_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_I_F(final State_F_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_I_D(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_I_D(final State_F_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_I_D(final State_F_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_I_D(final State_F_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_I_D(final State_F_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_I_D(final State_F_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_L_B(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_L_B(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_L_B(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_L_B(final State_F_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_L_B(final State_F_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_L_B(final State_F_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_L_S(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_L_S(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_L_S(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_L_S(final State_F_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_L_S(final State_F_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_L_S(final State_F_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_L_I(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_L_I(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_L_I(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_L_I(final State_F_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_L_I(final State_F_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_L_I(final State_F_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_L_L(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_L_L(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_L_L(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_L_L(final State_F_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_L_L(final State_F_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_L_L(final State_F_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_L_F(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_L_F(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_L_F(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_L_F(final State_F_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_L_F(final State_F_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_L_F(final State_F_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_L_D(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_L_D(final State_F_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_L_D(final State_F_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_L_D(final State_F_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_L_D(final State_F_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_L_D(final State_F_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_F_B(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_F_B(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_F_B(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_F_B(final State_F_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_F_B(final State_F_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_F_B(final State_F_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_F_S(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_F_S(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_F_S(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_F_S(final State_F_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_F_S(final State_F_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_F_S(final State_F_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_F_I(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_F_I(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_F_I(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_F_I(final State_F_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_F_I(final State_F_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_F_I(final State_F_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_F_L(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_F_L(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_F_L(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_F_L(final State_F_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_F_L(final State_F_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_F_L(final State_F_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_F_F(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_F_F(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_F_F(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_F_F(final State_F_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_F_F(final State_F_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_F_F(final State_F_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_F_D(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_F_D(final State_F_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_F_D(final State_F_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_F_D(final State_F_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_F_D(final State_F_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_F_D(final State_F_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_F_D_B(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_F_D_B(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_F_D_B(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_F_D_B(final State_F_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_F_D_B(final State_F_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_F_D_B(final State_F_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_F_D_S(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_F_D_S(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_F_D_S(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_F_D_S(final State_F_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_F_D_S(final State_F_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_F_D_S(final State_F_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_F_D_I(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_F_D_I(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_F_D_I(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_F_D_I(final State_F_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_F_D_I(final State_F_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_F_D_I(final State_F_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_F_D_L(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_F_D_L(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_F_D_L(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_F_D_L(final State_F_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_F_D_L(final State_F_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_F_D_L(final State_F_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_F_D_F(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_F_D_F(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_F_D_F(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_F_D_F(final State_F_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_F_D_F(final State_F_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_F_D_F(final State_F_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_F_D_D(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_F_D_D(final State_F_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_F_D_D(final State_F_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_F_D_D(final State_F_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_F_D_D(final State_F_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_F_D_D(final State_F_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_B_B(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_B_B(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_B_B(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_B_B(final State_D_B state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_B_B(final State_D_B state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_B_B(final State_D_B state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_B_S(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_B_S(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_B_S(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_B_S(final State_D_B state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_B_S(final State_D_B state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_B_S(final State_D_B state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_B_I(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_B_I(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_B_I(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_B_I(final State_D_B state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_B_I(final State_D_B state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_B_I(final State_D_B state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_B_L(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_B_L(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_B_L(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_B_L(final State_D_B state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_B_L(final State_D_B state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_B_L(final State_D_B state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_B_F(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_B_F(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_B_F(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_B_F(final State_D_B state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_B_F(final State_D_B state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_B_F(final State_D_B state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_B_D(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_B_D(final State_D_B state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_B_D(final State_D_B state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_B_D(final State_D_B state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_B_D(final State_D_B state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_B_D(final State_D_B state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_S_B(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_S_B(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_S_B(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_S_B(final State_D_S state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_S_B(final State_D_S state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_S_B(final State_D_S state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_S_S(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_S_S(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_S_S(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_S_S(final State_D_S state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_S_S(final State_D_S state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_S_S(final State_D_S state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_S_I(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_S_I(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_S_I(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_S_I(final State_D_S state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_S_I(final State_D_S state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_S_I(final State_D_S state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_S_L(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_S_L(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_S_L(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_S_L(final State_D_S state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_S_L(final State_D_S state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_S_L(final State_D_S state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_S_F(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_S_F(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_S_F(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_S_F(final State_D_S state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_S_F(final State_D_S state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_S_F(final State_D_S state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_S_D(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_S_D(final State_D_S state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_S_D(final State_D_S state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_S_D(final State_D_S state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_S_D(final State_D_S state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_S_D(final State_D_S state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_I_B(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_I_B(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_I_B(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_I_B(final State_D_I state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_I_B(final State_D_I state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_I_B(final State_D_I state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_I_S(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_I_S(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_I_S(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_I_S(final State_D_I state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_I_S(final State_D_I state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_I_S(final State_D_I state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_I_I(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_I_I(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_I_I(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_I_I(final State_D_I state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_I_I(final State_D_I state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_I_I(final State_D_I state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_I_L(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_I_L(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_I_L(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_I_L(final State_D_I state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_I_L(final State_D_I state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_I_L(final State_D_I state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_I_F(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_I_F(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_I_F(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_I_F(final State_D_I state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_I_F(final State_D_I state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_I_F(final State_D_I state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_I_D(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_I_D(final State_D_I state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_I_D(final State_D_I state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_I_D(final State_D_I state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_I_D(final State_D_I state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_I_D(final State_D_I state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_L_B(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_L_B(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_L_B(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_L_B(final State_D_L state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_L_B(final State_D_L state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_L_B(final State_D_L state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_L_S(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_L_S(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_L_S(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_L_S(final State_D_L state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_L_S(final State_D_L state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_L_S(final State_D_L state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_L_I(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_L_I(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_L_I(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_L_I(final State_D_L state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_L_I(final State_D_L state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_L_I(final State_D_L state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_L_L(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_L_L(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_L_L(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_L_L(final State_D_L state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_L_L(final State_D_L state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_L_L(final State_D_L state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_L_F(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_L_F(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_L_F(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_L_F(final State_D_L state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_L_F(final State_D_L state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_L_F(final State_D_L state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_L_D(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_L_D(final State_D_L state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_L_D(final State_D_L state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_L_D(final State_D_L state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_L_D(final State_D_L state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_L_D(final State_D_L state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_F_B(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_F_B(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_F_B(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_F_B(final State_D_F state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_F_B(final State_D_F state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_F_B(final State_D_F state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_F_S(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_F_S(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_F_S(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_F_S(final State_D_F state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_F_S(final State_D_F state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_F_S(final State_D_F state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_F_I(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_F_I(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_F_I(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_F_I(final State_D_F state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_F_I(final State_D_F state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_F_I(final State_D_F state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_F_L(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_F_L(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_F_L(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_F_L(final State_D_F state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_F_L(final State_D_F state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_F_L(final State_D_F state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_F_F(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_F_F(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_F_F(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_F_F(final State_D_F state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_F_F(final State_D_F state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_F_F(final State_D_F state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_F_D(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_F_D(final State_D_F state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_F_D(final State_D_F state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_F_D(final State_D_F state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_F_D(final State_D_F state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_F_D(final State_D_F state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public byte[] readData_D_D_B(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source);
+	}
+
+	@Benchmark
+	public byte[] readDataRange_D_D_B(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_byte(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readDataInto_D_D_B(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_byte(state.source, 0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public byte[] readerReadData_D_D_B(final State_D_D state) {
+		return state.reader.readData_byte();
+	}
+
+	@Benchmark
+	public byte[] readerReadDataRange_D_D_B(final State_D_D state) {
+		return state.reader.readData_byte(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public byte[] readerReadDataInto_D_D_B(final State_D_D state) {
+		state.reader.readData_byte(0, -1, state.byteTarget, 0);
+		return state.byteTarget;
+	}
+
+	@Benchmark
+	public short[] readData_D_D_S(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source);
+	}
+
+	@Benchmark
+	public short[] readDataRange_D_D_S(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_short(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readDataInto_D_D_S(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_short(state.source, 0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public short[] readerReadData_D_D_S(final State_D_D state) {
+		return state.reader.readData_short();
+	}
+
+	@Benchmark
+	public short[] readerReadDataRange_D_D_S(final State_D_D state) {
+		return state.reader.readData_short(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public short[] readerReadDataInto_D_D_S(final State_D_D state) {
+		state.reader.readData_short(0, -1, state.shortTarget, 0);
+		return state.shortTarget;
+	}
+
+	@Benchmark
+	public int[] readData_D_D_I(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source);
+	}
+
+	@Benchmark
+	public int[] readDataRange_D_D_I(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_int(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readDataInto_D_D_I(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_int(state.source, 0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public int[] readerReadData_D_D_I(final State_D_D state) {
+		return state.reader.readData_int();
+	}
+
+	@Benchmark
+	public int[] readerReadDataRange_D_D_I(final State_D_D state) {
+		return state.reader.readData_int(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public int[] readerReadDataInto_D_D_I(final State_D_D state) {
+		state.reader.readData_int(0, -1, state.intTarget, 0);
+		return state.intTarget;
+	}
+
+	@Benchmark
+	public long[] readData_D_D_L(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source);
+	}
+
+	@Benchmark
+	public long[] readDataRange_D_D_L(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_long(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readDataInto_D_D_L(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_long(state.source, 0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public long[] readerReadData_D_D_L(final State_D_D state) {
+		return state.reader.readData_long();
+	}
+
+	@Benchmark
+	public long[] readerReadDataRange_D_D_L(final State_D_D state) {
+		return state.reader.readData_long(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public long[] readerReadDataInto_D_D_L(final State_D_D state) {
+		state.reader.readData_long(0, -1, state.longTarget, 0);
+		return state.longTarget;
+	}
+
+	@Benchmark
+	public float[] readData_D_D_F(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source);
+	}
+
+	@Benchmark
+	public float[] readDataRange_D_D_F(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_float(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readDataInto_D_D_F(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_float(state.source, 0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public float[] readerReadData_D_D_F(final State_D_D state) {
+		return state.reader.readData_float();
+	}
+
+	@Benchmark
+	public float[] readerReadDataRange_D_D_F(final State_D_D state) {
+		return state.reader.readData_float(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public float[] readerReadDataInto_D_D_F(final State_D_D state) {
+		state.reader.readData_float(0, -1, state.floatTarget, 0);
+		return state.floatTarget;
+	}
+
+	@Benchmark
+	public double[] readData_D_D_D(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source);
+	}
+
+	@Benchmark
+	public double[] readDataRange_D_D_D(final State_D_D state) {
+		state.source.position(19);
+		return BinaryTimeseries.readData_double(state.source, BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readDataInto_D_D_D(final State_D_D state) {
+		state.source.position(19);
+		BinaryTimeseries.readData_double(state.source, 0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+
+	@Benchmark
+	public double[] readerReadData_D_D_D(final State_D_D state) {
+		return state.reader.readData_double();
+	}
+
+	@Benchmark
+	public double[] readerReadDataRange_D_D_D(final State_D_D state) {
+		return state.reader.readData_double(BenchmarkState.FIRST_INDEX, BenchmarkState.LAST_INDEX);
+	}
+
+	@Benchmark
+	public double[] readerReadDataInto_D_D_D(final State_D_D state) {
+		state.reader.readData_double(0, -1, state.doubleTarget, 0);
+		return state.doubleTarget;
+	}
+}
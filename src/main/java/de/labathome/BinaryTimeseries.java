@@ -1,5 +1,6 @@
 package de.labathome;
 
+import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 
 /**
@@ -9,6 +10,10 @@ import java.nio.ByteBuffer;
  * small subset of the data, you can specify a time or an index range. A scaling
  * and an offset can be defined for the data values (e.g. from an ADC). Examples
  * of how to use this class can be found in Examples.java.
+ * <br>
+ * The reading methods in this class advance the position of the given buffer
+ * and therefore must not be used concurrently on the same buffer. Use a
+ * {@link BinaryTimeseriesReader} to read from one buffer in several threads.
  * 
  * @author Jonathan Schilling (jonathan.schilling@mail.de)
  */
@@ -61,6 +66,43 @@ public class BinaryTimeseries {
 	 */
 	public static final byte DTYPE_DOUBLE = 6;
 
+	/**
+	 * Identifier value in the first reserved header byte (offset 36) used to
+	 * indicate that the raw data is stored uncompressed right after the header.
+	 */
+	public static final byte COMPRESSION_NONE = 0;
+
+	/**
+	 * Identifier value in the first reserved header byte (offset 36) used to
+	 * indicate that the raw data is stored in independently compressed blocks
+	 * using delta and frame-of-reference bit-packing. Such time series can only be
+	 * read using a {@link BinaryTimeseriesReader}; see {@link #compress(ByteBuffer)}.
+	 */
+	public static final byte COMPRESSION_DELTA_FOR = 1;
+
+	/**
+	 * Identifier value in the second reserved header byte (offset 37) used to
+	 * indicate a single channel, i.e., the samples of one time series stored one
+	 * after another right after the header.
+	 */
+	public static final byte LAYOUT_SINGLE_CHANNEL = 0;
+
+	/**
+	 * Identifier value in the second reserved header byte (offset 37) used to
+	 * indicate several channels sharing one timebase, stored interleaved
+	 * (row-major): all channels of sample 0, then all channels of sample 1, etc.
+	 * See {@link MultiChannelTimeseries}.
+	 */
+	public static final byte LAYOUT_INTERLEAVED = 1;
+
+	/**
+	 * Identifier value in the second reserved header byte (offset 37) used to
+	 * indicate several channels sharing one timebase, stored planar: all samples
+	 * of channel 0, then all samples of channel 1, etc. See
+	 * {@link MultiChannelTimeseries}.
+	 */
+	public static final byte LAYOUT_PLANAR = 2;
+
 	/**
 	 * Get a human-readable identification string for a given data type.
 	 * 
@@ -89,6 +131,32 @@ public class BinaryTimeseries {
 		}
 	}
 
+	/**
+	 * Get the size in bytes of a single value of a given data type.
+	 * 
+	 * @param dtype one of [DTYPE_BYTE, DTYPE_SHORT, DTYPE_INT, DTYPE_LONG,
+	 *              DTYPE_FLOAT, DTYPE_DOUBLE]
+	 * @return size of one value of the given data type in bytes
+	 * @throws RuntimeException if an unknown data type was given
+	 */
+	public static final int dtypeSize(final byte dtype) {
+		if (dtype == BinaryTimeseries.DTYPE_BYTE) {
+			return Byte.BYTES;
+		} else if (dtype == BinaryTimeseries.DTYPE_SHORT) {
+			return Short.BYTES;
+		} else if (dtype == BinaryTimeseries.DTYPE_INT) {
+			return Integer.BYTES;
+		} else if (dtype == BinaryTimeseries.DTYPE_LONG) {
+			return Long.BYTES;
+		} else if (dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			return Float.BYTES;
+		} else if (dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			return Double.BYTES;
+		} else {
+			throw new RuntimeException("unknown data dtype");
+		}
+	}
+
 	/**
 	 * Compute the timebase values for a given t_0 and Delta_t. The number of values
 	 * is given by the length of the {@code target} array, into which the values are
@@ -221,6 +289,87 @@ public class BinaryTimeseries {
 		return (int) Math.floor((t_u - t0) / dt);
 	}
 
+	/**
+	 * Given a timebase (t0, dt), compute the first index of timestamps inside the
+	 * given time interval [{@code t_l}, {@code t_u}], limited to the available
+	 * samples. This is shared by the readers, which keep the timebase from the
+	 * header.
+	 * 
+	 * @param t0         reference timestamp from the file
+	 * @param dt         time interval between two consecutive samples from the
+	 *                   file
+	 * @param t_l        lower boundary of the time interval to read data from
+	 * @param numSamples number of available samples
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}],
+	 *         between 0 and {@code numSamples}
+	 */
+	static long firstIndexInside(final long t0, final long dt, final long t_l, final long numSamples) {
+		if (t_l <= t0) {
+			return 0;
+		}
+		return Math.min(numSamples, (t_l - t0 + dt - 1) / dt);
+	}
+
+	/**
+	 * Given a timebase (t0, dt), compute the last index of timestamps inside the
+	 * given time interval [{@code t_l}, {@code t_u}], limited to the available
+	 * samples.
+	 * 
+	 * @param t0         reference timestamp from the file
+	 * @param dt         time interval between two consecutive samples from the
+	 *                   file
+	 * @param t_u        upper boundary of the time interval to read data from
+	 * @param numSamples number of available samples
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}],
+	 *         between -1 and {@code numSamples - 1}
+	 */
+	static long lastIndexInside(final long t0, final long dt, final long t_u, final long numSamples) {
+		if (t_u < t0) {
+			return -1;
+		}
+		return Math.min(numSamples - 1, (t_u - t0) / dt);
+	}
+
+	/**
+	 * Given a timebase (t0, dt), compute the first index of timestamps inside the
+	 * given time interval [{@code t_l}, {@code t_u}], limited to the available
+	 * samples.
+	 * 
+	 * @param t0         reference timestamp from the file
+	 * @param dt         time interval between two consecutive samples from the
+	 *                   file
+	 * @param t_l        lower boundary of the time interval to read data from
+	 * @param numSamples number of available samples
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}],
+	 *         between 0 and {@code numSamples}
+	 */
+	static long firstIndexInside(final double t0, final double dt, final double t_l, final long numSamples) {
+		if (t_l <= t0) {
+			return 0;
+		}
+		return (long) Math.min(numSamples, Math.ceil((t_l - t0) / dt));
+	}
+
+	/**
+	 * Given a timebase (t0, dt), compute the last index of timestamps inside the
+	 * given time interval [{@code t_l}, {@code t_u}], limited to the available
+	 * samples.
+	 * 
+	 * @param t0         reference timestamp from the file
+	 * @param dt         time interval between two consecutive samples from the
+	 *                   file
+	 * @param t_u        upper boundary of the time interval to read data from
+	 * @param numSamples number of available samples
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}],
+	 *         between -1 and {@code numSamples - 1}
+	 */
+	static long lastIndexInside(final double t0, final double dt, final double t_u, final long numSamples) {
+		if (t_u < t0) {
+			return -1;
+		}
+		return (long) Math.min(numSamples - 1, Math.floor((t_u - t0) / dt));
+	}
+
 	/**
 	 * Compute the file offset (and buffer size when reading the file) in bytes
 	 * given the size of the contained raw data type and the number of
@@ -236,6 +385,22 @@ public class BinaryTimeseries {
 		return 64 + dataSize * index;
 	}
 
+	/**
+	 * Compute the file offset (and buffer size when reading the file) in bytes
+	 * given the size of the contained raw data type and the number of
+	 * samples/index. In contrast to {@link #fileOffset(int, int)}, the computation
+	 * is done in 64 bit, so this method works for all file sizes allowed by the
+	 * format, e.g. for more than 268 million {@code double} values.
+	 * 
+	 * @param dataSize size of the raw data values in bytes
+	 * @param index    sample index or number of samples in the file
+	 * @return byte index or file size to hold the given amount of data using a
+	 *         BinaryTimeseries
+	 */
+	public static final long fileOffset_long(final int dataSize, final long index) {
+		return 64L + dataSize * index;
+	}
+
 	/**
 	 * Given 64 header bytes, generate a human-readable explanation similar to Tab.
 	 * 2 of the documentation which lists the header contents. This routine stops
@@ -553,6 +718,40 @@ public class BinaryTimeseries {
 	 * * WRITING METHODS * *
 	 ***********************/
 
+	/**
+	 * Create the block-compressed variant of an uncompressed BinaryTimeseries with
+	 * the default block size of 4096 samples; see
+	 * {@link #compress(ByteBuffer, int)}.
+	 * 
+	 * @param source buffer containing an uncompressed BinaryTimeseries starting at
+	 *               its current position
+	 * @return new buffer containing the compressed BinaryTimeseries
+	 * @throws RuntimeException if {@code source} is already compressed
+	 */
+	public static final ByteBuffer compress(final ByteBuffer source) {
+		return compress(source, BlockCompression.DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Create the block-compressed variant of an uncompressed BinaryTimeseries.
+	 * The header is kept and flagged with {@link #COMPRESSION_DELTA_FOR}; the raw
+	 * data is split into blocks of {@code blockSize} samples, which are encoded
+	 * independently using delta and frame-of-reference bit-packing and located
+	 * through a block offset table. A {@link BinaryTimeseriesReader} on the result
+	 * only decodes the blocks touched by a read. The position of {@code source} is
+	 * not modified.
+	 * 
+	 * @param source    buffer containing an uncompressed BinaryTimeseries starting
+	 *                  at its current position
+	 * @param blockSize number of samples per block
+	 * @return new buffer containing the compressed BinaryTimeseries in the byte
+	 *         order of {@code source}, positioned at its start
+	 * @throws RuntimeException if {@code source} is already compressed
+	 */
+	public static final ByteBuffer compress(final ByteBuffer source, final int blockSize) {
+		return BlockCompression.compress(source, blockSize);
+	}
+
 	/**
 	 * Write a 1 as {@code short} to the {@code target} file. This is used to check
 	 * if correct endianess is used in reading; wrong endianess would lead to
@@ -697,7 +896,9 @@ public class BinaryTimeseries {
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk and the position of {@code target} is advanced past the
+	 * written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -706,13 +907,30 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final byte[] values) {
 		target.put(DTYPE_BYTE);
 		target.putInt(values.length);
-		for (byte b : values) {
-			target.put(b);
-		}
+		writeRawData(target, values, 0, values.length);
+	}
+
+	/**
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk and the position of {@code target} is advanced past the written
+	 * data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final byte[] values, final int offset,
+			final int length) {
+		target.put(values, offset, length);
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk through a view of {@code target} with the same byte
+	 * order and the position of {@code target} is advanced past the written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -721,13 +939,31 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final short[] values) {
 		target.put(DTYPE_SHORT);
 		target.putInt(values.length);
-		for (short s : values) {
-			target.putShort(s);
-		}
+		writeRawData(target, values, 0, values.length);
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk through a view of {@code target} with the same byte order and the
+	 * position of {@code target} is advanced past the written data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final short[] values, final int offset,
+			final int length) {
+		target.asShortBuffer().put(values, offset, length);
+		target.position(target.position() + Short.BYTES * length);
+	}
+
+	/**
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk through a view of {@code target} with the same byte
+	 * order and the position of {@code target} is advanced past the written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -736,13 +972,31 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final int[] values) {
 		target.put(DTYPE_INT);
 		target.putInt(values.length);
-		for (int i : values) {
-			target.putInt(i);
-		}
+		writeRawData(target, values, 0, values.length);
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk through a view of {@code target} with the same byte order and the
+	 * position of {@code target} is advanced past the written data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final int[] values, final int offset,
+			final int length) {
+		target.asIntBuffer().put(values, offset, length);
+		target.position(target.position() + Integer.BYTES * length);
+	}
+
+	/**
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk through a view of {@code target} with the same byte
+	 * order and the position of {@code target} is advanced past the written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -751,13 +1005,31 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final long[] values) {
 		target.put(DTYPE_LONG);
 		target.putInt(values.length);
-		for (long l : values) {
-			target.putLong(l);
-		}
+		writeRawData(target, values, 0, values.length);
+	}
+
+	/**
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk through a view of {@code target} with the same byte order and the
+	 * position of {@code target} is advanced past the written data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final long[] values, final int offset,
+			final int length) {
+		target.asLongBuffer().put(values, offset, length);
+		target.position(target.position() + Long.BYTES * length);
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk through a view of {@code target} with the same byte
+	 * order and the position of {@code target} is advanced past the written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -766,13 +1038,31 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final float[] values) {
 		target.put(DTYPE_FLOAT);
 		target.putInt(values.length);
-		for (float f : values) {
-			target.putFloat(f);
-		}
+		writeRawData(target, values, 0, values.length);
+	}
+
+	/**
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk through a view of {@code target} with the same byte order and the
+	 * position of {@code target} is advanced past the written data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final float[] values, final int offset,
+			final int length) {
+		target.asFloatBuffer().put(values, offset, length);
+		target.position(target.position() + Float.BYTES * length);
 	}
 
 	/**
-	 * Write the raw data values into the {@code target} buffer.
+	 * Write the raw data values into the {@code target} buffer. The values are
+	 * transferred in bulk through a view of {@code target} with the same byte
+	 * order and the position of {@code target} is advanced past the written data.
 	 * 
 	 * @param target buffer into which to write the time series data
 	 * @param values raw data values; all of them will be dumped into the target
@@ -781,9 +1071,25 @@ public class BinaryTimeseries {
 	public static final void writeData(final ByteBuffer target, final double[] values) {
 		target.put(DTYPE_DOUBLE);
 		target.putInt(values.length);
-		for (double d : values) {
-			target.putDouble(d);
-		}
+		writeRawData(target, values, 0, values.length);
+	}
+
+	/**
+	 * Write a part of the raw data values into the {@code target} buffer, without
+	 * the raw data type and the number of samples. This can be used to write the
+	 * data in chunks after the header has been written. The values are transferred
+	 * in bulk through a view of {@code target} with the same byte order and the
+	 * position of {@code target} is advanced past the written data.
+	 * 
+	 * @param target buffer into which to write the time series data
+	 * @param values raw data values
+	 * @param offset index of the first value in {@code values} to write
+	 * @param length number of values to write
+	 */
+	public static final void writeRawData(final ByteBuffer target, final double[] values, final int offset,
+			final int length) {
+		target.asDoubleBuffer().put(values, offset, length);
+		target.position(target.position() + Double.BYTES * length);
 	}
 
 	/**
@@ -825,6 +1131,40 @@ public class BinaryTimeseries {
 	 */
 	public static final void write(final ByteBuffer target, Object t0, Object dt, Object rawData, Object scalingOffset,
 			Object scalingFactor) {
+		final byte data_dtype = dataType(rawData);
+		final int numSamples = Array.getLength(rawData);
+		writeHeader(target, t0, dt, scalingOffset, scalingFactor, data_dtype, numSamples);
+		writeRawData(target, rawData, 0, numSamples);
+	}
+
+	/**
+	 * Write the 64 byte header of a BinaryTimeseries with the timebase parameters
+	 * {@code t0} and {@code dt}, the scaling parameters {@code scalingOffset} and
+	 * {@code scalingFactor}, the raw data type and the number of samples into the
+	 * {@code target} buffer. The raw data values have to follow, e.g. written using
+	 * the {@code writeRawData} methods.
+	 * 
+	 * @param target        buffer into which to write the time series header
+	 * @param t0            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param dt            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param scalingOffset scaling offset of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param scalingFactor scaling factor of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param data_dtype    raw data type; one of {@code DTYPE_BYTE},
+	 *                      {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *                      {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *                      {@code DTYPE_DOUBLE}
+	 * @param numSamples    number of samples that will follow the header
+	 */
+	public static final void writeHeader(final ByteBuffer target, Object t0, Object dt, Object scalingOffset,
+			Object scalingFactor, final byte data_dtype, final int numSamples) {
 		BinaryTimeseries.writeEndianessCheckValue(target);
 		if (t0 == null) {
 			throw new RuntimeException("t0 cannot be null");
@@ -839,6 +1179,27 @@ public class BinaryTimeseries {
 		} else {
 			throw new RuntimeException("t0 and dt must be of the same class and either long or double");
 		}
+		writeScaling(target, scalingOffset, scalingFactor);
+		BinaryTimeseries.writeReservedDummy(target);
+		target.put(data_dtype);
+		target.putInt(numSamples);
+	}
+
+	/**
+	 * Write the scaling parameters into the {@code target} buffer, where the
+	 * scaling data type is determined from the class of the given parameters.
+	 * 
+	 * @param target        buffer into which to write the scaling parameters
+	 * @param scalingOffset scaling offset of the raw data; can be {@code null},
+	 *                      {@code byte}, {@code short}, {@code int}, {@code long},
+	 *                      {@code float} or {@code double}
+	 * @param scalingFactor scaling factor of the raw data; can be {@code null},
+	 *                      {@code byte}, {@code short}, {@code int}, {@code long},
+	 *                      {@code float} or {@code double}
+	 * @throws RuntimeException if only one of the parameters is given or they are
+	 *                          of different or unsupported classes
+	 */
+	static final void writeScaling(final ByteBuffer target, Object scalingOffset, Object scalingFactor) {
 		if (scalingFactor == null && scalingOffset == null) {
 			BinaryTimeseries.writeScalingDisabled(target);
 		} else {
@@ -866,23 +1227,36 @@ public class BinaryTimeseries {
 						"scalingOffset and scalingFactor must be of the same class, which can be one of (byte, short, int, long, float, double)");
 			}
 		}
-		BinaryTimeseries.writeReservedDummy(target);
+	}
+
+	/**
+	 * Determine the raw data type from the class of the given raw data array.
+	 * 
+	 * @param rawData raw data array; can be {@code byte[]}, {@code short[]},
+	 *                {@code int[]}, {@code long[]}, {@code float[]} or
+	 *                {@code double[]}
+	 * @return one of {@code DTYPE_BYTE}, {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *         {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or {@code DTYPE_DOUBLE}
+	 * @throws RuntimeException if {@code rawData} is not an array of one of the
+	 *                          supported types
+	 */
+	static final byte dataType(final Object rawData) {
 		if (rawData == null) {
 			throw new RuntimeException("rawData must not be null");
 		}
 		if (rawData.getClass().isArray()) {
 			if (byte.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (byte[]) rawData);
+				return DTYPE_BYTE;
 			} else if (short.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (short[]) rawData);
+				return DTYPE_SHORT;
 			} else if (int.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (int[]) rawData);
+				return DTYPE_INT;
 			} else if (long.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (long[]) rawData);
+				return DTYPE_LONG;
 			} else if (float.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (float[]) rawData);
+				return DTYPE_FLOAT;
 			} else if (double.class.equals(rawData.getClass().getComponentType())) {
-				BinaryTimeseries.writeData(target, (double[]) rawData);
+				return DTYPE_DOUBLE;
 			} else {
 				throw new RuntimeException(
 						"rawData elements must be of one of the following types: byte, short, int, long, float, double");
@@ -892,6 +1266,36 @@ public class BinaryTimeseries {
 		}
 	}
 
+	/**
+	 * Write a part of the raw data values into the {@code target} buffer, where
+	 * the raw data array can be of any of the supported types.
+	 * 
+	 * @param target  buffer into which to write the time series data
+	 * @param rawData raw data array; can be {@code byte[]}, {@code short[]},
+	 *                {@code int[]}, {@code long[]}, {@code float[]} or
+	 *                {@code double[]}
+	 * @param offset  index of the first value in {@code rawData} to write
+	 * @param length  number of values to write
+	 */
+	static final void writeRawData(final ByteBuffer target, final Object rawData, final int offset, final int length) {
+		if (rawData instanceof byte[]) {
+			writeRawData(target, (byte[]) rawData, offset, length);
+		} else if (rawData instanceof short[]) {
+			writeRawData(target, (short[]) rawData, offset, length);
+		} else if (rawData instanceof int[]) {
+			writeRawData(target, (int[]) rawData, offset, length);
+		} else if (rawData instanceof long[]) {
+			writeRawData(target, (long[]) rawData, offset, length);
+		} else if (rawData instanceof float[]) {
+			writeRawData(target, (float[]) rawData, offset, length);
+		} else if (rawData instanceof double[]) {
+			writeRawData(target, (double[]) rawData, offset, length);
+		} else {
+			throw new RuntimeException(
+					"rawData elements must be of one of the following types: byte, short, int, long, float, double");
+		}
+	}
+
 	/***********************
 	 * * READING METHODS * *
 	 ***********************/
@@ -1218,6 +1622,8 @@ public class BinaryTimeseries {
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk and the position of {@code source} is
+	 * advanced past the read data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1228,14 +1634,15 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final byte[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.get();
-		}
+		source.get(target, targetOffset, numSamples);
 	}
 
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk through a view of {@code source} with the
+	 * same byte order and the position of {@code source} is advanced past the read
+	 * data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1246,14 +1653,16 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final short[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.getShort();
-		}
+		source.asShortBuffer().get(target, targetOffset, numSamples);
+		source.position(source.position() + Short.BYTES * numSamples);
 	}
 
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk through a view of {@code source} with the
+	 * same byte order and the position of {@code source} is advanced past the read
+	 * data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1264,14 +1673,16 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final int[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.getInt();
-		}
+		source.asIntBuffer().get(target, targetOffset, numSamples);
+		source.position(source.position() + Integer.BYTES * numSamples);
 	}
 
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk through a view of {@code source} with the
+	 * same byte order and the position of {@code source} is advanced past the read
+	 * data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1282,14 +1693,16 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final long[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.getLong();
-		}
+		source.asLongBuffer().get(target, targetOffset, numSamples);
+		source.position(source.position() + Long.BYTES * numSamples);
 	}
 
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk through a view of {@code source} with the
+	 * same byte order and the position of {@code source} is advanced past the read
+	 * data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1300,14 +1713,16 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final float[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.getFloat();
-		}
+		source.asFloatBuffer().get(target, targetOffset, numSamples);
+		source.position(source.position() + Float.BYTES * numSamples);
 	}
 
 	/**
 	 * Read the raw data from the given {@code source} buffer and put them into a
 	 * given {@code target} array at an offset specified by {@code targetOffset}.
+	 * The values are transferred in bulk through a view of {@code source} with the
+	 * same byte order and the position of {@code source} is advanced past the read
+	 * data.
 	 * 
 	 * @param source       buffer from which to read
 	 * @param target       array into which to read the given samples
@@ -1318,8 +1733,32 @@ public class BinaryTimeseries {
 	 */
 	public static final void readRawData(final ByteBuffer source, final double[] target, final int targetOffset,
 			final int numSamples) {
-		for (int i = 0; i < numSamples; ++i) {
-			target[targetOffset + i] = source.getDouble();
+		source.asDoubleBuffer().get(target, targetOffset, numSamples);
+		source.position(source.position() + Double.BYTES * numSamples);
+	}
+
+	/**
+	 * Determine the number of samples to be read by one of the {@code readData_*}
+	 * methods without changing the position of the {@code source} buffer. If all
+	 * available samples are to be read, the number of samples is looked up in the
+	 * header.
+	 * 
+	 * @param source         buffer positioned at the scaling data type, i.e., at
+	 *                       the position where the {@code readData_*} methods
+	 *                       start to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read
+	 *                       all available samples
+	 * @return number of samples in the range {@code firstDataIndex} up to and
+	 *         including {@code lastDataIndex}
+	 */
+	private static final int numToRead(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex) {
+		if (lastDataIndex == -1) {
+			// scaling dtype (1), scaling parameters (8+8), reserved (23), data dtype (1)
+			final int numSamples = source.getInt(source.position() + 1 + 8 + 8 + 23 + 1);
+			return numSamples - firstDataIndex;
+		} else {
+			return lastDataIndex - firstDataIndex + 1;
 		}
 	}
 
@@ -1358,491 +1797,36 @@ public class BinaryTimeseries {
 	 */
 	public static final byte[] readData_byte(final ByteBuffer source, final int firstDataIndex,
 			final int lastDataIndex) {
+		final byte[] target = new byte[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_byte(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
 
-		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final byte[] target = new byte[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
-			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
-
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final byte[] target = new byte[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (byte) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (byte) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (byte) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (byte) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (byte) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
-		}
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. No memory is allocated by this method, so it can
+	 * be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_byte(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final byte[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
 	}
 
 	/**
@@ -1880,491 +1864,36 @@ public class BinaryTimeseries {
 	 */
 	public static final short[] readData_short(final ByteBuffer source, final int firstDataIndex,
 			final int lastDataIndex) {
+		final short[] target = new short[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_short(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
 
-		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final short[] target = new short[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (short) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
-			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
-
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final short[] target = new short[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (short) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (short) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (short) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (short) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (short) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
-		}
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. No memory is allocated by this method, so it can
+	 * be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_short(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final short[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
 	}
 
 	/**
@@ -2400,492 +1929,38 @@ public class BinaryTimeseries {
 	 * @throws RuntimeException if an unknown scaling type or data type was
 	 *                          encountered
 	 */
-	public static final int[] readData_int(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex) {
-
-		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final int[] target = new int[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (int) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
-			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
+	public static final int[] readData_int(final ByteBuffer source, final int firstDataIndex,
+			final int lastDataIndex) {
+		final int[] target = new int[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_int(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
 
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final int[] target = new int[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (int) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (int) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (int) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (int) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (int) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
-		}
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. No memory is allocated by this method, so it can
+	 * be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_int(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final int[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
 	}
 
 	/**
@@ -2923,491 +1998,36 @@ public class BinaryTimeseries {
 	 */
 	public static final long[] readData_long(final ByteBuffer source, final int firstDataIndex,
 			final int lastDataIndex) {
+		final long[] target = new long[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_long(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
 
-		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final long[] target = new long[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (long) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
-			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
-
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final long[] target = new long[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (long) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (long) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (long) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (long) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (long) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
-		}
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. No memory is allocated by this method, so it can
+	 * be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_long(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final long[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
 	}
 
 	/**
@@ -3445,491 +2065,38 @@ public class BinaryTimeseries {
 	 */
 	public static final float[] readData_float(final ByteBuffer source, final int firstDataIndex,
 			final int lastDataIndex) {
+		final float[] target = new float[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_float(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
 
-		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final float[] target = new float[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (float) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
-			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
-
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final float[] target = new float[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (float) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (float) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (float) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (float) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (float) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
-		}
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. Apart from looking up the shared lookup table
+	 * of large reads of scaled {@code byte} or {@code short} raw data, which is
+	 * only built on its first use, no memory is allocated by this method, so it
+	 * can be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_float(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final float[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
 	}
 
 	/**
@@ -3967,490 +2134,412 @@ public class BinaryTimeseries {
 	 */
 	public static final double[] readData_double(final ByteBuffer source, final int firstDataIndex,
 			final int lastDataIndex) {
+		final double[] target = new double[numToRead(source, firstDataIndex, lastDataIndex)];
+		readData_double(source, firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and the raw data; scale the raw data according to the
+	 * (possibly present) scaling parameters and put the resulting samples into the
+	 * given {@code target} array. Apart from looking up the shared lookup table
+	 * of large reads of scaled {@code byte} or {@code short} raw data, which is
+	 * only built on its first use, no memory is allocated by this method, so it
+	 * can be used to repeatedly read into the same array.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data; must have
+	 *                       room for all samples starting at {@code targetOffset}
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}, i.e., the number of
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	public static final int readData_double(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final double[] target, final int targetOffset) {
+		return readData(source, firstDataIndex, lastDataIndex, target, targetOffset);
+	}
+
+	/**
+	 * Read the scaling parameters, the reserved (dummy) area, the raw data type and
+	 * number of samples and decode the requested range of raw data into the given
+	 * {@code target} array, which can be one of {@code byte[]}, {@code short[]},
+	 * {@code int[]}, {@code long[]}, {@code float[]} or {@code double[]}.
+	 * 
+	 * @param source         buffer from which to read
+	 * @param firstDataIndex the index of the first sample to read from the given
+	 *                       {@code buffer}
+	 * @param lastDataIndex  the index of the last sample to read from the given
+	 *                       {@code buffer}; -1 means read all available samples
+	 * @param target         array into which to put the (scaled) data
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample read from the {@code source} buffer
+	 * @return number of samples put into {@code target}
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	private static final int readData(final ByteBuffer source, final int firstDataIndex, final int lastDataIndex,
+			final Object target, final int targetOffset) {
+		long scalingOffset_long = 0, scalingFactor_long = 0;
+		double scalingOffset_double = 0.0, scalingFactor_double = 0.0;
 
 		final byte scaling_dtype = readScalingType(source);
-		if (hasScaling(scaling_dtype)) {
-
-			if (scaling_dtype == DTYPE_BYTE) {
-				final byte scalingOffset = readScalingOffset_byte(source);
-				final byte scalingFactor = readScalingFactor_byte(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-
-			} else if (scaling_dtype == DTYPE_SHORT) {
-				final short scalingOffset = readScalingOffset_short(source);
-				final short scalingFactor = readScalingFactor_short(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_INT) {
-				final int scalingOffset = readScalingOffset_int(source);
-				final int scalingFactor = readScalingFactor_int(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_LONG) {
-				final long scalingOffset = readScalingOffset_long(source);
-				final long scalingFactor = readScalingFactor_long(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_FLOAT) {
-				final float scalingOffset = readScalingOffset_float(source);
-				final float scalingFactor = readScalingFactor_float(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else if (scaling_dtype == DTYPE_DOUBLE) {
-				final double scalingOffset = readScalingOffset_double(source);
-				final double scalingFactor = readScalingFactor_double(source);
-				readReservedDummy(source);
-				final byte data_dtype = readDataType(source);
-				final int numSamples = readNumSamples(source);
-
-				final int numToRead;
-				if (lastDataIndex == -1) {
-					numToRead = numSamples - firstDataIndex;
-				} else {
-					numToRead = lastDataIndex - firstDataIndex + 1;
-				}
-				final int currentPosition = source.position();
-
-				final double[] target = new double[numToRead];
-				if (data_dtype == DTYPE_BYTE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Byte.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numSamples; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.get());
-					}
-				} else if (data_dtype == DTYPE_SHORT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Short.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getShort());
-					}
-				} else if (data_dtype == DTYPE_INT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Integer.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getInt());
-					}
-				} else if (data_dtype == DTYPE_LONG) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Long.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getLong());
-					}
-				} else if (data_dtype == DTYPE_FLOAT) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Float.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getFloat());
-					}
-				} else if (data_dtype == DTYPE_DOUBLE) {
-					if (firstDataIndex != 0) {
-						final int bytesToSkip = Double.BYTES * firstDataIndex;
-						source.position(currentPosition + bytesToSkip);
-					}
-					for (int i = 0; i < numToRead; ++i) {
-						target[i] = (double) (scalingOffset + scalingFactor * source.getDouble());
-					}
-				} else {
-					throw new RuntimeException("unknown data dtype");
-				}
-				return target;
-			} else {
-				throw new RuntimeException("unknown scaling dtype");
-			}
-		} else {
-			// no scaling provided, so read raw data
+		if (scaling_dtype == DTYPE_NONE) {
 			readScalingDisabled(source);
-			readReservedDummy(source);
-			final byte data_dtype = readDataType(source);
-			final int numSamples = readNumSamples(source);
+		} else if (scaling_dtype == DTYPE_BYTE) {
+			scalingOffset_long = readScalingOffset_byte(source);
+			scalingFactor_long = readScalingFactor_byte(source);
+		} else if (scaling_dtype == DTYPE_SHORT) {
+			scalingOffset_long = readScalingOffset_short(source);
+			scalingFactor_long = readScalingFactor_short(source);
+		} else if (scaling_dtype == DTYPE_INT) {
+			scalingOffset_long = readScalingOffset_int(source);
+			scalingFactor_long = readScalingFactor_int(source);
+		} else if (scaling_dtype == DTYPE_LONG) {
+			scalingOffset_long = readScalingOffset_long(source);
+			scalingFactor_long = readScalingFactor_long(source);
+		} else if (scaling_dtype == DTYPE_FLOAT) {
+			scalingOffset_double = readScalingOffset_float(source);
+			scalingFactor_double = readScalingFactor_float(source);
+		} else if (scaling_dtype == DTYPE_DOUBLE) {
+			scalingOffset_double = readScalingOffset_double(source);
+			scalingFactor_double = readScalingFactor_double(source);
+		} else {
+			throw new RuntimeException("unknown scaling dtype");
+		}
+		if (source.get(source.position()) != COMPRESSION_NONE) {
+			throw new RuntimeException("compressed data can only be read using a BinaryTimeseriesReader");
+		}
+		if (source.get(source.position() + 1) != LAYOUT_SINGLE_CHANNEL) {
+			throw new RuntimeException("multi-channel data can only be read using a MultiChannelReader");
+		}
+		readReservedDummy(source);
+		final byte data_dtype = readDataType(source);
+		final int numSamples = readNumSamples(source);
 
-			final int numToRead;
-			if (lastDataIndex == -1) {
-				numToRead = numSamples - firstDataIndex;
-			} else {
-				numToRead = lastDataIndex - firstDataIndex + 1;
-			}
-			final int currentPosition = source.position();
-
-			final double[] target = new double[numToRead];
-			if (data_dtype == DTYPE_BYTE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Byte.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = source.get();
-				}
-			} else if (data_dtype == DTYPE_SHORT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Short.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (double) source.getShort();
-				}
-			} else if (data_dtype == DTYPE_INT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Integer.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (double) source.getInt();
-				}
-			} else if (data_dtype == DTYPE_LONG) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Long.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (double) source.getLong();
-				}
-			} else if (data_dtype == DTYPE_FLOAT) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Float.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (double) source.getFloat();
-				}
-			} else if (data_dtype == DTYPE_DOUBLE) {
-				if (firstDataIndex != 0) {
-					final int bytesToSkip = Double.BYTES * firstDataIndex;
-					source.position(currentPosition + bytesToSkip);
-				}
-				for (int i = 0; i < numToRead; ++i) {
-					target[i] = (double) source.getDouble();
-				}
-			} else {
-				throw new RuntimeException("unknown data dtype");
-			}
-			return target;
+		final int numToRead;
+		if (lastDataIndex == -1) {
+			numToRead = numSamples - firstDataIndex;
+		} else {
+			numToRead = lastDataIndex - firstDataIndex + 1;
+		}
+		if (firstDataIndex != 0) {
+			final int bytesToSkip = dtypeSize(data_dtype) * firstDataIndex;
+			source.position(source.position() + bytesToSkip);
+		}
+
+		if (target instanceof byte[]) {
+			decodeData_byte(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (byte[]) target, targetOffset, numToRead);
+		} else if (target instanceof short[]) {
+			decodeData_short(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (short[]) target, targetOffset, numToRead);
+		} else if (target instanceof int[]) {
+			decodeData_int(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (int[]) target, targetOffset, numToRead);
+		} else if (target instanceof long[]) {
+			decodeData_long(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (long[]) target, targetOffset, numToRead);
+		} else if (target instanceof float[]) {
+			decodeData_float(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (float[]) target, targetOffset, numToRead);
+		} else if (target instanceof double[]) {
+			decodeData_double(source, scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+					scalingFactor_double, data_dtype, (double[]) target, targetOffset, numToRead);
+		} else {
+			throw new RuntimeException(
+					"target elements must be of one of the following types: byte, short, int, long, float, double");
 		}
+		return numToRead;
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_byte(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final byte[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.get_byte(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_short(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final short[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.get_short(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_int(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final int[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.get_int(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_long(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final long[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.get_long(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Large decodes of scaled {@code byte} or
+	 * {@code short} raw data map the raw samples through the shared
+	 * {@link ScalingLookupTable} of the scaling parameters, which is looked up
+	 * once per call. Integer scaling parameters are passed widened to
+	 * {@code long} and floating-point scaling parameters are passed widened to
+	 * {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_float(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final float[] target, final int targetOffset,
+			final int numToRead) {
+		ScalingLookupTable.bind_float(SampleDecoders.get_float(scaling_dtype, data_dtype), scaling_dtype,
+				scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double, data_dtype)
+				.decode(source, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+						target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them according to the given scaling parameters
+	 * and put the resulting samples into the given {@code target} array. The
+	 * position of {@code source} is advanced past the decoded samples. The
+	 * decoding is done by the decoder for the given combination of types; see
+	 * {@link SampleDecoders}. Large decodes of scaled {@code byte} or
+	 * {@code short} raw data map the raw samples through the shared
+	 * {@link ScalingLookupTable} of the scaling parameters, which is looked up
+	 * once per call. Integer scaling parameters are passed widened to
+	 * {@code long} and floating-point scaling parameters are passed widened to
+	 * {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeData_double(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final double[] target, final int targetOffset,
+			final int numToRead) {
+		ScalingLookupTable.bind_double(SampleDecoders.get_double(scaling_dtype, data_dtype), scaling_dtype,
+				scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double, data_dtype)
+				.decode(source, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+						target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples one by one, starting at the current
+	 * position of the {@code source} buffer, scale them according to the given
+	 * scaling parameters and put the resulting samples into the given
+	 * {@code target} array. The position of {@code source} is advanced past the
+	 * decoded samples. This is also used to build the lookup tables of
+	 * {@link ScalingLookupTable}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeScalar_float(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final float[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.getScalar_float(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
+	}
+
+	/**
+	 * Decode {@code numToRead} raw samples one by one, starting at the current
+	 * position of the {@code source} buffer, scale them according to the given
+	 * scaling parameters and put the resulting samples into the given
+	 * {@code target} array. The position of {@code source} is advanced past the
+	 * decoded samples. This is also used to build the lookup tables of
+	 * {@link ScalingLookupTable}. Integer
+	 * scaling parameters are passed widened to {@code long} and floating-point
+	 * scaling parameters are passed widened to {@code double}.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 * @throws RuntimeException if an unknown scaling type or data type was
+	 *                          encountered
+	 */
+	static final void decodeScalar_double(final ByteBuffer source, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype, final double[] target, final int targetOffset,
+			final int numToRead) {
+		SampleDecoders.getScalar_double(scaling_dtype, data_dtype).decode(source, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, target, targetOffset, numToRead);
 	}
 }
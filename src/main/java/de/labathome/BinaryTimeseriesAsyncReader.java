@@ -0,0 +1,582 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is a class to read index ranges from a BinaryTimeseries file without
+ * blocking the calling thread. The file is accessed through an
+ * {@link AsynchronousFileChannel} instead of being memory-mapped, so a slow or
+ * remote file system does not block the caller on page faults. Every read
+ * returns a {@link CompletableFuture} which is completed with the (scaled)
+ * samples once they have been fetched and decoded.
+ * <br>
+ * The header is fetched once when the file is opened. A read then fetches
+ * exactly the byte range of the requested samples, in chunks of at most 1 MB
+ * into pooled direct buffers, and decodes each chunk on completion into the
+ * target array. Therefore, many concurrent reads can be in flight without a
+ * thread per read and without allocating direct memory per read. A reader can
+ * be shared by any number of threads.
+ * <br>
+ * Block-compressed time series are not supported by this class; use a
+ * {@link BinaryTimeseriesReader} on a {@link BinaryTimeseriesFile} for these.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesAsyncReader implements Closeable {
+
+	/** pool of the buffers into which the samples are fetched */
+	private static final DirectBufferPool pool = DirectBufferPool.SHARED;
+
+	private final AsynchronousFileChannel channel;
+
+	/** byte order in which the time series was written */
+	private final ByteOrder order;
+
+	private final byte time_dtype;
+	private final long t0_long;
+	private final long dt_long;
+	private final double t0_double;
+	private final double dt_double;
+
+	private final byte scaling_dtype;
+	private final long scalingOffset_long;
+	private final long scalingFactor_long;
+	private final double scalingOffset_double;
+	private final double scalingFactor_double;
+
+	private final byte data_dtype;
+	private final int dataSize;
+	private final int numSamples;
+
+	/** decoders bound to the lookup tables of the scaling of this time series */
+	private final SampleDecoder<float[]> decoder_float;
+	private final SampleDecoder<double[]> decoder_double;
+
+	/**
+	 * Open a BinaryTimeseries file for asynchronous reading and fetch its header.
+	 * 
+	 * @param file file to read
+	 * @return future which is completed with the reader once the header has been
+	 *         fetched or completed exceptionally if the header is invalid
+	 * @throws IOException if the file could not be opened
+	 */
+	public static CompletableFuture<BinaryTimeseriesAsyncReader> open(final Path file) throws IOException {
+		final AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+		final CompletableFuture<BinaryTimeseriesAsyncReader> result = new CompletableFuture<>();
+		final ByteBuffer header = ByteBuffer.allocate(64);
+		channel.read(header, 0, header, new CompletionHandler<Integer, ByteBuffer>() {
+			@Override
+			public void completed(final Integer numRead, final ByteBuffer attachment) {
+				try {
+					if (numRead < 0) {
+						throw new EOFException("file ends within the header");
+					} else if (header.hasRemaining()) {
+						channel.read(header, header.position(), header, this);
+						return;
+					}
+					result.complete(new BinaryTimeseriesAsyncReader(channel, header));
+				} catch (final Throwable e) {
+					failed(e, attachment);
+				}
+			}
+
+			@Override
+			public void failed(final Throwable e, final ByteBuffer attachment) {
+				try {
+					channel.close();
+				} catch (final IOException closeException) {
+					e.addSuppressed(closeException);
+				}
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Parse the given header.
+	 * 
+	 * @param channel channel from which to read the samples
+	 * @param header  buffer containing the 64 header bytes
+	 * @throws RuntimeException if the header contains invalid entries
+	 */
+	private BinaryTimeseriesAsyncReader(final AsynchronousFileChannel channel, final ByteBuffer header) {
+		this.channel = channel;
+
+		final BinaryTimeseriesHeader parsed = new BinaryTimeseriesHeader(header);
+		order = parsed.order;
+		time_dtype = parsed.time_dtype;
+		t0_long = parsed.t0_long;
+		dt_long = parsed.dt_long;
+		t0_double = parsed.t0_double;
+		dt_double = parsed.dt_double;
+		scaling_dtype = parsed.scaling_dtype;
+		scalingOffset_long = parsed.scalingOffset_long;
+		scalingFactor_long = parsed.scalingFactor_long;
+		scalingOffset_double = parsed.scalingOffset_double;
+		scalingFactor_double = parsed.scalingFactor_double;
+		data_dtype = parsed.data_dtype;
+		dataSize = parsed.dataSize;
+		numSamples = parsed.numSamples;
+
+		if (parsed.layout != BinaryTimeseries.LAYOUT_SINGLE_CHANNEL) {
+			throw new RuntimeException("multi-channel data can only be read using a MultiChannelReader");
+		}
+		if (parsed.compression != BinaryTimeseries.COMPRESSION_NONE) {
+			throw new RuntimeException("compressed data cannot be read asynchronously");
+		}
+
+		decoder_float = ScalingLookupTable.bind_float(SampleDecoders.get_float(scaling_dtype, data_dtype),
+				scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+				data_dtype);
+		decoder_double = ScalingLookupTable.bind_double(SampleDecoders.get_double(scaling_dtype, data_dtype),
+				scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+				data_dtype);
+	}
+
+	/**
+	 * @return byte order in which the time series was written
+	 */
+	public ByteOrder getByteOrder() {
+		return order;
+	}
+
+	/**
+	 * @return timestamp dtype; either {@code DTYPE_LONG} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getTimeType() {
+		return time_dtype;
+	}
+
+	/**
+	 * @return reference timestamp t_0
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getT0_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return t0_long;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getDt_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return dt_long;
+	}
+
+	/**
+	 * @return reference timestamp t_0; converted to {@code double} if the
+	 *         timestamps are stored as {@code long}
+	 */
+	public double getT0_double() {
+		return t0_double;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t; converted to
+	 *         {@code double} if the timestamps are stored as {@code long}
+	 */
+	public double getDt_double() {
+		return dt_double;
+	}
+
+	/**
+	 * @return one of {@code DTYPE_NONE}, {@code DTYPE_BYTE}, {@code DTYPE_SHORT},
+	 *         {@code DTYPE_INT}, {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *         {@code DTYPE_DOUBLE}
+	 */
+	public byte getScalingType() {
+		return scaling_dtype;
+	}
+
+	/**
+	 * @return one of {@code DTYPE_BYTE}, {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *         {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getDataType() {
+		return data_dtype;
+	}
+
+	/**
+	 * @return number of samples in the time series
+	 */
+	public int getNumSamples() {
+		return numSamples;
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code byte[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<byte[]> readData_byte(final int firstDataIndex, final int lastDataIndex) {
+		final byte[] target = new byte[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_byte(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_byte(final int firstDataIndex, final int lastDataIndex,
+			final byte[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, SampleDecoders.get_byte(scaling_dtype, data_dtype), target,
+				targetOffset);
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code short[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<short[]> readData_short(final int firstDataIndex, final int lastDataIndex) {
+		final short[] target = new short[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_short(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_short(final int firstDataIndex, final int lastDataIndex,
+			final short[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, SampleDecoders.get_short(scaling_dtype, data_dtype), target,
+				targetOffset);
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code int[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<int[]> readData_int(final int firstDataIndex, final int lastDataIndex) {
+		final int[] target = new int[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_int(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_int(final int firstDataIndex, final int lastDataIndex,
+			final int[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, SampleDecoders.get_int(scaling_dtype, data_dtype), target,
+				targetOffset);
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code long[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<long[]> readData_long(final int firstDataIndex, final int lastDataIndex) {
+		final long[] target = new long[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_long(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_long(final int firstDataIndex, final int lastDataIndex,
+			final long[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, SampleDecoders.get_long(scaling_dtype, data_dtype), target,
+				targetOffset);
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code float[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<float[]> readData_float(final int firstDataIndex, final int lastDataIndex) {
+		final float[] target = new float[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_float(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_float(final int firstDataIndex, final int lastDataIndex,
+			final float[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_float, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples in the given index range into a new {@code double[]} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return future which is completed with an array containing the (scaled)
+	 *         samples in the range {@code firstDataIndex} up to and including
+	 *         {@code lastDataIndex}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<double[]> readData_double(final int firstDataIndex, final int lastDataIndex) {
+		final double[] target = new double[numToRead(firstDataIndex, lastDataIndex)];
+		return readData_double(firstDataIndex, lastDataIndex, target, 0).thenApply(numRead -> target);
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array. The array must not be accessed until the returned future is
+	 * completed.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples put into
+	 *         {@code target}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public CompletableFuture<Integer> readData_double(final int firstDataIndex, final int lastDataIndex,
+			final double[] target, final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_double, target, targetOffset);
+	}
+
+	/**
+	 * Close the underlying channel. Reads which are still in flight are completed
+	 * exceptionally.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Compute the number of samples in the given index range and check that it is
+	 * inside the time series.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return number of samples to read
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	private int numToRead(final int firstDataIndex, final int lastDataIndex) {
+		final int last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		if (firstDataIndex < 0 || last >= numSamples || firstDataIndex > last + 1) {
+			throw new RuntimeException("index range [" + firstDataIndex + ", " + lastDataIndex
+					+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+		}
+		return last - firstDataIndex + 1;
+	}
+
+	/**
+	 * Start reading the samples in the given index range.
+	 * 
+	 * @param <T>            type of the target array
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param decoder        decoder into the type of the target array
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return future which is completed with the number of samples read
+	 */
+	private <T> CompletableFuture<Integer> readData(final int firstDataIndex, final int lastDataIndex,
+			final SampleDecoder<T> decoder, final T target, final int targetOffset) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final RangeRead<T> read = new RangeRead<T>(firstDataIndex, numToRead, decoder, target, targetOffset);
+		read.next();
+		return read.result;
+	}
+
+	/**
+	 * @param expected_dtype expected timestamp dtype
+	 * @throws RuntimeException if the timestamps are not stored in the expected
+	 *                          dtype
+	 */
+	private void checkTimeType(final byte expected_dtype) {
+		if (time_dtype != expected_dtype) {
+			throw new RuntimeException("timestamps are stored as " + BinaryTimeseries.dtypeStr(time_dtype)
+					+ " and not as " + BinaryTimeseries.dtypeStr(expected_dtype));
+		}
+	}
+
+	/**
+	 * State of a read of an index range, which fetches and decodes the samples
+	 * chunk by chunk. Each chunk is fetched into a pooled buffer; when the buffer
+	 * is full, the chunk is decoded, the buffer is returned to the pool and the
+	 * next chunk is fetched.
+	 * 
+	 * @param <T> type of the target array
+	 */
+	private final class RangeRead<T> implements CompletionHandler<Integer, ByteBuffer> {
+		private final int firstDataIndex;
+		private final int numToRead;
+		private final SampleDecoder<T> decoder;
+		private final T target;
+		private final int targetOffset;
+		private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+		/** number of samples decoded so far */
+		private int numRead;
+
+		/** number of samples in the chunk currently being fetched */
+		private int numInChunk;
+
+		/** file offset at which the chunk currently being fetched starts */
+		private long chunkOffset;
+
+		RangeRead(final int firstDataIndex, final int numToRead, final SampleDecoder<T> decoder, final T target,
+				final int targetOffset) {
+			this.firstDataIndex = firstDataIndex;
+			this.numToRead = numToRead;
+			this.decoder = decoder;
+			this.target = target;
+			this.targetOffset = targetOffset;
+		}
+
+		/**
+		 * Start fetching the next chunk or complete the read if all samples have
+		 * been decoded.
+		 */
+		void next() {
+			if (numRead == numToRead) {
+				result.complete(numToRead);
+				return;
+			}
+			final ByteBuffer buffer = pool.acquire((int) Math.min(pool.getMaxBufferSize(),
+					(long) (numToRead - numRead) * dataSize));
+			numInChunk = Math.min(numToRead - numRead, buffer.capacity() / dataSize);
+			chunkOffset = BinaryTimeseries.fileOffset_long(dataSize, firstDataIndex + numRead);
+			buffer.limit(numInChunk * dataSize);
+			try {
+				channel.read(buffer, chunkOffset, buffer, this);
+			} catch (final Throwable e) {
+				failed(e, buffer);
+			}
+		}
+
+		@Override
+		public void completed(final Integer numBytes, final ByteBuffer buffer) {
+			try {
+				if (numBytes < 0) {
+					throw new EOFException("file ends before sample " + (firstDataIndex + numToRead - 1));
+				} else if (buffer.hasRemaining()) {
+					channel.read(buffer, chunkOffset + buffer.position(), buffer, this);
+					return;
+				}
+				buffer.flip();
+				buffer.order(order);
+				decoder.decode(buffer, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset + numRead, numInChunk);
+			} catch (final Throwable e) {
+				failed(e, buffer);
+				return;
+			}
+			pool.release(buffer);
+			numRead += numInChunk;
+			next();
+		}
+
+		@Override
+		public void failed(final Throwable e, final ByteBuffer buffer) {
+			pool.release(buffer);
+			result.completeExceptionally(e);
+		}
+	}
+}
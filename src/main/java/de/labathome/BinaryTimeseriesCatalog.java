@@ -0,0 +1,532 @@
+package de.labathome;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This is a class to find the BinaryTimeseries files in a directory tree which
+ * cover a given time window without opening every file. The 64 byte headers of
+ * all {@code .bts} files below a root directory are read in parallel and kept
+ * in memory, together with the size and modification time of each file. The
+ * headers are persisted in a compact binary index file, so that a later
+ * {@link #refresh()} (also in another process) only has to read the headers of
+ * files which were added or modified since. Queries for the files overlapping
+ * a time interval are answered from an interval tree over the time ranges
+ * covered by the files.
+ * <br>
+ * Queries can be run by any number of threads at the same time, also during a
+ * refresh, which atomically replaces the in-memory index when it is done.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesCatalog {
+
+	/**
+	 * Default name of the index file in the root directory
+	 */
+	public static final String INDEX_FILE_NAME = ".bts-catalog";
+
+	/**
+	 * File name extension of the files to index
+	 */
+	public static final String FILE_EXTENSION = ".bts";
+
+	/** first int of every index file: "BTSC" */
+	private static final int INDEX_MAGIC = 0x42545343;
+
+	/** version of the index file format */
+	private static final int INDEX_VERSION = 1;
+
+	private final Path root;
+	private final Path indexFile;
+
+	/** entries and interval tree of the last refresh */
+	private volatile IntervalTree<Entry> tree = new IntervalTree<>(Collections.<Entry>emptyList(),
+			Entry::getStart_double, Entry::getEnd_double);
+	private volatile List<Entry> entries = Collections.emptyList();
+
+	/** number of headers read during the last refresh */
+	private volatile int numHeadersRead;
+
+	private BinaryTimeseriesCatalog(final Path root, final Path indexFile) {
+		this.root = root;
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Open the catalog of the given directory tree with the index file
+	 * {@link #INDEX_FILE_NAME} in the root directory and bring it up to date.
+	 *
+	 * @param root root directory of the files to index
+	 * @return the up-to-date catalog
+	 * @throws IOException if the directory tree could not be scanned or the index
+	 *                     could not be written
+	 */
+	public static BinaryTimeseriesCatalog open(final Path root) throws IOException {
+		return open(root, root.resolve(INDEX_FILE_NAME));
+	}
+
+	/**
+	 * Open the catalog of the given directory tree and bring it up to date. An
+	 * existing index file is loaded first, so that only the headers of new or
+	 * modified files have to be read.
+	 *
+	 * @param root      root directory of the files to index
+	 * @param indexFile file in which the index is persisted; a missing, outdated
+	 *                  or corrupt index file is rebuilt
+	 * @return the up-to-date catalog
+	 * @throws IOException if the directory tree could not be scanned or the index
+	 *                     could not be written
+	 */
+	public static BinaryTimeseriesCatalog open(final Path root, final Path indexFile) throws IOException {
+		final BinaryTimeseriesCatalog catalog = new BinaryTimeseriesCatalog(root, indexFile);
+		if (Files.isRegularFile(indexFile)) {
+			try {
+				catalog.setEntries(catalog.readIndex());
+			} catch (final RuntimeException e) {
+				// the index is only a cache, so a corrupt one is simply rebuilt
+				catalog.setEntries(Collections.<Entry>emptyList());
+			}
+		}
+		catalog.refresh();
+		return catalog;
+	}
+
+	/**
+	 * Scan the directory tree for {@code .bts} files and read the headers of all
+	 * files which are not in the index yet or whose size or modification time
+	 * changed, in parallel. Files which were removed are dropped from the index.
+	 * Files which do not contain a valid header are skipped. The index file is
+	 * rewritten if anything changed.
+	 *
+	 * @throws IOException if the directory tree could not be scanned or the index
+	 *                     could not be written
+	 */
+	public synchronized void refresh() throws IOException {
+		final Map<String, Entry> known = new HashMap<>();
+		for (final Entry entry : entries) {
+			known.put(entry.relativePath, entry);
+		}
+
+		final List<Entry> unchanged = new ArrayList<>();
+		final Map<String, BasicFileAttributes> candidates = new HashMap<>();
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+				if (attributes.isRegularFile() && file.getFileName().toString().endsWith(FILE_EXTENSION)) {
+					final String relativePath = root.relativize(file).toString();
+					final long lastModified = attributes.lastModifiedTime().toMillis();
+					final Entry entry = known.get(relativePath);
+					if (entry != null && entry.lastModified == lastModified && entry.size == attributes.size()) {
+						unchanged.add(entry);
+					} else {
+						candidates.put(relativePath, attributes);
+					}
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+
+		final List<Entry> parsed = candidates.entrySet().parallelStream()
+				.map(candidate -> readHeader(candidate.getKey(), candidate.getValue())).filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		numHeadersRead = candidates.size();
+
+		final List<Entry> updated = new ArrayList<>(unchanged);
+		updated.addAll(parsed);
+		final boolean changed = !candidates.isEmpty() || unchanged.size() != entries.size()
+				|| !Files.isRegularFile(indexFile);
+		setEntries(updated);
+		if (changed) {
+			writeIndex(updated);
+		}
+	}
+
+	/**
+	 * @return root directory of the indexed files
+	 */
+	public Path getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return file in which the index is persisted
+	 */
+	public Path getIndexFile() {
+		return indexFile;
+	}
+
+	/**
+	 * @return all indexed files in no particular order
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * @return number of indexed files
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return number of headers read during the last refresh, i.e., the number of
+	 *         new or modified files
+	 */
+	public int getNumHeadersRead() {
+		return numHeadersRead;
+	}
+
+	/**
+	 * Find the files whose samples cover a part of the time interval
+	 * [{@code t_l}, {@code t_u}]. For files with {@code long} timestamps, the
+	 * comparison is done exactly in {@code long}.
+	 *
+	 * @param t_l lower boundary of the time interval
+	 * @param t_u upper boundary of the time interval
+	 * @return overlapping files in ascending order of their first timestamp
+	 */
+	public List<Entry> overlapping(final long t_l, final long t_u) {
+		final List<Entry> result = new ArrayList<>();
+		// the conversion to double may round, so widen the interval and check exactly
+		tree.query(Math.nextDown((double) t_l), Math.nextUp((double) t_u), entry -> {
+			if (entry.overlaps(t_l, t_u)) {
+				result.add(entry);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Find the files whose samples cover a part of the time interval
+	 * [{@code t_l}, {@code t_u}].
+	 *
+	 * @param t_l lower boundary of the time interval
+	 * @param t_u upper boundary of the time interval
+	 * @return overlapping files in ascending order of their first timestamp
+	 */
+	public List<Entry> overlapping(final double t_l, final double t_u) {
+		final List<Entry> result = new ArrayList<>();
+		tree.query(t_l, t_u, result::add);
+		return result;
+	}
+
+	/**
+	 * @param entries new entries of the catalog
+	 */
+	private void setEntries(final List<Entry> entries) {
+		tree = new IntervalTree<>(entries, Entry::getStart_double, Entry::getEnd_double);
+		this.entries = Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Read the header of the given file.
+	 *
+	 * @param relativePath path of the file relative to the root directory
+	 * @param attributes   attributes of the file found during the scan
+	 * @return entry with the parsed header; {@code null} if the file is too short,
+	 *         does not contain a valid header or vanished
+	 */
+	private Entry readHeader(final String relativePath, final BasicFileAttributes attributes) {
+		try (FileChannel channel = FileChannel.open(root.resolve(relativePath), StandardOpenOption.READ)) {
+			final ByteBuffer header = ByteBuffer.allocate(BinaryTimeseriesHeader.SIZE);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					return null;
+				}
+			}
+			return new Entry(root, relativePath, attributes.lastModifiedTime().toMillis(), attributes.size(),
+					header.array());
+		} catch (final IOException | RuntimeException e) {
+			// e.g. the file vanished or is not a BinaryTimeseries
+			return null;
+		}
+	}
+
+	/**
+	 * Load the persisted index.
+	 *
+	 * @return entries in the index
+	 * @throws IOException      if the index file could not be read
+	 * @throws RuntimeException if the index file is corrupt or of another version
+	 */
+	private List<Entry> readIndex() throws IOException {
+		final ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+		if (index.remaining() < 12 || index.getInt() != INDEX_MAGIC || index.getInt() != INDEX_VERSION) {
+			throw new RuntimeException("'" + indexFile + "' is not a catalog index of version " + INDEX_VERSION);
+		}
+		final int numEntries = index.getInt();
+		final List<Entry> loaded = new ArrayList<>(numEntries);
+		for (int i = 0; i < numEntries; ++i) {
+			final byte[] path = new byte[index.getShort() & 0xffff];
+			index.get(path);
+			final long lastModified = index.getLong();
+			final long size = index.getLong();
+			final byte[] header = new byte[BinaryTimeseriesHeader.SIZE];
+			index.get(header);
+			loaded.add(new Entry(root, new String(path, StandardCharsets.UTF_8), lastModified, size, header));
+		}
+		return loaded;
+	}
+
+	/**
+	 * Persist the index into a temporary file next to the index file and move it
+	 * to the index file, so that other processes never see a partial index.
+	 *
+	 * @param entries entries to persist
+	 * @throws IOException if the index file could not be written
+	 */
+	private void writeIndex(final List<Entry> entries) throws IOException {
+		final List<byte[]> paths = new ArrayList<>(entries.size());
+		int size = 12;
+		for (final Entry entry : entries) {
+			final byte[] path = entry.relativePath.getBytes(StandardCharsets.UTF_8);
+			paths.add(path);
+			size += 2 + path.length + 8 + 8 + 64;
+		}
+
+		final ByteBuffer index = ByteBuffer.allocate(size);
+		index.putInt(INDEX_MAGIC);
+		index.putInt(INDEX_VERSION);
+		index.putInt(entries.size());
+		for (int i = 0; i < entries.size(); ++i) {
+			final Entry entry = entries.get(i);
+			index.putShort((short) paths.get(i).length);
+			index.put(paths.get(i));
+			index.putLong(entry.lastModified);
+			index.putLong(entry.size);
+			index.put(entry.header);
+		}
+
+		final Path tmpFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+		Files.write(tmpFile, index.array());
+		try {
+			Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final AtomicMoveNotSupportedException e) {
+			Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * A file in the catalog with the parameters from its header.
+	 */
+	public static final class Entry {
+
+		private final Path root;
+		private final String relativePath;
+		private final long lastModified;
+		private final long size;
+
+		/** raw header as read from the file */
+		private final byte[] header;
+
+		private final byte time_dtype;
+		private final long t0_long;
+		private final long dt_long;
+		private final double t0_double;
+		private final double dt_double;
+		private final byte scaling_dtype;
+		private final byte data_dtype;
+		private final int numSamples;
+		private final byte compression;
+		private final byte layout;
+
+		/**
+		 * @param root         root directory of the catalog
+		 * @param relativePath path of the file relative to {@code root}
+		 * @param lastModified modification time of the file in milliseconds
+		 * @param size         size of the file in bytes
+		 * @param header       the 64 header bytes of the file
+		 * @throws RuntimeException if the header contains invalid entries
+		 */
+		Entry(final Path root, final String relativePath, final long lastModified, final long size,
+				final byte[] header) {
+			this.root = root;
+			this.relativePath = relativePath;
+			this.lastModified = lastModified;
+			this.size = size;
+			this.header = header;
+
+			final BinaryTimeseriesHeader parsed = new BinaryTimeseriesHeader(ByteBuffer.wrap(header));
+			time_dtype = parsed.time_dtype;
+			t0_long = parsed.t0_long;
+			dt_long = parsed.dt_long;
+			t0_double = parsed.t0_double;
+			dt_double = parsed.dt_double;
+			scaling_dtype = parsed.scaling_dtype;
+			compression = parsed.compression;
+			layout = parsed.layout;
+			data_dtype = parsed.data_dtype;
+			numSamples = parsed.numSamples;
+		}
+
+		/**
+		 * @return path of the file
+		 */
+		public Path getPath() {
+			return root.resolve(relativePath);
+		}
+
+		/**
+		 * @return modification time of the file in milliseconds since the epoch when
+		 *         its header was read
+		 */
+		public long getLastModified() {
+			return lastModified;
+		}
+
+		/**
+		 * @return size of the file in bytes when its header was read
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * @return timestamp dtype; either {@code DTYPE_LONG} or {@code DTYPE_DOUBLE}
+		 */
+		public byte getTimeType() {
+			return time_dtype;
+		}
+
+		/**
+		 * @return reference timestamp t_0 if the timestamps are stored as
+		 *         {@code long}
+		 */
+		public long getT0_long() {
+			return t0_long;
+		}
+
+		/**
+		 * @return time interval between two consecutive samples Delta_t if the
+		 *         timestamps are stored as {@code long}
+		 */
+		public long getDt_long() {
+			return dt_long;
+		}
+
+		/**
+		 * @return reference timestamp t_0; converted to {@code double} if the
+		 *         timestamps are stored as {@code long}
+		 */
+		public double getT0_double() {
+			return t0_double;
+		}
+
+		/**
+		 * @return time interval between two consecutive samples Delta_t; converted
+		 *         to {@code double} if the timestamps are stored as {@code long}
+		 */
+		public double getDt_double() {
+			return dt_double;
+		}
+
+		/**
+		 * @return timestamp of the first sample as {@code double}
+		 */
+		public double getStart_double() {
+			return t0_double;
+		}
+
+		/**
+		 * @return timestamp of the last sample as {@code double}; before the start if
+		 *         the file contains no samples
+		 */
+		public double getEnd_double() {
+			if (numSamples == 0) {
+				return Double.NEGATIVE_INFINITY;
+			} else if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return t0_long + (numSamples - 1) * dt_long;
+			}
+			return t0_double + (numSamples - 1) * dt_double;
+		}
+
+		/**
+		 * @return scaling dtype; {@code DTYPE_NONE} if the file has no scaling or
+		 *         holds several channels
+		 */
+		public byte getScalingType() {
+			return scaling_dtype;
+		}
+
+		/**
+		 * @return raw data type
+		 */
+		public byte getDataType() {
+			return data_dtype;
+		}
+
+		/**
+		 * @return number of samples (per channel)
+		 */
+		public int getNumSamples() {
+			return numSamples;
+		}
+
+		/**
+		 * @return {@code COMPRESSION_NONE} or {@code COMPRESSION_DELTA_FOR}
+		 */
+		public byte getCompression() {
+			return compression;
+		}
+
+		/**
+		 * @return {@code LAYOUT_SINGLE_CHANNEL}, {@code LAYOUT_INTERLEAVED} or
+		 *         {@code LAYOUT_PLANAR}
+		 */
+		public byte getLayout() {
+			return layout;
+		}
+
+		/**
+		 * @param t_l lower boundary of the time interval
+		 * @param t_u upper boundary of the time interval
+		 * @return whether the samples of this file cover a part of the time interval
+		 *         [{@code t_l}, {@code t_u}]; compared exactly if the timestamps are
+		 *         stored as {@code long}
+		 */
+		public boolean overlaps(final long t_l, final long t_u) {
+			if (numSamples == 0) {
+				return false;
+			}
+			if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return t0_long <= t_u && t0_long + (numSamples - 1) * dt_long >= t_l;
+			}
+			return overlaps((double) t_l, (double) t_u);
+		}
+
+		/**
+		 * @param t_l lower boundary of the time interval
+		 * @param t_u upper boundary of the time interval
+		 * @return whether the samples of this file cover a part of the time interval
+		 *         [{@code t_l}, {@code t_u}]
+		 */
+		public boolean overlaps(final double t_l, final double t_u) {
+			return numSamples > 0 && getStart_double() <= t_u && getEnd_double() >= t_l;
+		}
+
+		@Override
+		public String toString() {
+			return relativePath + ": " + numSamples + " samples in [" + getStart_double() + ", " + getEnd_double()
+					+ "]";
+		}
+	}
+}
@@ -0,0 +1,379 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a class to memory-map a BinaryTimeseries file of any size allowed by
+ * the format. A single {@link MappedByteBuffer} is limited to 2 GB, whereas a
+ * file with 2^31-1 {@code double} samples has about 16 GB. Therefore, the file
+ * is mapped in several consecutive segments and all file offsets are computed
+ * in 64 bit. Reading is done through a {@link BinaryTimeseriesReader}, which
+ * handles reads across segment boundaries transparently.
+ * <br>
+ * The file handle is closed as soon as the file is mapped. The mapped memory is
+ * released immediately by {@link #close()} instead of when the garbage
+ * collector happens to collect the mapped buffers, so that many files can be
+ * opened and closed in quick succession without running out of address space.
+ * Reads through readers obtained from this file which are in progress when it
+ * is closed finish normally, since the segments are only unmapped after the
+ * last of them has ended; reads started after closing the file throw a
+ * {@link RuntimeException} instead of accessing unmapped memory.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesFile implements Closeable {
+
+	/**
+	 * Default size of the segments in which a file is mapped: 1 GB
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+	private final Path file;
+	private final MappedByteBuffer[] segments;
+	private final int segmentSize;
+	private final long size;
+
+	/**
+	 * twice the number of reads in progress, plus one once the file has been
+	 * closed; the segments are unmapped when the file is closed and no read is in
+	 * progress
+	 */
+	private final AtomicInteger state = new AtomicInteger();
+
+	private BinaryTimeseriesFile(final Path file, final MappedByteBuffer[] segments, final int segmentSize,
+			final long size) {
+		this.file = file;
+		this.segments = segments;
+		this.segmentSize = segmentSize;
+		this.size = size;
+	}
+
+	/**
+	 * Map an existing BinaryTimeseries file for reading in segments of
+	 * {@link #DEFAULT_SEGMENT_SIZE} bytes.
+	 * 
+	 * @param file BinaryTimeseries file to read
+	 * @return the mapped file
+	 * @throws IOException if the file could not be mapped
+	 */
+	public static BinaryTimeseriesFile open(final Path file) throws IOException {
+		return open(file, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Map an existing BinaryTimeseries file for reading in segments of the given
+	 * size.
+	 * 
+	 * @param file        BinaryTimeseries file to read
+	 * @param segmentSize size of the mapped segments in bytes; must be a positive
+	 *                    multiple of 8
+	 * @return the mapped file
+	 * @throws IOException if the file could not be mapped
+	 */
+	public static BinaryTimeseriesFile open(final Path file, final int segmentSize) throws IOException {
+		checkSegmentSize(segmentSize);
+		try (RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "r")) {
+			final long size = memoryFile.length();
+			if (size < 64) {
+				throw new RuntimeException("file '" + file + "' is too small to contain a BinaryTimeseries");
+			}
+			final MappedByteBuffer[] segments = map(memoryFile.getChannel(), FileChannel.MapMode.READ_ONLY, size,
+					segmentSize);
+			return new BinaryTimeseriesFile(file, segments, segmentSize, size);
+		}
+	}
+
+	/**
+	 * Create a new file of the given size and map it for writing in segments of
+	 * the given size. An existing file is overwritten.
+	 * 
+	 * @param file        file to create
+	 * @param size        size of the file in bytes; see
+	 *                    {@link BinaryTimeseries#fileOffset_long(int, long)}
+	 * @param segmentSize size of the mapped segments in bytes; must be a positive
+	 *                    multiple of 8
+	 * @return the mapped file
+	 * @throws IOException if the file could not be created or mapped
+	 */
+	public static BinaryTimeseriesFile create(final Path file, final long size, final int segmentSize)
+			throws IOException {
+		checkSegmentSize(segmentSize);
+		try (RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "rw")) {
+			memoryFile.setLength(size);
+			final MappedByteBuffer[] segments = map(memoryFile.getChannel(), FileChannel.MapMode.READ_WRITE, size,
+					segmentSize);
+			return new BinaryTimeseriesFile(file, segments, segmentSize, size);
+		}
+	}
+
+	/**
+	 * Create a BinaryTimeseries file with the timebase parameters {@code t0} and
+	 * {@code dt} and the unscaled {@code rawData}.
+	 * 
+	 * @param file    file to create; an existing file is overwritten
+	 * @param t0      reference timestamp; can be {@code double} or {@code long}
+	 * @param dt      reference timestamp; can be {@code double} or {@code long}
+	 * @param rawData raw data array; can be {@code byte[]}, {@code short[]},
+	 *                {@code int[]}, {@code long[]}, {@code float[]} or
+	 *                {@code double[]}
+	 * @return the mapped file
+	 * @throws IOException if the file could not be created or mapped
+	 */
+	public static BinaryTimeseriesFile write(final Path file, Object t0, Object dt, Object rawData)
+			throws IOException {
+		return write(file, t0, dt, rawData, null, null);
+	}
+
+	/**
+	 * Create a BinaryTimeseries file with the timebase parameters {@code t0} and
+	 * {@code dt}, the unscaled {@code rawData} and the scaling parameters
+	 * {@code scalingOffset} and {@code scalingFactor}. The file is mapped in
+	 * segments of {@link #DEFAULT_SEGMENT_SIZE} bytes, so the file can be larger
+	 * than 2 GB.
+	 * 
+	 * @param file          file to create; an existing file is overwritten
+	 * @param t0            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param dt            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param rawData       raw data array; can be {@code byte[]}, {@code short[]},
+	 *                      {@code int[]}, {@code long[]}, {@code float[]} or
+	 *                      {@code double[]}
+	 * @param scalingOffset scaling offset of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param scalingFactor scaling factor of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @return the mapped file
+	 * @throws IOException if the file could not be created or mapped
+	 */
+	public static BinaryTimeseriesFile write(final Path file, Object t0, Object dt, Object rawData,
+			Object scalingOffset, Object scalingFactor) throws IOException {
+		return write(file, DEFAULT_SEGMENT_SIZE, t0, dt, rawData, scalingOffset, scalingFactor);
+	}
+
+	/**
+	 * Create a BinaryTimeseries file with the timebase parameters {@code t0} and
+	 * {@code dt}, the unscaled {@code rawData} and the scaling parameters
+	 * {@code scalingOffset} and {@code scalingFactor}. The file is mapped in
+	 * segments of the given size.
+	 * 
+	 * @param file          file to create; an existing file is overwritten
+	 * @param segmentSize   size of the mapped segments in bytes; must be a
+	 *                      positive multiple of 8
+	 * @param t0            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param dt            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param rawData       raw data array; can be {@code byte[]}, {@code short[]},
+	 *                      {@code int[]}, {@code long[]}, {@code float[]} or
+	 *                      {@code double[]}
+	 * @param scalingOffset scaling offset of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param scalingFactor scaling factor of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @return the mapped file
+	 * @throws IOException if the file could not be created or mapped
+	 */
+	public static BinaryTimeseriesFile write(final Path file, final int segmentSize, Object t0, Object dt,
+			Object rawData, Object scalingOffset, Object scalingFactor) throws IOException {
+		final byte data_dtype = BinaryTimeseries.dataType(rawData);
+		final int dataSize = BinaryTimeseries.dtypeSize(data_dtype);
+		final int numSamples = Array.getLength(rawData);
+
+		final BinaryTimeseriesFile btsFile = create(file, BinaryTimeseries.fileOffset_long(dataSize, numSamples),
+				segmentSize);
+
+		// segments are at least 64 bytes large, so the header fits into the first one
+		final ByteBuffer header = btsFile.segments[0].duplicate();
+		BinaryTimeseries.writeHeader(header, t0, dt, scalingOffset, scalingFactor, data_dtype, numSamples);
+
+		int numWritten = 0;
+		while (numWritten < numSamples) {
+			final long offset = BinaryTimeseries.fileOffset_long(dataSize, numWritten);
+			final int segmentIndex = (int) (offset / segmentSize);
+			final ByteBuffer view = btsFile.segments[segmentIndex].duplicate();
+			view.position((int) (offset - (long) segmentIndex * segmentSize));
+
+			final int numInSegment = Math.min(numSamples - numWritten, view.remaining() / dataSize);
+			BinaryTimeseries.writeRawData(view, rawData, numWritten, numInSegment);
+			numWritten += numInSegment;
+		}
+		return btsFile;
+	}
+
+	/**
+	 * Create a reader for the time series in this file. The header is parsed once
+	 * by the reader, so the reader should be kept and re-used for all reads from
+	 * this file.
+	 * 
+	 * @return a new reader for the time series in this file
+	 * @throws RuntimeException if the file does not contain a valid header
+	 */
+	public BinaryTimeseriesReader getReader() {
+		beginRead();
+		try {
+			return new BinaryTimeseriesReader(this);
+		} finally {
+			endRead();
+		}
+	}
+
+	/**
+	 * Make sure that all changes written to this file are stored on disk.
+	 */
+	public void force() {
+		beginRead();
+		try {
+			for (MappedByteBuffer segment : segments) {
+				segment.force();
+			}
+		} finally {
+			endRead();
+		}
+	}
+
+	/**
+	 * Close this file and unmap all its segments as soon as all reads in progress
+	 * have ended, which may be after this method has returned. If explicit
+	 * unmapping is not supported by the JVM, the segments are left to the garbage
+	 * collector. Reads through readers obtained from this file which are started
+	 * afterwards throw a {@link RuntimeException}. Closing an already closed file
+	 * has no effect.
+	 */
+	@Override
+	public void close() {
+		if (state.getAndUpdate(s -> s | 1) == 0) {
+			unmap();
+		}
+	}
+
+	/**
+	 * @return true if this file has been closed
+	 */
+	public boolean isClosed() {
+		return (state.get() & 1) != 0;
+	}
+
+	/**
+	 * @return the path of this file
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return size of this file in bytes
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return size of all but the last mapped segment in bytes
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * @return number of mapped segments
+	 */
+	public int getNumSegments() {
+		return segments.length;
+	}
+
+	/**
+	 * @return the mapped segments; only valid between {@link #beginRead()} and
+	 *         {@link #endRead()}
+	 */
+	ByteBuffer[] getSegments() {
+		return segments;
+	}
+
+	/**
+	 * Mark the start of a read from the mapped segments, which are not unmapped
+	 * before the matching call of {@link #endRead()}.
+	 * 
+	 * @throws RuntimeException if this file has been closed
+	 */
+	void beginRead() {
+		int s;
+		do {
+			s = state.get();
+			if ((s & 1) != 0) {
+				throw new RuntimeException("file '" + file + "' has already been closed");
+			}
+		} while (!state.compareAndSet(s, s + 2));
+	}
+
+	/**
+	 * Mark the end of a read started by {@link #beginRead()}. The last read to end
+	 * after the file has been closed unmaps the segments.
+	 */
+	void endRead() {
+		if (state.addAndGet(-2) == 1) {
+			unmap();
+		}
+	}
+
+	/**
+	 * Unmap all segments; called exactly once, when the file is closed and no read
+	 * is in progress.
+	 */
+	private void unmap() {
+		for (int i = 0; i < segments.length; ++i) {
+			BufferUnmapper.unmap(segments[i]);
+			segments[i] = null;
+		}
+	}
+
+	/**
+	 * Map the given number of bytes of a file in consecutive segments.
+	 * 
+	 * @param channel     channel of the file to map
+	 * @param mode        mapping mode
+	 * @param size        number of bytes to map
+	 * @param segmentSize size of all but the last segment in bytes
+	 * @return mapped segments
+	 * @throws IOException if the file could not be mapped
+	 */
+	private static MappedByteBuffer[] map(final FileChannel channel, final FileChannel.MapMode mode, final long size,
+			final int segmentSize) throws IOException {
+		final int numSegments = (int) ((size + segmentSize - 1) / segmentSize);
+		final MappedByteBuffer[] segments = new MappedByteBuffer[numSegments];
+		for (int i = 0; i < numSegments; ++i) {
+			final long position = (long) i * segmentSize;
+			segments[i] = channel.map(mode, position, Math.min(segmentSize, size - position));
+		}
+		return segments;
+	}
+
+	/**
+	 * Check that samples of any data type cannot be split across two segments and
+	 * that the header fits into the first segment.
+	 * 
+	 * @param segmentSize size of the mapped segments in bytes
+	 * @throws RuntimeException if the given segment size cannot be used
+	 */
+	private static void checkSegmentSize(final int segmentSize) {
+		if (segmentSize < 64 || segmentSize % 8 != 0) {
+			throw new RuntimeException("segment size must be a multiple of 8 and at least 64 but is " + segmentSize);
+		}
+	}
+}
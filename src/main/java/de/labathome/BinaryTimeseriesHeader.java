@@ -0,0 +1,134 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The parsed 64 byte header of a BinaryTimeseries or of a multi-channel
+ * container. The header is parsed with absolute reads, and the values which
+ * are common to all kinds of files are checked: the endianess check value,
+ * the timestamp, scaling and raw data types and the number of samples. Checks
+ * which depend on the kind of file, e.g. of the layout or the compression, are
+ * left to the readers. Integer timestamps and scaling parameters are kept
+ * widened to {@code long} and floating-point ones widened to {@code double},
+ * as used by the readers.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class BinaryTimeseriesHeader {
+
+	/** size of the header in bytes */
+	static final int SIZE = 64;
+
+	/** byte order in which the file was written */
+	final ByteOrder order;
+
+	final byte time_dtype;
+	final long t0_long;
+	final long dt_long;
+	final double t0_double;
+	final double dt_double;
+
+	final byte scaling_dtype;
+	final long scalingOffset_long;
+	final long scalingFactor_long;
+	final double scalingOffset_double;
+	final double scalingFactor_double;
+
+	/** compression of the raw data; see {@link BlockCompression} */
+	final byte compression;
+
+	/** layout of the channels; see {@link MultiChannelTimeseries} */
+	final byte layout;
+
+	/** number of channels; only meaningful for multi-channel layouts */
+	final int numChannels;
+
+	final byte data_dtype;
+	final int dataSize;
+	final int numSamples;
+
+	/**
+	 * Parse the header at the start of the given buffer. The byte order of the
+	 * buffer is set to the byte order in which the file was written, so that it
+	 * can be used to read the data following the header.
+	 *
+	 * @param header buffer containing the 64 header bytes starting at index 0
+	 * @throws RuntimeException if the header contains invalid entries
+	 */
+	BinaryTimeseriesHeader(final ByteBuffer header) {
+		final short firstShort = header.getShort(0);
+		if (firstShort == 256) {
+			header.order(header.order() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+		} else if (firstShort != 1) {
+			throw new RuntimeException("first short read from source was neither 1 nor 256 but " + firstShort);
+		}
+		order = header.order();
+
+		time_dtype = header.get(2);
+		if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+			t0_long = header.getLong(3);
+			dt_long = header.getLong(11);
+			t0_double = t0_long;
+			dt_double = dt_long;
+		} else if (time_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			t0_double = header.getDouble(3);
+			dt_double = header.getDouble(11);
+			t0_long = 0;
+			dt_long = 0;
+		} else {
+			throw new RuntimeException("unknown time dtype: " + time_dtype);
+		}
+
+		scaling_dtype = header.get(19);
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			scalingOffset_long = 0;
+			scalingFactor_long = 0;
+			scalingOffset_double = 0.0;
+			scalingFactor_double = 0.0;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			scalingOffset_long = header.get(20);
+			scalingFactor_long = header.get(28);
+			scalingOffset_double = 0.0;
+			scalingFactor_double = 0.0;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			scalingOffset_long = header.getShort(20);
+			scalingFactor_long = header.getShort(28);
+			scalingOffset_double = 0.0;
+			scalingFactor_double = 0.0;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			scalingOffset_long = header.getInt(20);
+			scalingFactor_long = header.getInt(28);
+			scalingOffset_double = 0.0;
+			scalingFactor_double = 0.0;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			scalingOffset_long = header.getLong(20);
+			scalingFactor_long = header.getLong(28);
+			scalingOffset_double = 0.0;
+			scalingFactor_double = 0.0;
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			scalingOffset_long = 0;
+			scalingFactor_long = 0;
+			scalingOffset_double = header.getFloat(20);
+			scalingFactor_double = header.getFloat(28);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			scalingOffset_long = 0;
+			scalingFactor_long = 0;
+			scalingOffset_double = header.getDouble(20);
+			scalingFactor_double = header.getDouble(28);
+		} else {
+			throw new RuntimeException("unknown scaling dtype: " + scaling_dtype);
+		}
+
+		compression = header.get(BlockCompression.COMPRESSION_OFFSET);
+		layout = header.get(MultiChannelTimeseries.LAYOUT_OFFSET);
+		numChannels = header.getInt(MultiChannelTimeseries.NUM_CHANNELS_OFFSET);
+
+		data_dtype = header.get(59);
+		dataSize = BinaryTimeseries.dtypeSize(data_dtype);
+		numSamples = header.getInt(60);
+		if (numSamples < 0) {
+			throw new RuntimeException("invalid number of samples: " + numSamples);
+		}
+	}
+}
@@ -0,0 +1,560 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a class for a companion file of a BinaryTimeseries, which contains
+ * the minimum, maximum and mean of the (scaled) samples in blocks of
+ * consecutive samples at several decimation levels. The finest level has
+ * blocks of {@code baseBlockSize} samples and each following level has blocks
+ * of twice as many samples, up to a single block covering the whole time
+ * series. This allows to render an overview of any time range into a given
+ * number of pixels by reading only about as many blocks as there are pixels,
+ * instead of all samples in the time range.
+ * <br>
+ * The companion file has the following layout (in big-endian byte order):
+ * <table>
+ * <caption>layout of the companion file</caption>
+ * <tr><th>offset</th><th>size</th><th>content</th></tr>
+ * <tr><td>0</td><td>2</td><td>endianess check value (1)</td></tr>
+ * <tr><td>2</td><td>1</td><td>file format version (1)</td></tr>
+ * <tr><td>3</td><td>1</td><td>timestamp dtype of the time series</td></tr>
+ * <tr><td>4</td><td>8</td><td>t_0 of the time series</td></tr>
+ * <tr><td>12</td><td>8</td><td>Delta_t of the time series</td></tr>
+ * <tr><td>20</td><td>4</td><td>number of samples of the time series</td></tr>
+ * <tr><td>24</td><td>4</td><td>number of samples per block at level 0</td></tr>
+ * <tr><td>28</td><td>4</td><td>number of levels</td></tr>
+ * <tr><td>32</td><td>24 per block</td><td>min, max and mean of all blocks as
+ * {@code double}, level by level, starting at level 0</td></tr>
+ * </table>
+ * The number of blocks at each level follows from the number of samples and the
+ * block size. The last block of a level may contain fewer samples.
+ * <br>
+ * A pyramid can be shared by any number of threads.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesPyramid implements Closeable {
+
+	/**
+	 * Default number of samples per block at level 0
+	 */
+	public static final int DEFAULT_BASE_BLOCK_SIZE = 1024;
+
+	/** version of the companion file format */
+	private static final byte VERSION = 1;
+
+	/** size of the header of the companion file in bytes */
+	private static final int HEADER_SIZE = 32;
+
+	/** largest supported number of samples per block at level 0 */
+	public static final int MAX_BASE_BLOCK_SIZE = 1 << 24;
+
+	/** size of one block (min, max, mean) in bytes */
+	private static final int BLOCK_SIZE = 3 * Double.BYTES;
+
+	private final Path file;
+	private final BinaryTimeseriesReader reader;
+	private final MappedByteBuffer blocks;
+	private final int baseBlockSize;
+	private final int numLevels;
+	private final long[] levelOffsets;
+
+	/**
+	 * twice the number of reads in progress, plus one once the pyramid has been
+	 * closed; the companion file is unmapped when the pyramid is closed and no
+	 * read is in progress
+	 */
+	private final AtomicInteger state = new AtomicInteger();
+
+	private BinaryTimeseriesPyramid(final Path file, final BinaryTimeseriesReader reader,
+			final MappedByteBuffer blocks, final int baseBlockSize, final int numLevels) {
+		this.file = file;
+		this.reader = reader;
+		this.blocks = blocks;
+		this.baseBlockSize = baseBlockSize;
+		this.numLevels = numLevels;
+		this.levelOffsets = levelOffsets(reader.getNumSamples(), baseBlockSize, numLevels);
+	}
+
+	/**
+	 * Build the companion file for the given time series with blocks of
+	 * {@link #DEFAULT_BASE_BLOCK_SIZE} samples at level 0 and open it.
+	 *
+	 * @param reader time series to summarize
+	 * @param file   companion file to create; an existing file is overwritten
+	 * @return the opened pyramid
+	 * @throws IOException if the companion file could not be written
+	 */
+	public static BinaryTimeseriesPyramid build(final BinaryTimeseriesReader reader, final Path file)
+			throws IOException {
+		return build(reader, file, DEFAULT_BASE_BLOCK_SIZE);
+	}
+
+	/**
+	 * Build the companion file for the given time series and open it. The time
+	 * series is read once in chunks, so the memory usage does not depend on the
+	 * length of the time series.
+	 *
+	 * @param reader        time series to summarize
+	 * @param file          companion file to create; an existing file is
+	 *                      overwritten
+	 * @param baseBlockSize number of samples per block at level 0; must be a power
+	 *                      of two between 64 and {@value #MAX_BASE_BLOCK_SIZE}
+	 * @return the opened pyramid
+	 * @throws IOException if the companion file could not be written
+	 */
+	public static BinaryTimeseriesPyramid build(final BinaryTimeseriesReader reader, final Path file,
+			final int baseBlockSize) throws IOException {
+		if (baseBlockSize < 64 || baseBlockSize > MAX_BASE_BLOCK_SIZE || Integer.bitCount(baseBlockSize) != 1) {
+			throw new RuntimeException("base block size must be a power of two between 64 and "
+					+ MAX_BASE_BLOCK_SIZE + " but is " + baseBlockSize);
+		}
+		final int numSamples = reader.getNumSamples();
+		final int numLevels = numLevels(numSamples, baseBlockSize);
+		final long[] levelOffsets = levelOffsets(numSamples, baseBlockSize, numLevels);
+
+		try (RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "rw")) {
+			memoryFile.setLength(levelOffsets[numLevels]);
+			final MappedByteBuffer target = memoryFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0,
+					levelOffsets[numLevels]);
+			try {
+				target.putShort((short) 1);
+				target.put(VERSION);
+				target.put(reader.getTimeType());
+				if (reader.getTimeType() == BinaryTimeseries.DTYPE_LONG) {
+					target.putLong(reader.getT0_long());
+					target.putLong(reader.getDt_long());
+				} else {
+					target.putDouble(reader.getT0_double());
+					target.putDouble(reader.getDt_double());
+				}
+				target.putInt(numSamples);
+				target.putInt(baseBlockSize);
+				target.putInt(numLevels);
+
+				new Builder(target, levelOffsets, numLevels).build(reader, baseBlockSize);
+				target.force();
+			} finally {
+				BufferUnmapper.unmap(target);
+			}
+		}
+		return open(reader, file);
+	}
+
+	/**
+	 * Open an existing companion file of the given time series.
+	 *
+	 * @param reader time series summarized by the companion file
+	 * @param file   companion file to open
+	 * @return the opened pyramid
+	 * @throws IOException if the companion file could not be read
+	 * @throws RuntimeException if the companion file is invalid or does not belong
+	 *                          to the given time series
+	 */
+	public static BinaryTimeseriesPyramid open(final BinaryTimeseriesReader reader, final Path file)
+			throws IOException {
+		try (RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "r")) {
+			final long size = memoryFile.length();
+			if (size < HEADER_SIZE) {
+				throw new RuntimeException("file '" + file + "' is too small to contain a pyramid");
+			}
+			final MappedByteBuffer blocks = memoryFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+			try {
+				if (blocks.getShort(0) != 1 || blocks.get(2) != VERSION) {
+					throw new RuntimeException("file '" + file + "' does not contain a pyramid of version " + VERSION);
+				}
+				final byte time_dtype = blocks.get(3);
+				final boolean timebaseMatches;
+				if (time_dtype == BinaryTimeseries.DTYPE_LONG && reader.getTimeType() == time_dtype) {
+					timebaseMatches = blocks.getLong(4) == reader.getT0_long()
+							&& blocks.getLong(12) == reader.getDt_long();
+				} else if (time_dtype == BinaryTimeseries.DTYPE_DOUBLE && reader.getTimeType() == time_dtype) {
+					timebaseMatches = blocks.getDouble(4) == reader.getT0_double()
+							&& blocks.getDouble(12) == reader.getDt_double();
+				} else {
+					timebaseMatches = false;
+				}
+				final int numSamples = blocks.getInt(20);
+				final int baseBlockSize = blocks.getInt(24);
+				final int numLevels = blocks.getInt(28);
+				if (!timebaseMatches || numSamples != reader.getNumSamples()
+						|| numLevels != numLevels(numSamples, baseBlockSize)
+						|| size < levelOffsets(numSamples, baseBlockSize, numLevels)[numLevels]) {
+					throw new RuntimeException(
+							"pyramid in file '" + file + "' does not belong to the given time series");
+				}
+				return new BinaryTimeseriesPyramid(file, reader, blocks, baseBlockSize, numLevels);
+			} catch (RuntimeException e) {
+				BufferUnmapper.unmap(blocks);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Summarize the samples in the given index range for display in the given
+	 * number of pixels. The coarsest level whose blocks contain at most as many
+	 * samples as fall onto one pixel is used, so that there are at least
+	 * {@code numPixels} blocks in the given range. The returned blocks are aligned
+	 * to the block size of that level, so the first and last block may extend
+	 * beyond the given range. If even the blocks of level 0 are larger than the
+	 * number of samples per pixel, the samples themselves are read from the time
+	 * series and returned as blocks of a single sample each.
+	 *
+	 * @param firstIndex index of the first sample to summarize
+	 * @param lastIndex  index of the last sample to summarize
+	 * @param numPixels  number of pixels available for display
+	 * @return summary of the given index range
+	 * @throws RuntimeException if the given range is not inside the time series or
+	 *                          this pyramid has been closed
+	 */
+	public Summary summarize(final int firstIndex, final int lastIndex, final int numPixels) {
+		beginRead();
+		try {
+			final int numSamples = reader.getNumSamples();
+			if (firstIndex < 0 || lastIndex >= numSamples || firstIndex > lastIndex + 1) {
+				throw new RuntimeException("index range [" + firstIndex + ", " + lastIndex
+						+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+			}
+			if (numPixels < 1) {
+				throw new RuntimeException("number of pixels must be positive but is " + numPixels);
+			}
+			if (lastIndex < firstIndex) {
+				return new Summary(1, firstIndex, new double[0], new double[0], new double[0]);
+			}
+
+			final long samplesPerPixel = ((long) lastIndex - firstIndex + 1) / numPixels;
+			if (samplesPerPixel < baseBlockSize) {
+				final double[] samples = reader.readData_double(firstIndex, lastIndex);
+				return new Summary(1, firstIndex, samples, samples, samples);
+			}
+
+			int level = 0;
+			while (level + 1 < numLevels && ((long) baseBlockSize << (level + 1)) <= samplesPerPixel) {
+				level++;
+			}
+			final int blockSize = baseBlockSize << level;
+			final int firstBlock = firstIndex / blockSize;
+			final int numBlocks = lastIndex / blockSize - firstBlock + 1;
+
+			final double[] min = new double[numBlocks];
+			final double[] max = new double[numBlocks];
+			final double[] mean = new double[numBlocks];
+			for (int i = 0; i < numBlocks; ++i) {
+				final int offset = (int) (levelOffsets[level] + (long) (firstBlock + i) * BLOCK_SIZE);
+				min[i] = blocks.getDouble(offset);
+				max[i] = blocks.getDouble(offset + Double.BYTES);
+				mean[i] = blocks.getDouble(offset + 2 * Double.BYTES);
+			}
+			return new Summary(blockSize, firstBlock * blockSize, min, max, mean);
+		} finally {
+			endRead();
+		}
+	}
+
+	/**
+	 * Summarize the samples in the given time interval for display in the given
+	 * number of pixels; see {@link #summarize(int, int, int)}.
+	 *
+	 * @param t_l       lower boundary of the time interval
+	 * @param t_u       upper boundary of the time interval
+	 * @param numPixels number of pixels available for display
+	 * @return summary of the samples inside the given time interval
+	 */
+	public Summary summarize(final long t_l, final long t_u, final int numPixels) {
+		return summarize(reader.firstIndexInside(t_l), reader.lastIndexInside(t_u), numPixels);
+	}
+
+	/**
+	 * Summarize the samples in the given time interval for display in the given
+	 * number of pixels; see {@link #summarize(int, int, int)}.
+	 *
+	 * @param t_l       lower boundary of the time interval
+	 * @param t_u       upper boundary of the time interval
+	 * @param numPixels number of pixels available for display
+	 * @return summary of the samples inside the given time interval
+	 */
+	public Summary summarize(final double t_l, final double t_u, final int numPixels) {
+		return summarize(reader.firstIndexInside(t_l), reader.lastIndexInside(t_u), numPixels);
+	}
+
+	/**
+	 * Unmap the companion file as soon as all reads in progress have ended, which
+	 * may be after this method has returned. Summaries which are requested
+	 * afterwards throw a {@link RuntimeException}. The time series reader is not
+	 * affected. Closing an already closed pyramid has no effect.
+	 */
+	@Override
+	public void close() {
+		if (state.getAndUpdate(s -> s | 1) == 0) {
+			BufferUnmapper.unmap(blocks);
+		}
+	}
+
+	/**
+	 * @return the path of the companion file
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return the time series summarized by this pyramid
+	 */
+	public BinaryTimeseriesReader getReader() {
+		return reader;
+	}
+
+	/**
+	 * @return number of samples per block at level 0
+	 */
+	public int getBaseBlockSize() {
+		return baseBlockSize;
+	}
+
+	/**
+	 * @return number of decimation levels
+	 */
+	public int getNumLevels() {
+		return numLevels;
+	}
+
+	/**
+	 * Minimum, maximum and mean of the samples in consecutive blocks of equal
+	 * size.
+	 */
+	public static final class Summary {
+		private final int blockSize;
+		private final int firstIndex;
+		private final double[] min;
+		private final double[] max;
+		private final double[] mean;
+
+		Summary(final int blockSize, final int firstIndex, final double[] min, final double[] max,
+				final double[] mean) {
+			this.blockSize = blockSize;
+			this.firstIndex = firstIndex;
+			this.min = min;
+			this.max = max;
+			this.mean = mean;
+		}
+
+		/**
+		 * @return number of samples in each block; the last block of the time series
+		 *         may contain fewer samples
+		 */
+		public int getBlockSize() {
+			return blockSize;
+		}
+
+		/**
+		 * @return index of the first sample in the first block
+		 */
+		public int getFirstIndex() {
+			return firstIndex;
+		}
+
+		/**
+		 * @return number of blocks
+		 */
+		public int getNumBlocks() {
+			return min.length;
+		}
+
+		/**
+		 * @return minimum of the samples in each block
+		 */
+		public double[] getMin() {
+			return min;
+		}
+
+		/**
+		 * @return maximum of the samples in each block
+		 */
+		public double[] getMax() {
+			return max;
+		}
+
+		/**
+		 * @return mean of the samples in each block
+		 */
+		public double[] getMean() {
+			return mean;
+		}
+	}
+
+	/**
+	 * @param numSamples    number of samples in the time series
+	 * @param baseBlockSize number of samples per block at level 0
+	 * @return number of levels needed to arrive at a single block
+	 */
+	private static int numLevels(final int numSamples, final int baseBlockSize) {
+		if (numSamples == 0) {
+			return 0;
+		}
+		int numLevels = 1;
+		long blockSize = baseBlockSize;
+		while (blockSize < numSamples) {
+			blockSize *= 2;
+			numLevels++;
+		}
+		return numLevels;
+	}
+
+	/**
+	 * @param numSamples    number of samples in the time series
+	 * @param baseBlockSize number of samples per block at level 0
+	 * @param numLevels     number of levels
+	 * @return offsets of the blocks of each level in the companion file; the last
+	 *         entry is the size of the companion file
+	 */
+	private static long[] levelOffsets(final int numSamples, final int baseBlockSize, final int numLevels) {
+		final long[] offsets = new long[numLevels + 1];
+		offsets[0] = HEADER_SIZE;
+		for (int level = 0; level < numLevels; ++level) {
+			final long blockSize = (long) baseBlockSize << level;
+			offsets[level + 1] = offsets[level] + (numSamples + blockSize - 1) / blockSize * BLOCK_SIZE;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Mark the start of a read from the companion file, which is not unmapped
+	 * before the matching call of {@link #endRead()}.
+	 *
+	 * @throws RuntimeException if this pyramid has been closed
+	 */
+	private void beginRead() {
+		int s;
+		do {
+			s = state.get();
+			if ((s & 1) != 0) {
+				throw new RuntimeException("pyramid '" + file + "' has already been closed");
+			}
+		} while (!state.compareAndSet(s, s + 2));
+	}
+
+	/**
+	 * Mark the end of a read started by {@link #beginRead()}. The last read to end
+	 * after the pyramid has been closed unmaps the companion file.
+	 */
+	private void endRead() {
+		if (state.addAndGet(-2) == 1) {
+			BufferUnmapper.unmap(blocks);
+		}
+	}
+
+	/**
+	 * Computes all levels in a single pass over the time series. Each completed
+	 * block is written to its level and merged into the pending block of the next
+	 * coarser level, which is complete after two blocks.
+	 */
+	private static final class Builder {
+		private final ByteBuffer target;
+		private final long[] levelOffsets;
+		private final int numLevels;
+
+		private final int[] numWritten;
+		private final int[] numMerged;
+		private final double[] min;
+		private final double[] max;
+		private final double[] sum;
+		private final long[] count;
+
+		Builder(final ByteBuffer target, final long[] levelOffsets, final int numLevels) {
+			this.target = target;
+			this.levelOffsets = levelOffsets;
+			this.numLevels = numLevels;
+			numWritten = new int[numLevels];
+			numMerged = new int[numLevels];
+			min = new double[numLevels];
+			max = new double[numLevels];
+			sum = new double[numLevels];
+			count = new long[numLevels];
+		}
+
+		/**
+		 * Read the time series in chunks of whole level-0 blocks and write all
+		 * levels.
+		 *
+		 * @param reader        time series to summarize
+		 * @param baseBlockSize number of samples per block at level 0
+		 */
+		void build(final BinaryTimeseriesReader reader, final int baseBlockSize) {
+			final int numSamples = reader.getNumSamples();
+			final double[] chunk = new double[(int) Math.min(numSamples, Math.max(baseBlockSize,
+					256L * baseBlockSize))];
+			for (int first = 0; first < numSamples; first += chunk.length) {
+				final int numInChunk = Math.min(chunk.length, numSamples - first);
+				reader.readData_double(first, first + numInChunk - 1, chunk, 0);
+				for (int blockStart = 0; blockStart < numInChunk; blockStart += baseBlockSize) {
+					final int blockEnd = Math.min(numInChunk, blockStart + baseBlockSize);
+					double blockMin = chunk[blockStart];
+					double blockMax = chunk[blockStart];
+					double blockSum = 0.0;
+					for (int i = blockStart; i < blockEnd; ++i) {
+						blockMin = Math.min(blockMin, chunk[i]);
+						blockMax = Math.max(blockMax, chunk[i]);
+						blockSum += chunk[i];
+					}
+					add(0, blockMin, blockMax, blockSum, blockEnd - blockStart);
+				}
+			}
+
+			// write the incomplete blocks at the end of each level
+			for (int level = 1; level < numLevels; ++level) {
+				if (numMerged[level] > 0) {
+					flush(level);
+				}
+			}
+		}
+
+		/**
+		 * Write a complete block to the given level and merge it into the pending
+		 * block of the next level.
+		 */
+		private void add(final int level, final double blockMin, final double blockMax, final double blockSum,
+				final long blockCount) {
+			final int offset = (int) (levelOffsets[level] + (long) numWritten[level] * BLOCK_SIZE);
+			target.putDouble(offset, blockMin);
+			target.putDouble(offset + Double.BYTES, blockMax);
+			target.putDouble(offset + 2 * Double.BYTES, blockSum / blockCount);
+			numWritten[level]++;
+
+			final int next = level + 1;
+			if (next < numLevels) {
+				if (numMerged[next] == 0) {
+					min[next] = blockMin;
+					max[next] = blockMax;
+					sum[next] = blockSum;
+					count[next] = blockCount;
+				} else {
+					min[next] = Math.min(min[next], blockMin);
+					max[next] = Math.max(max[next], blockMax);
+					sum[next] += blockSum;
+					count[next] += blockCount;
+				}
+				numMerged[next]++;
+				if (numMerged[next] == 2) {
+					flush(next);
+				}
+			}
+		}
+
+		/**
+		 * Write the pending block of the given level.
+		 */
+		private void flush(final int level) {
+			numMerged[level] = 0;
+			add(level, min[level], max[level], sum[level], count[level]);
+		}
+	}
+}
@@ -0,0 +1,1473 @@
+package de.labathome;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is a class to read from a BinaryTimeseries repeatedly without having to
+ * go through the header each time. The 64 byte header is parsed once when the
+ * reader is created, the byte order is fixed according to the endianess check
+ * value and all header information is kept in fields. Subsequent reads of index
+ * ranges or time ranges only access the requested samples at their absolute
+ * offsets. The position of the buffer given to the constructor is not modified
+ * by this class.
+ * <br>
+ * Block-compressed time series (see {@link BinaryTimeseries#compress(ByteBuffer)})
+ * are read transparently; a read only decodes the blocks containing the
+ * requested samples. The scratch memory of the last compressed read and the
+ * block decoded last are kept for the next read, so that reading a range in
+ * consecutive chunks decodes every block only once.
+ * <br>
+ * Reads are thread-safe: the header information is fixed after construction,
+ * every read works on its own view of the underlying buffer, and the scratch
+ * memory of compressed reads is pooled, i.e. a read takes it exclusively and
+ * returns it afterwards, while a concurrent read allocates its own. So a single
+ * reader (e.g. on a {@link java.nio.MappedByteBuffer} of a large file) can be
+ * shared by any number of threads reading different ranges at the same time.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesReader {
+
+	/** number of samples decoded at once when computing statistics */
+	private static final int STATISTICS_CHUNK_SIZE = 4096;
+
+	/**
+	 * maximum number of samples decoded sequentially by one task of a parallel
+	 * read; large enough for the lookup table and bulk decoding kernels
+	 */
+	static final int PARALLEL_CHUNK_SIZE = 1 << 17;
+
+	/** access to the bytes of the time series */
+	private final DataSource source;
+
+	/** byte order in which the time series was written */
+	private final ByteOrder order;
+
+	private final byte time_dtype;
+	private final long t0_long;
+	private final long dt_long;
+	private final double t0_double;
+	private final double dt_double;
+
+	private final byte scaling_dtype;
+	private final long scalingOffset_long;
+	private final long scalingFactor_long;
+	private final double scalingOffset_double;
+	private final double scalingFactor_double;
+
+	private final byte data_dtype;
+	private final int dataSize;
+	private final int numSamples;
+
+	/** compression of the raw data; see {@link BlockCompression} */
+	private final byte compression;
+
+	/** number of samples per compressed block; 0 if not compressed */
+	private final int blockSize;
+
+	/**
+	 * absolute offsets of the compressed blocks and of the end of the last block;
+	 * {@code null} if not compressed
+	 */
+	private final long[] blockOffsets;
+
+	/**
+	 * scratch memory of the last compressed read, taken by the next one; a read
+	 * which finds it taken by a concurrent read uses its own scratch memory
+	 */
+	private final AtomicReference<BlockScratch> spareScratch = new AtomicReference<>();
+
+	/**
+	 * decoders for the scaling and raw data type of this time series, resolved
+	 * once so that reads call the specialized decoding loop directly; the
+	 * floating-point decoders are bound to the lookup tables of the scaling
+	 */
+	private final SampleDecoder<byte[]> decoder_byte;
+	private final SampleDecoder<short[]> decoder_short;
+	private final SampleDecoder<int[]> decoder_int;
+	private final SampleDecoder<long[]> decoder_long;
+	private final SampleDecoder<float[]> decoder_float;
+	private final SampleDecoder<double[]> decoder_double;
+
+	/**
+	 * Parse the header of the BinaryTimeseries which starts at the current
+	 * position of {@code source}.
+	 * 
+	 * @param source buffer containing a BinaryTimeseries starting at its current
+	 *               position
+	 * @throws RuntimeException if the header contains invalid entries
+	 */
+	public BinaryTimeseriesReader(final ByteBuffer source) {
+		this(new ByteBuffer[] { source.slice().order(source.order()) }, source.remaining());
+	}
+
+	/**
+	 * Parse the header of a BinaryTimeseries which is split into several
+	 * consecutive segments, e.g. because it is too large to be mapped into a
+	 * single {@link java.nio.MappedByteBuffer}. All segments but the last one must
+	 * have a size of {@code segmentSize} bytes, which must be a multiple of 8, so
+	 * that no sample is split across two segments.
+	 * 
+	 * @param segments    consecutive parts of the time series; the first one
+	 *                    starts with the header and must contain at least the 64
+	 *                    header bytes
+	 * @param segmentSize size of all but the last segment in bytes
+	 * @throws RuntimeException if the header contains invalid entries or the
+	 *                          segments do not contain all samples
+	 */
+	BinaryTimeseriesReader(final ByteBuffer[] segments, final long segmentSize) {
+		this(new SegmentedDataSource(segments, segmentSize));
+	}
+
+	/**
+	 * Parse the header of the BinaryTimeseries in the given mapped file.
+	 * 
+	 * @param file the mapped file; reads from a closed file throw an exception
+	 * @throws RuntimeException if the header contains invalid entries or the file
+	 *                          does not contain all samples
+	 */
+	BinaryTimeseriesReader(final BinaryTimeseriesFile file) {
+		this(new SegmentedDataSource(file.getSegments(), file.getSegmentSize(), file));
+	}
+
+	/**
+	 * Parse the header of a BinaryTimeseries file which is read using positional
+	 * reads from the given channel instead of memory-mapping it. Samples are read
+	 * into pooled direct buffers. Since neither the reads nor the pool hold a
+	 * monitor or use thread-local state, a reader on a channel can be shared by
+	 * many (virtual) threads, e.g. one per file or per range. Reading from a file
+	 * which has been truncated leads to an exception instead of a crash of the
+	 * JVM as with a memory-mapped file. The channel is not closed by the reader,
+	 * and its position is not modified.
+	 * 
+	 * @param channel channel open for reading a BinaryTimeseries file
+	 * @throws RuntimeException     if the header contains invalid entries or the
+	 *                              file does not contain all samples
+	 * @throws UncheckedIOException if reading from the channel fails; this is also
+	 *                              thrown by the read methods of this reader
+	 */
+	public BinaryTimeseriesReader(final FileChannel channel) {
+		this(new ChannelDataSource(channel, DirectBufferPool.SHARED));
+	}
+
+	/**
+	 * Parse the header of the BinaryTimeseries in the given source.
+	 * 
+	 * @param source access to the bytes of the time series
+	 * @throws RuntimeException if the header contains invalid entries or the
+	 *                          source does not contain all samples
+	 */
+	private BinaryTimeseriesReader(final DataSource source) {
+		this.source = source;
+		final long size = source.size();
+		if (size < BinaryTimeseriesHeader.SIZE) {
+			throw new RuntimeException("source contains only " + size + " bytes, which is not enough for the header");
+		}
+
+		final BinaryTimeseriesHeader parsed = new BinaryTimeseriesHeader(source.bytesAt(0,
+				BinaryTimeseriesHeader.SIZE));
+		order = parsed.order;
+		time_dtype = parsed.time_dtype;
+		t0_long = parsed.t0_long;
+		dt_long = parsed.dt_long;
+		t0_double = parsed.t0_double;
+		dt_double = parsed.dt_double;
+		scaling_dtype = parsed.scaling_dtype;
+		scalingOffset_long = parsed.scalingOffset_long;
+		scalingFactor_long = parsed.scalingFactor_long;
+		scalingOffset_double = parsed.scalingOffset_double;
+		scalingFactor_double = parsed.scalingFactor_double;
+		data_dtype = parsed.data_dtype;
+		dataSize = parsed.dataSize;
+		numSamples = parsed.numSamples;
+		decoder_byte = SampleDecoders.get_byte(scaling_dtype, data_dtype);
+		decoder_short = SampleDecoders.get_short(scaling_dtype, data_dtype);
+		decoder_int = SampleDecoders.get_int(scaling_dtype, data_dtype);
+		decoder_long = SampleDecoders.get_long(scaling_dtype, data_dtype);
+		decoder_float = ScalingLookupTable.bind_float(SampleDecoders.get_float(scaling_dtype, data_dtype),
+				scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+				data_dtype);
+		decoder_double = ScalingLookupTable.bind_double(SampleDecoders.get_double(scaling_dtype, data_dtype),
+				scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double,
+				data_dtype);
+
+		if (parsed.layout != BinaryTimeseries.LAYOUT_SINGLE_CHANNEL) {
+			throw new RuntimeException("multi-channel data can only be read using a MultiChannelReader");
+		}
+
+		compression = parsed.compression;
+		if (compression == BinaryTimeseries.COMPRESSION_NONE) {
+			blockSize = 0;
+			blockOffsets = null;
+			if (size < BinaryTimeseries.fileOffset_long(dataSize, numSamples)) {
+				throw new RuntimeException("source contains only " + size + " bytes, which is not enough for "
+						+ numSamples + " samples");
+			}
+		} else if (compression == BinaryTimeseries.COMPRESSION_DELTA_FOR) {
+			if (size < BlockCompression.TABLE_OFFSET) {
+				throw new RuntimeException("source contains only " + size + " bytes, which is not enough for "
+						+ "the compressed data header");
+			}
+			blockSize = bytesAt(BlockCompression.BLOCK_SIZE_OFFSET, 4).getInt();
+			final int numBlocks = bytesAt(BlockCompression.NUM_BLOCKS_OFFSET, 4).getInt();
+			if (blockSize < 1 || numBlocks != (int) ((numSamples + (long) blockSize - 1) / blockSize)) {
+				throw new RuntimeException("invalid compressed block layout: " + numBlocks + " blocks of "
+						+ blockSize + " samples for " + numSamples + " samples");
+			}
+			if (size < BlockCompression.TABLE_OFFSET + 8L * (numBlocks + 1)) {
+				throw new RuntimeException("source contains only " + size + " bytes, which is not enough for "
+						+ "the offset table of " + numBlocks + " blocks");
+			}
+			blockOffsets = new long[numBlocks + 1];
+			bytesAt(BlockCompression.TABLE_OFFSET, 8 * (numBlocks + 1)).asLongBuffer().get(blockOffsets);
+			if (size < blockOffsets[numBlocks]) {
+				throw new RuntimeException("source contains only " + size + " bytes, which is not enough for "
+						+ numBlocks + " compressed blocks");
+			}
+		} else {
+			throw new RuntimeException("unknown compression: " + compression);
+		}
+	}
+
+	/**
+	 * @return byte order in which the time series was written
+	 */
+	public ByteOrder getByteOrder() {
+		return order;
+	}
+
+	/**
+	 * @return timestamp dtype; either {@code DTYPE_LONG} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getTimeType() {
+		return time_dtype;
+	}
+
+	/**
+	 * @return reference timestamp t_0
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getT0_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return t0_long;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getDt_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return dt_long;
+	}
+
+	/**
+	 * @return reference timestamp t_0; converted to {@code double} if the
+	 *         timestamps are stored as {@code long}
+	 */
+	public double getT0_double() {
+		return t0_double;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t; converted to
+	 *         {@code double} if the timestamps are stored as {@code long}
+	 */
+	public double getDt_double() {
+		return dt_double;
+	}
+
+	/**
+	 * @return one of {@code DTYPE_NONE}, {@code DTYPE_BYTE}, {@code DTYPE_SHORT},
+	 *         {@code DTYPE_INT}, {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *         {@code DTYPE_DOUBLE}
+	 */
+	public byte getScalingType() {
+		return scaling_dtype;
+	}
+
+	/**
+	 * @return false if the data has no scaling; true if it has scaling
+	 */
+	public boolean hasScaling() {
+		return BinaryTimeseries.hasScaling(scaling_dtype);
+	}
+
+	/**
+	 * @return scaling offset as an instance of the class corresponding to the
+	 *         scaling data type or {@code null} if the data has no scaling
+	 */
+	public Number getScalingOffset() {
+		return scalingValue(scalingOffset_long, scalingOffset_double);
+	}
+
+	/**
+	 * @return scaling factor as an instance of the class corresponding to the
+	 *         scaling data type or {@code null} if the data has no scaling
+	 */
+	public Number getScalingFactor() {
+		return scalingValue(scalingFactor_long, scalingFactor_double);
+	}
+
+	/**
+	 * @return one of {@code DTYPE_BYTE}, {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *         {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getDataType() {
+		return data_dtype;
+	}
+
+	/**
+	 * @return number of samples in the time series
+	 */
+	public int getNumSamples() {
+		return numSamples;
+	}
+
+	/**
+	 * @return either {@code COMPRESSION_NONE} or {@code COMPRESSION_DELTA_FOR}
+	 */
+	public byte getCompression() {
+		return compression;
+	}
+
+	/**
+	 * Compute the first index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public int firstIndexInside(final long t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return (int) BinaryTimeseries.firstIndexInside(t0_long, dt_long, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public int lastIndexInside(final long t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return (int) BinaryTimeseries.lastIndexInside(t0_long, dt_long, t_u, numSamples);
+	}
+
+	/**
+	 * Compute the first index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public int firstIndexInside(final double t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return (int) BinaryTimeseries.firstIndexInside(t0_double, dt_double, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public int lastIndexInside(final double t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return (int) BinaryTimeseries.lastIndexInside(t0_double, dt_double, t_u, numSamples);
+	}
+
+	/**
+	 * @return view of the timestamps of all samples
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public LongTimebase getTimebase_long() {
+		return getTimebase_long(0, -1);
+	}
+
+	/**
+	 * Get a view of the timestamps of the samples in the given index range, which
+	 * computes the timestamps on demand instead of materializing them.
+	 * 
+	 * @param firstDataIndex the index of the first sample
+	 * @param lastDataIndex  the index of the last sample; -1 means up to the last
+	 *                       available sample
+	 * @return view of the timestamps of the samples in the given range
+	 * @throws RuntimeException if the timestamps are not stored as {@code long} or
+	 *                          the given range is not inside the time series
+	 */
+	public LongTimebase getTimebase_long(final int firstDataIndex, final int lastDataIndex) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return new LongTimebase(t0_long, dt_long, firstDataIndex, numToRead(firstDataIndex, lastDataIndex));
+	}
+
+	/**
+	 * @return view of the timestamps of all samples; converted to {@code double}
+	 *         if the timestamps are stored as {@code long}
+	 */
+	public DoubleTimebase getTimebase_double() {
+		return getTimebase_double(0, -1);
+	}
+
+	/**
+	 * Get a view of the timestamps of the samples in the given index range, which
+	 * computes the timestamps on demand instead of materializing them.
+	 * 
+	 * @param firstDataIndex the index of the first sample
+	 * @param lastDataIndex  the index of the last sample; -1 means up to the last
+	 *                       available sample
+	 * @return view of the timestamps of the samples in the given range; converted
+	 *         to {@code double} if the timestamps are stored as {@code long}
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public DoubleTimebase getTimebase_double(final int firstDataIndex, final int lastDataIndex) {
+		return new DoubleTimebase(t0_double, dt_double, firstDataIndex, numToRead(firstDataIndex, lastDataIndex));
+	}
+
+	/**
+	 * Read all samples and put them into a {@code byte[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public byte[] readData_byte() {
+		return readData_byte(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code byte[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public byte[] readData_byte(final int firstDataIndex, final int lastDataIndex) {
+		final byte[] target = new byte[numToRead(firstDataIndex, lastDataIndex)];
+		readData_byte(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_byte(final int firstDataIndex, final int lastDataIndex, final byte[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_byte, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code byte[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public byte[] readDataInside_byte(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code byte[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public byte[] readDataInside_byte(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read all samples and put them into a {@code short[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public short[] readData_short() {
+		return readData_short(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code short[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public short[] readData_short(final int firstDataIndex, final int lastDataIndex) {
+		final short[] target = new short[numToRead(firstDataIndex, lastDataIndex)];
+		readData_short(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_short(final int firstDataIndex, final int lastDataIndex, final short[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_short, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code short[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public short[] readDataInside_short(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code short[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public short[] readDataInside_short(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read all samples and put them into a {@code int[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public int[] readData_int() {
+		return readData_int(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code int[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public int[] readData_int(final int firstDataIndex, final int lastDataIndex) {
+		final int[] target = new int[numToRead(firstDataIndex, lastDataIndex)];
+		readData_int(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_int(final int firstDataIndex, final int lastDataIndex, final int[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_int, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code int[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public int[] readDataInside_int(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code int[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public int[] readDataInside_int(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read all samples and put them into a {@code long[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public long[] readData_long() {
+		return readData_long(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code long[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public long[] readData_long(final int firstDataIndex, final int lastDataIndex) {
+		final long[] target = new long[numToRead(firstDataIndex, lastDataIndex)];
+		readData_long(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_long(final int firstDataIndex, final int lastDataIndex, final long[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_long, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code long[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public long[] readDataInside_long(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code long[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public long[] readDataInside_long(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read all samples and put them into a {@code float[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public float[] readData_float() {
+		return readData_float(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code float[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public float[] readData_float(final int firstDataIndex, final int lastDataIndex) {
+		final float[] target = new float[numToRead(firstDataIndex, lastDataIndex)];
+		readData_float(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_float(final int firstDataIndex, final int lastDataIndex, final float[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_float, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code float[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public float[] readDataInside_float(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code float[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public float[] readDataInside_float(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read all samples and put them into a {@code double[]} array.
+	 * 
+	 * @return an array containing all (scaled) samples
+	 */
+	public double[] readData_double() {
+		return readData_double(0, -1);
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into a {@code double[]}
+	 * array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public double[] readData_double(final int firstDataIndex, final int lastDataIndex) {
+		final double[] target = new double[numToRead(firstDataIndex, lastDataIndex)];
+		readData_double(firstDataIndex, lastDataIndex, target, 0);
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range and put them into the given
+	 * {@code target} array.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	public int readData_double(final int firstDataIndex, final int lastDataIndex, final double[] target,
+			final int targetOffset) {
+		return readData(firstDataIndex, lastDataIndex, decoder_double, target, targetOffset);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code double[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public double[] readDataInside_double(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] and put
+	 * them into a {@code double[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 */
+	public double[] readDataInside_double(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code byte[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public byte[] readDataParallel_byte(final int firstDataIndex, final int lastDataIndex) {
+		final byte[] target = new byte[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_byte(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_byte(final int firstDataIndex, final int lastDataIndex, final byte[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_byte, target, targetOffset, pool);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code short[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public short[] readDataParallel_short(final int firstDataIndex, final int lastDataIndex) {
+		final short[] target = new short[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_short(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_short(final int firstDataIndex, final int lastDataIndex, final short[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_short, target, targetOffset, pool);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code int[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public int[] readDataParallel_int(final int firstDataIndex, final int lastDataIndex) {
+		final int[] target = new int[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_int(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_int(final int firstDataIndex, final int lastDataIndex, final int[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_int, target, targetOffset, pool);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code long[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public long[] readDataParallel_long(final int firstDataIndex, final int lastDataIndex) {
+		final long[] target = new long[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_long(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_long(final int firstDataIndex, final int lastDataIndex, final long[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_long, target, targetOffset, pool);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code float[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public float[] readDataParallel_float(final int firstDataIndex, final int lastDataIndex) {
+		final float[] target = new float[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_float(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_float(final int firstDataIndex, final int lastDataIndex, final float[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_float, target, targetOffset, pool);
+	}
+
+	/**
+	 * Read the samples in the given index range into a {@code double[]} array,
+	 * decoding parts of the range concurrently in the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public double[] readDataParallel_double(final int firstDataIndex, final int lastDataIndex) {
+		final double[] target = new double[numToRead(firstDataIndex, lastDataIndex)];
+		readDataParallel_double(firstDataIndex, lastDataIndex, target, 0, ForkJoinPool.commonPool());
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range into the given {@code target}
+	 * array, decoding parts of the range concurrently in the given pool. Each part
+	 * is decoded through its own view of the underlying buffer directly into its
+	 * region of {@code target}.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	public int readDataParallel_double(final int firstDataIndex, final int lastDataIndex, final double[] target,
+			final int targetOffset, final ForkJoinPool pool) {
+		return readDataParallel(firstDataIndex, lastDataIndex, decoder_double, target, targetOffset, pool);
+	}
+
+	/**
+	 * Compute summary statistics of the (scaled) samples in the given index range.
+	 * The samples are decoded chunk by chunk into a small scratch array, so no
+	 * array of the size of the range is allocated.
+	 * 
+	 * @param firstDataIndex the index of the first sample to include
+	 * @param lastDataIndex  the index of the last sample to include; -1 means
+	 *                       include all available samples
+	 * @return statistics of the samples in the given range
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	public BinaryTimeseriesStatistics statistics(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final double[] chunk = new double[Math.min(numToRead, STATISTICS_CHUNK_SIZE)];
+		BinaryTimeseriesStatistics statistics = BinaryTimeseriesStatistics.EMPTY;
+		for (int numRead = 0; numRead < numToRead; numRead += chunk.length) {
+			final int numInChunk = Math.min(chunk.length, numToRead - numRead);
+			final int first = firstDataIndex + numRead;
+			readData(first, first + numInChunk - 1, decoder_double, chunk, 0);
+			statistics = statistics.merge(BinaryTimeseriesStatistics.of(chunk, 0, numInChunk));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Compute summary statistics of the (scaled) samples inside the given time
+	 * interval; see {@link #statistics(int, int)}.
+	 * 
+	 * @param t_l lower boundary of the time interval
+	 * @param t_u upper boundary of the time interval
+	 * @return statistics of the samples inside the given time interval
+	 */
+	public BinaryTimeseriesStatistics statistics(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return BinaryTimeseriesStatistics.EMPTY;
+		}
+		return statistics(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Compute summary statistics of the (scaled) samples inside the given time
+	 * interval; see {@link #statistics(int, int)}.
+	 * 
+	 * @param t_l lower boundary of the time interval
+	 * @param t_u upper boundary of the time interval
+	 * @return statistics of the samples inside the given time interval
+	 */
+	public BinaryTimeseriesStatistics statistics(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return BinaryTimeseriesStatistics.EMPTY;
+		}
+		return statistics(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Compute the number of samples in the given index range and check that it is
+	 * inside the time series.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return number of samples to read
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	private int numToRead(final int firstDataIndex, final int lastDataIndex) {
+		final int last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		if (firstDataIndex < 0 || last >= numSamples || firstDataIndex > last + 1) {
+			throw new RuntimeException("index range [" + firstDataIndex + ", " + lastDataIndex
+					+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+		}
+		return last - firstDataIndex + 1;
+	}
+
+	/**
+	 * Read the samples in the given index range part by part as provided by the
+	 * data source, e.g. segment by segment, and put them into the given
+	 * {@code target} array. Each part is accessed through its own buffer, so that
+	 * concurrent reads do not interfere through the position of a shared buffer.
+	 * 
+	 * @param <T>            type of the target array
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param decoder        decoder into the type of the target array
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @return number of samples put into {@code target}
+	 */
+	private <T> int readData(final int firstDataIndex, final int lastDataIndex, final SampleDecoder<T> decoder,
+			final T target, final int targetOffset) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		source.beginRead();
+		try {
+			if (compression != BinaryTimeseries.COMPRESSION_NONE) {
+				readCompressedData(firstDataIndex, numToRead, decoder, target, targetOffset);
+				return numToRead;
+			}
+			int numRead = 0;
+			while (numRead < numToRead) {
+				final long offset = BinaryTimeseries.fileOffset_long(dataSize, firstDataIndex + numRead);
+				final ByteBuffer view = source.acquire(offset, (long) (numToRead - numRead) * dataSize);
+				try {
+					view.order(order);
+					final int numInView = view.remaining() / dataSize;
+					decoder.decode(view, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+							scalingFactor_double, target, targetOffset + numRead, numInView);
+					numRead += numInView;
+				} finally {
+					source.release(view);
+				}
+			}
+			return numToRead;
+		} finally {
+			source.endRead();
+		}
+	}
+
+	/**
+	 * Read the samples in the given index range from compressed blocks. Only the
+	 * blocks which contain samples of the range are decoded; their raw samples are
+	 * put into a scratch buffer, from which the regular decoder reads and scales
+	 * the requested samples. The scratch memory is reused from the previous read
+	 * if possible, and a block which is still in it is not decoded again.
+	 * 
+	 * @param <T>            type of the target array
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param numToRead      number of samples to read
+	 * @param decoder        decoder into the type of the target array
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 */
+	private <T> void readCompressedData(final int firstDataIndex, final int numToRead, final SampleDecoder<T> decoder,
+			final T target, final int targetOffset) {
+		BlockScratch scratch = spareScratch.getAndSet(null);
+		if (scratch == null) {
+			scratch = new BlockScratch(blockSize, dataSize, order);
+		}
+		try {
+			final ByteBuffer raw = scratch.raw;
+			int numRead = 0;
+			while (numRead < numToRead) {
+				final int index = firstDataIndex + numRead;
+				final int block = index / blockSize;
+				final int firstInBlock = block * blockSize;
+				final int numInBlock = Math.min(blockSize, numSamples - firstInBlock);
+				if (scratch.block != block) {
+					scratch.block = -1;
+					decodeBlock(block, numInBlock, scratch);
+					raw.clear();
+					BlockCompression.writeRaw(raw, dataSize, scratch.values, numInBlock);
+					scratch.block = block;
+				}
+				raw.limit(numInBlock * dataSize);
+				raw.position((index - firstInBlock) * dataSize);
+
+				final int numFromBlock = Math.min(numToRead - numRead, numInBlock - (index - firstInBlock));
+				decoder.decode(raw, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset + numRead, numFromBlock);
+				numRead += numFromBlock;
+			}
+		} finally {
+			spareScratch.set(scratch);
+		}
+	}
+
+	/**
+	 * Decode the given compressed block into the scratch values. The compressed
+	 * bytes are decoded from an acquired view of the source, e.g. of the mapped
+	 * file or of a pooled buffer, and only copied if the block is not available
+	 * in a single view, e.g. because it crosses a segment boundary.
+	 *
+	 * @param block      index of the block to decode
+	 * @param numInBlock number of samples in the block
+	 * @param scratch    scratch memory into which to decode the block
+	 */
+	private void decodeBlock(final int block, final int numInBlock, final BlockScratch scratch) {
+		final long blockOffset = blockOffsets[block];
+		final int length = (int) (blockOffsets[block + 1] - blockOffset);
+		final ByteBuffer view = source.acquire(blockOffset, length);
+		try {
+			if (view.remaining() >= length) {
+				view.order(order);
+				BlockCompression.decodeBlock(view, scratch.values, numInBlock, scratch.words);
+				return;
+			}
+		} finally {
+			source.release(view);
+		}
+		BlockCompression.decodeBlock(bytesAt(blockOffset, length), scratch.values, numInBlock, scratch.words);
+	}
+
+	/**
+	 * Scratch memory for decoding compressed blocks, which also remembers the
+	 * block whose raw samples it holds. Only used by one read at a time.
+	 */
+	private static final class BlockScratch {
+
+		final long[] values;
+		final long[] words;
+
+		/** raw samples of the decoded block */
+		final ByteBuffer raw;
+
+		/** index of the block in {@code raw}; -1 if none */
+		int block = -1;
+
+		BlockScratch(final int blockSize, final int dataSize, final ByteOrder order) {
+			values = new long[blockSize];
+			words = new long[blockSize];
+			raw = ByteBuffer.allocate(blockSize * dataSize);
+			raw.order(order);
+		}
+	}
+
+	/**
+	 * @param offset absolute offset of the first byte
+	 * @param length number of bytes
+	 * @return buffer in the byte order of the time series, positioned at the first
+	 *         byte of the given range
+	 */
+	private ByteBuffer bytesAt(final long offset, final int length) {
+		final ByteBuffer bytes = source.bytesAt(offset, length);
+		bytes.order(order);
+		return bytes;
+	}
+
+	/**
+	 * Read the samples in the given index range by splitting it into parts of at
+	 * most {@link #PARALLEL_CHUNK_SIZE} samples, which are read concurrently in
+	 * the given pool.
+	 * 
+	 * @param <T>            type of the target array
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @param decoder        decoder into the type of the target array
+	 * @param target         array into which to put the (scaled) samples
+	 * @param targetOffset   offset in {@code target} at which to put the first
+	 *                       sample
+	 * @param pool           pool in which to decode the parts of the range
+	 * @return number of samples put into {@code target}
+	 */
+	private <T> int readDataParallel(final int firstDataIndex, final int lastDataIndex,
+			final SampleDecoder<T> decoder, final T target, final int targetOffset, final ForkJoinPool pool) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		if (numToRead > 0) {
+			// keep the source readable for all parts, so that none of them fails halfway
+			source.beginRead();
+			try {
+				pool.invoke(new ParallelRead<T>(firstDataIndex, numToRead, decoder, target, targetOffset));
+			} finally {
+				source.endRead();
+			}
+		}
+		return numToRead;
+	}
+
+	/**
+	 * Reads a part of an index range, splitting it in halves until the parts are
+	 * small enough to be read sequentially.
+	 * 
+	 * @param <T> type of the target array
+	 */
+	private final class ParallelRead<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int firstDataIndex;
+		private final int numToRead;
+		private final SampleDecoder<T> decoder;
+		private final T target;
+		private final int targetOffset;
+
+		ParallelRead(final int firstDataIndex, final int numToRead, final SampleDecoder<T> decoder, final T target,
+				final int targetOffset) {
+			this.firstDataIndex = firstDataIndex;
+			this.numToRead = numToRead;
+			this.decoder = decoder;
+			this.target = target;
+			this.targetOffset = targetOffset;
+		}
+
+		@Override
+		protected void compute() {
+			if (numToRead <= PARALLEL_CHUNK_SIZE) {
+				readData(firstDataIndex, firstDataIndex + numToRead - 1, decoder, target, targetOffset);
+			} else {
+				int half = numToRead / 2;
+				if (compression != BinaryTimeseries.COMPRESSION_NONE) {
+					// split at a block boundary, so that no block is decoded for both halves
+					final int aligned = (firstDataIndex + half) / blockSize * blockSize - firstDataIndex;
+					if (aligned > 0) {
+						half = aligned;
+					}
+				}
+				invokeAll(new ParallelRead<T>(firstDataIndex, half, decoder, target, targetOffset),
+						new ParallelRead<T>(firstDataIndex + half, numToRead - half, decoder, target,
+								targetOffset + half));
+			}
+		}
+	}
+
+	/**
+	 * @param expected_dtype expected timestamp dtype
+	 * @throws RuntimeException if the timestamps are not stored in the expected
+	 *                          dtype
+	 */
+	private void checkTimeType(final byte expected_dtype) {
+		if (time_dtype != expected_dtype) {
+			throw new RuntimeException("timestamps are stored as " + BinaryTimeseries.dtypeStr(time_dtype)
+					+ " and not as " + BinaryTimeseries.dtypeStr(expected_dtype));
+		}
+	}
+
+	/**
+	 * @param value_long   scaling value widened to {@code long}
+	 * @param value_double scaling value widened to {@code double}
+	 * @return the scaling value as an instance of the class corresponding to the
+	 *         scaling data type or {@code null} if the data has no scaling
+	 */
+	private Number scalingValue(final long value_long, final double value_double) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			return Byte.valueOf((byte) value_long);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			return Short.valueOf((short) value_long);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			return Integer.valueOf((int) value_long);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			return Long.valueOf(value_long);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			return Float.valueOf((float) value_double);
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			return Double.valueOf(value_double);
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,675 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+/**
+ * This is a class to read a time series which was recorded into several
+ * BinaryTimeseries files (shards) by a {@link BinaryTimeseriesShardedWriter}.
+ * Only the manifest is read when the reader is opened. Samples are addressed by
+ * their global index, which is of type {@code long}, and a global index or time
+ * range is resolved to the shards which overlap it, whose samples are then
+ * stitched together into one array. A shard is opened when it is read from for
+ * the first time and stays open until the reader is closed, so a query never
+ * opens shards outside of its range.
+ * <br>
+ * A reader can be used by any number of threads at the same time.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesShardedReader implements Closeable {
+
+	private final Path manifestFile;
+	private final ShardManifest manifest;
+	private final long numSamples;
+
+	/** global index of the first sample of each shard */
+	private final long[] firstSamples;
+
+	/** channels of the shards opened so far */
+	private final FileChannel[] channels;
+
+	/** readers of the shards opened so far */
+	private final BinaryTimeseriesReader[] readers;
+
+	private boolean closed;
+
+	private BinaryTimeseriesShardedReader(final Path manifestFile, final ShardManifest manifest) {
+		this.manifestFile = manifestFile;
+		this.manifest = manifest;
+		this.numSamples = manifest.totalNumSamples();
+		final int numShards = manifest.fileNames.size();
+		firstSamples = new long[numShards];
+		for (int i = 0; i < numShards; ++i) {
+			firstSamples[i] = manifest.firstSamples.get(i);
+		}
+		channels = new FileChannel[numShards];
+		readers = new BinaryTimeseriesReader[numShards];
+	}
+
+	/**
+	 * Read the manifest of a sharded time series. No shard is opened yet.
+	 * 
+	 * @param manifestFile manifest written by a
+	 *                     {@link BinaryTimeseriesShardedWriter}
+	 * @return a reader for the sharded time series
+	 * @throws IOException if the manifest could not be read
+	 */
+	public static BinaryTimeseriesShardedReader open(final Path manifestFile) throws IOException {
+		return new BinaryTimeseriesShardedReader(manifestFile, ShardManifest.read(manifestFile));
+	}
+
+	/**
+	 * Close all shards opened so far. Closing an already closed reader has no
+	 * effect.
+	 * 
+	 * @throws IOException if a shard could not be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		IOException exception = null;
+		for (int i = 0; i < channels.length; ++i) {
+			if (channels[i] != null) {
+				try {
+					channels[i].close();
+				} catch (final IOException e) {
+					exception = e;
+				}
+				channels[i] = null;
+				readers[i] = null;
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * @return the path of the manifest
+	 */
+	public Path getManifestFile() {
+		return manifestFile;
+	}
+
+	/**
+	 * @return timestamp dtype; either {@code DTYPE_LONG} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getTimeType() {
+		return manifest.time_dtype;
+	}
+
+	/**
+	 * @return reference timestamp t_0 of the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getT0_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return manifest.t0_long;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getDt_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return manifest.dt_long;
+	}
+
+	/**
+	 * @return reference timestamp t_0 of the first sample; converted to
+	 *         {@code double} if the timestamps are stored as {@code long}
+	 */
+	public double getT0_double() {
+		return manifest.t0_double;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t; converted to
+	 *         {@code double} if the timestamps are stored as {@code long}
+	 */
+	public double getDt_double() {
+		return manifest.dt_double;
+	}
+
+	/**
+	 * @return raw data type of the time series
+	 */
+	public byte getDataType() {
+		return manifest.data_dtype;
+	}
+
+	/**
+	 * @return total number of samples in all shards
+	 */
+	public long getNumSamples() {
+		return numSamples;
+	}
+
+	/**
+	 * @return number of shards
+	 */
+	public int getNumShards() {
+		return firstSamples.length;
+	}
+
+	/**
+	 * @return number of shards opened so far
+	 */
+	public synchronized int getNumOpenShards() {
+		int numOpen = 0;
+		for (final BinaryTimeseriesReader reader : readers) {
+			if (reader != null) {
+				++numOpen;
+			}
+		}
+		return numOpen;
+	}
+
+	/**
+	 * Compute the first global index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long firstIndexInside(final long t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return BinaryTimeseries.firstIndexInside(manifest.t0_long, manifest.dt_long, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last global index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long lastIndexInside(final long t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return BinaryTimeseries.lastIndexInside(manifest.t0_long, manifest.dt_long, t_u, numSamples);
+	}
+
+	/**
+	 * Compute the first global index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public long firstIndexInside(final double t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return BinaryTimeseries.firstIndexInside(manifest.t0_double, manifest.dt_double, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last global index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public long lastIndexInside(final double t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return BinaryTimeseries.lastIndexInside(manifest.t0_double, manifest.dt_double, t_u, numSamples);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code byte[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public byte[] readData_byte(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final byte[] target = new byte[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_byte(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code byte[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public byte[] readDataInside_byte(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code byte[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public byte[] readDataInside_byte(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code short[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public short[] readData_short(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final short[] target = new short[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_short(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code short[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public short[] readDataInside_short(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code short[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public short[] readDataInside_short(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code int[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public int[] readData_int(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final int[] target = new int[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_int(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code int[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public int[] readDataInside_int(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code int[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public int[] readDataInside_int(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code long[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public long[] readData_long(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final long[] target = new long[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_long(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code long[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public long[] readDataInside_long(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code long[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public long[] readDataInside_long(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code float[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public float[] readData_float(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final float[] target = new float[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_float(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code float[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public float[] readDataInside_float(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code float[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public float[] readDataInside_float(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given global index range from all shards which
+	 * overlap it and put them into a {@code double[]} array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read; -1 means
+	 *                       read all available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 * @throws IOException if a shard could not be opened
+	 */
+	public double[] readData_double(final long firstDataIndex, final long lastDataIndex) throws IOException {
+		final long last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		final double[] target = new double[numToRead(firstDataIndex, last)];
+		int numRead = 0;
+		for (int s = shardIndex(firstDataIndex); numRead < target.length; ++s) {
+			numRead += shard(s).readData_double(localIndex(s, firstDataIndex + numRead), localIndex(s, last), target,
+					numRead);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code double[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public double[] readDataInside_double(final long t_l, final long t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples inside the time interval [{@code t_l}, {@code t_u}] from all
+	 * shards which overlap it and put them into a {@code double[]} array.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return an array containing the (scaled) samples inside the given time
+	 *         interval
+	 * @throws IOException if a shard could not be opened
+	 */
+	public double[] readDataInside_double(final double t_l, final double t_u) throws IOException {
+		final long firstDataIndex = firstIndexInside(t_l);
+		final long lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Compute the number of samples in the given global index range and check
+	 * that it is inside the time series and fits into an array.
+	 * 
+	 * @param firstDataIndex the global index of the first sample to read
+	 * @param lastDataIndex  the global index of the last sample to read
+	 * @return number of samples to read
+	 * @throws RuntimeException if the given range is not inside the time series or
+	 *                          too long for an array
+	 */
+	private int numToRead(final long firstDataIndex, final long lastDataIndex) {
+		if (firstDataIndex < 0 || lastDataIndex >= numSamples || firstDataIndex > lastDataIndex + 1) {
+			throw new RuntimeException("index range [" + firstDataIndex + ", " + lastDataIndex
+					+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+		}
+		final long numToRead = lastDataIndex - firstDataIndex + 1;
+		if (numToRead > Integer.MAX_VALUE) {
+			throw new RuntimeException("cannot read " + numToRead + " samples into a single array");
+		}
+		return (int) numToRead;
+	}
+
+	/**
+	 * @param globalIndex global index of a sample inside the time series
+	 * @return index of the shard containing the sample
+	 */
+	private int shardIndex(final long globalIndex) {
+		final int index = Collections.binarySearch(manifest.firstSamples, globalIndex);
+		return (index >= 0) ? index : -index - 2;
+	}
+
+	/**
+	 * @param shard       index of a shard
+	 * @param globalIndex global index of a sample
+	 * @return index of the sample within the shard, limited to the samples of the
+	 *         shard
+	 */
+	private int localIndex(final int shard, final long globalIndex) {
+		return (int) Math.min(manifest.numSamples.get(shard) - 1, globalIndex - firstSamples[shard]);
+	}
+
+	/**
+	 * Get the reader of a shard and open the shard if this is the first access.
+	 * 
+	 * @param index index of the shard
+	 * @return reader of the shard
+	 * @throws IOException      if the shard could not be opened
+	 * @throws RuntimeException if the reader has been closed or the shard holds
+	 *                          fewer samples than recorded in the manifest
+	 */
+	private synchronized BinaryTimeseriesReader shard(final int index) throws IOException {
+		if (closed) {
+			throw new RuntimeException("reader for '" + manifestFile + "' has already been closed");
+		}
+		if (readers[index] == null) {
+			final Path file = manifestFile.resolveSibling(manifest.fileNames.get(index));
+			final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			try {
+				final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(channel);
+				if (reader.getNumSamples() < manifest.numSamples.get(index)) {
+					throw new RuntimeException("shard '" + file + "' contains only " + reader.getNumSamples()
+							+ " samples instead of " + manifest.numSamples.get(index));
+				}
+				channels[index] = channel;
+				readers[index] = reader;
+			} catch (final RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+		return readers[index];
+	}
+
+	/**
+	 * @param expected_dtype expected timestamp dtype
+	 * @throws RuntimeException if the timestamps are not stored in the expected
+	 *                          dtype
+	 */
+	private void checkTimeType(final byte expected_dtype) {
+		if (manifest.time_dtype != expected_dtype) {
+			throw new RuntimeException("timestamps are stored as " + BinaryTimeseries.dtypeStr(manifest.time_dtype)
+					+ " and not as " + BinaryTimeseries.dtypeStr(expected_dtype));
+		}
+	}
+}
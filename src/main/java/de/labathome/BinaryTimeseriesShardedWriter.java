@@ -0,0 +1,455 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * This is a class to record a time series which is too long for a single
+ * BinaryTimeseries file, e.g. a continuous acquisition over many hours. A
+ * single file holds at most {@link Integer#MAX_VALUE} samples, so the samples
+ * are written by a {@link BinaryTimeseriesWriter} into a sequence of files
+ * (shards) instead, and the writer rolls over to a new shard whenever the
+ * current one reaches a maximum number of samples or bytes. Every shard is a
+ * regular BinaryTimeseries file, whose reference timestamp is
+ * {@code t0 + shardStart * dt}, where {@code shardStart} is the global index of
+ * its first sample, so each shard can also be read on its own.
+ * <br>
+ * The shards are recorded in a small manifest file, which is rewritten
+ * atomically whenever a shard is completed and on {@link #flush()} and
+ * {@link #close()}. The shard files are placed next to the manifest and named
+ * after it, e.g. {@code recording.00000.bts}, {@code recording.00001.bts}, ...
+ * for the manifest {@code recording.btsm}. Use a
+ * {@link BinaryTimeseriesShardedReader} to read the whole time series.
+ * <br>
+ * A writer is not safe for use by multiple threads at the same time.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesShardedWriter implements Closeable {
+
+	/**
+	 * Default maximum size of a shard: 1 GB
+	 */
+	public static final long DEFAULT_MAX_SHARD_SIZE = 1L << 30;
+
+	private final Path manifestFile;
+	private final ShardManifest manifest;
+	private final Object scalingOffset;
+	private final Object scalingFactor;
+
+	/** maximum number of samples per shard from both thresholds */
+	private final int maxShardSamples;
+
+	/** writer of the current shard; {@code null} until the first sample arrives */
+	private BinaryTimeseriesWriter shard;
+
+	private boolean closed;
+
+	private BinaryTimeseriesShardedWriter(final Path manifestFile, final ShardManifest manifest,
+			final Object scalingOffset, final Object scalingFactor, final int maxShardSamples) {
+		this.manifestFile = manifestFile;
+		this.manifest = manifest;
+		this.scalingOffset = scalingOffset;
+		this.scalingFactor = scalingFactor;
+		this.maxShardSamples = maxShardSamples;
+	}
+
+	/**
+	 * Start a new sharded recording without scaling, whose shards hold at most
+	 * {@link #DEFAULT_MAX_SHARD_SIZE} bytes.
+	 * 
+	 * @param manifestFile manifest file to create; an existing file is overwritten
+	 * @param t0           reference timestamp; can be {@code double} or
+	 *                     {@code long}
+	 * @param dt           time interval between two consecutive samples; can be
+	 *                     {@code double} or {@code long}
+	 * @param data_dtype   raw data type; one of {@code DTYPE_BYTE},
+	 *                     {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *                     {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *                     {@code DTYPE_DOUBLE}
+	 * @return a writer to which the samples can be appended
+	 * @throws IOException if the manifest could not be written
+	 */
+	public static BinaryTimeseriesShardedWriter create(final Path manifestFile, Object t0, Object dt,
+			final byte data_dtype) throws IOException {
+		return create(manifestFile, Integer.MAX_VALUE, DEFAULT_MAX_SHARD_SIZE, t0, dt, data_dtype, null, null);
+	}
+
+	/**
+	 * Start a new sharded recording. The writer rolls over to a new shard as soon
+	 * as the current one would exceed either of the given thresholds.
+	 * 
+	 * @param manifestFile    manifest file to create; an existing file is
+	 *                        overwritten
+	 * @param maxShardSamples maximum number of samples per shard; must be positive
+	 * @param maxShardSize    maximum size of a shard in bytes, including the
+	 *                        header; must leave room for at least one sample
+	 * @param t0              reference timestamp; can be {@code double} or
+	 *                        {@code long}
+	 * @param dt              time interval between two consecutive samples; can be
+	 *                        {@code double} or {@code long}
+	 * @param data_dtype      raw data type; one of {@code DTYPE_BYTE},
+	 *                        {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *                        {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *                        {@code DTYPE_DOUBLE}
+	 * @param scalingOffset   scaling offset of the raw data to be saved into each
+	 *                        shard; can be {@code null}, {@code byte},
+	 *                        {@code short}, {@code int}, {@code long},
+	 *                        {@code float} or {@code double}
+	 * @param scalingFactor   scaling factor of the raw data to be saved into each
+	 *                        shard; can be {@code null}, {@code byte},
+	 *                        {@code short}, {@code int}, {@code long},
+	 *                        {@code float} or {@code double}
+	 * @return a writer to which the samples can be appended
+	 * @throws IOException if the manifest could not be written
+	 */
+	public static BinaryTimeseriesShardedWriter create(final Path manifestFile, final int maxShardSamples,
+			final long maxShardSize, Object t0, Object dt, final byte data_dtype, Object scalingOffset,
+			Object scalingFactor) throws IOException {
+		final int dataSize = BinaryTimeseries.dtypeSize(data_dtype);
+		final long maxSamples = Math.min(maxShardSamples, (maxShardSize - 64) / dataSize);
+		if (maxSamples < 1) {
+			throw new RuntimeException("a shard of at most " + maxShardSamples + " samples and " + maxShardSize
+					+ " bytes cannot hold a single sample");
+		}
+
+		// check all header parameters before touching the file system
+		BinaryTimeseries.writeHeader(ByteBuffer.allocate(64), t0, dt, scalingOffset, scalingFactor, data_dtype, 0);
+
+		final ShardManifest manifest = new ShardManifest(t0, dt, data_dtype);
+		manifest.write(manifestFile);
+		return new BinaryTimeseriesShardedWriter(manifestFile, manifest, scalingOffset, scalingFactor,
+				(int) maxSamples);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_BYTE}
+	 */
+	public void append(final byte[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_BYTE}
+	 */
+	public void append(final byte[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_BYTE);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_SHORT}
+	 */
+	public void append(final short[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_SHORT}
+	 */
+	public void append(final short[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_SHORT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_INT}
+	 */
+	public void append(final int[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_INT}
+	 */
+	public void append(final int[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_INT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_LONG}
+	 */
+	public void append(final long[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_LONG}
+	 */
+	public void append(final long[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_LONG);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_FLOAT}
+	 */
+	public void append(final float[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_FLOAT}
+	 */
+	public void append(final float[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_FLOAT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_DOUBLE}
+	 */
+	public void append(final double[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples could not be written
+	 * @throws RuntimeException if the raw data type of this time series is not
+	 *                          {@code DTYPE_DOUBLE}
+	 */
+	public void append(final double[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_DOUBLE);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Flush the current shard and update the manifest, so that all samples
+	 * appended so far can be read, also if the recording is interrupted later on.
+	 * 
+	 * @throws IOException if the shard or the manifest could not be written
+	 */
+	public void flush() throws IOException {
+		checkNotClosed();
+		if (shard != null) {
+			shard.flush();
+			updateManifest();
+		}
+	}
+
+	/**
+	 * Close the current shard and write the final manifest. Closing an already
+	 * closed writer has no effect.
+	 * 
+	 * @throws IOException if the shard or the manifest could not be written
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (shard != null) {
+			shard.close();
+			updateManifest();
+		}
+	}
+
+	/**
+	 * @return the path of the manifest written by this writer
+	 */
+	public Path getManifestFile() {
+		return manifestFile;
+	}
+
+	/**
+	 * @return raw data type of the time series
+	 */
+	public byte getDataType() {
+		return manifest.data_dtype;
+	}
+
+	/**
+	 * @return maximum number of samples per shard
+	 */
+	public int getMaxShardSamples() {
+		return maxShardSamples;
+	}
+
+	/**
+	 * @return number of shards started so far
+	 */
+	public int getNumShards() {
+		return manifest.fileNames.size();
+	}
+
+	/**
+	 * @return number of samples appended so far to all shards
+	 */
+	public long getNumSamples() {
+		if (shard == null) {
+			return 0;
+		}
+		final int last = manifest.firstSamples.size() - 1;
+		return manifest.firstSamples.get(last) + shard.getNumSamples();
+	}
+
+	/**
+	 * Append the given samples to the current shard and roll over to a new shard
+	 * whenever the current one is full.
+	 * 
+	 * @param values raw data array of the type of this time series
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the samples, a shard or the manifest could not be
+	 *                     written
+	 */
+	private void appendRawData(final Object values, final int offset, final int length) throws IOException {
+		checkNotClosed();
+		int numAppended = 0;
+		while (numAppended < length) {
+			if (shard == null || shard.getNumSamples() == maxShardSamples) {
+				nextShard();
+			}
+			final int numToAppend = Math.min(length - numAppended, maxShardSamples - shard.getNumSamples());
+			shard.appendRawData(values, offset + numAppended, numToAppend);
+			numAppended += numToAppend;
+		}
+	}
+
+	/**
+	 * Complete the current shard, if any, and start the next one, whose reference
+	 * timestamp is that of its first sample.
+	 * 
+	 * @throws IOException if a shard or the manifest could not be written
+	 */
+	private void nextShard() throws IOException {
+		final long firstSample = getNumSamples();
+		if (shard != null) {
+			shard.close();
+			updateManifest();
+		}
+
+		final String fileName = shardFileName(manifestFile, manifest.fileNames.size());
+		shard = BinaryTimeseriesWriter.create(manifestFile.resolveSibling(fileName), manifest.shardT0(firstSample),
+				manifest.dt(), manifest.data_dtype, scalingOffset, scalingFactor);
+		manifest.add(firstSample, 0, fileName);
+		manifest.write(manifestFile);
+	}
+
+	/**
+	 * Set the number of samples of the current shard in the manifest to the
+	 * number of samples written to it and rewrite the manifest.
+	 * 
+	 * @throws IOException if the manifest could not be written
+	 */
+	private void updateManifest() throws IOException {
+		manifest.numSamples.set(manifest.numSamples.size() - 1, shard.getNumSamples());
+		manifest.write(manifestFile);
+	}
+
+	/**
+	 * @param manifestFile manifest of the sharded time series
+	 * @param index        index of the shard
+	 * @return file name of the shard: the name of the manifest without its
+	 *         extension, followed by the zero-padded index and {@code .bts}
+	 */
+	static String shardFileName(final Path manifestFile, final int index) {
+		String baseName = manifestFile.getFileName().toString();
+		final int extension = baseName.lastIndexOf('.');
+		if (extension > 0) {
+			baseName = baseName.substring(0, extension);
+		}
+		return String.format("%s.%05d.bts", baseName, index);
+	}
+
+	/**
+	 * @param dtype raw data type of the samples to append
+	 * @throws RuntimeException if the given type is not the raw data type of this
+	 *                          time series
+	 */
+	private void checkDataType(final byte dtype) {
+		if (dtype != manifest.data_dtype) {
+			throw new RuntimeException("cannot append " + BinaryTimeseries.dtypeStr(dtype)
+					+ " samples to a time series of " + BinaryTimeseries.dtypeStr(manifest.data_dtype) + " samples");
+		}
+	}
+
+	/**
+	 * @throws RuntimeException if this writer has been closed
+	 */
+	private void checkNotClosed() {
+		if (closed) {
+			throw new RuntimeException("writer for '" + manifestFile + "' has already been closed");
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package de.labathome;
+
+/**
+ * Summary statistics of the (scaled) samples in a range of a BinaryTimeseries:
+ * number of samples, minimum, maximum, sum, mean and root-mean-square. These
+ * are computed by {@link BinaryTimeseriesReader#statistics(int, int)} while
+ * decoding the samples, without materializing the samples in an array.
+ * Statistics of adjacent ranges can be combined using {@link #merge}.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class BinaryTimeseriesStatistics {
+
+	/** statistics of an empty range */
+	static final BinaryTimeseriesStatistics EMPTY = new BinaryTimeseriesStatistics(0, Double.NaN, Double.NaN, 0.0,
+			0.0);
+
+	private final long count;
+	private final double min;
+	private final double max;
+	private final double sum;
+	private final double sumOfSquares;
+
+	BinaryTimeseriesStatistics(final long count, final double min, final double max, final double sum,
+			final double sumOfSquares) {
+		this.count = count;
+		this.min = min;
+		this.max = max;
+		this.sum = sum;
+		this.sumOfSquares = sumOfSquares;
+	}
+
+	/**
+	 * Compute the statistics of a part of an array.
+	 *
+	 * @param values array of samples
+	 * @param offset index of the first sample to include
+	 * @param length number of samples to include
+	 * @return statistics of the given samples
+	 */
+	static BinaryTimeseriesStatistics of(final double[] values, final int offset, final int length) {
+		if (length == 0) {
+			return EMPTY;
+		}
+		double min = values[offset];
+		double max = values[offset];
+		double sum = 0.0;
+		double sumOfSquares = 0.0;
+		final int end = offset + length;
+		for (int i = offset; i < end; ++i) {
+			final double value = values[i];
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			sum += value;
+			sumOfSquares += value * value;
+		}
+		return new BinaryTimeseriesStatistics(length, min, max, sum, sumOfSquares);
+	}
+
+	/**
+	 * Combine these statistics with the statistics of another range.
+	 *
+	 * @param other statistics of another range
+	 * @return statistics of both ranges together
+	 */
+	public BinaryTimeseriesStatistics merge(final BinaryTimeseriesStatistics other) {
+		if (other.count == 0) {
+			return this;
+		} else if (count == 0) {
+			return other;
+		}
+		return new BinaryTimeseriesStatistics(count + other.count, Math.min(min, other.min), Math.max(max, other.max),
+				sum + other.sum, sumOfSquares + other.sumOfSquares);
+	}
+
+	/**
+	 * @return number of samples
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return minimum of the samples; {@code NaN} if there are no samples
+	 */
+	public double getMin() {
+		return min;
+	}
+
+	/**
+	 * @return maximum of the samples; {@code NaN} if there are no samples
+	 */
+	public double getMax() {
+		return max;
+	}
+
+	/**
+	 * @return sum of the samples
+	 */
+	public double getSum() {
+		return sum;
+	}
+
+	/**
+	 * @return mean of the samples; {@code NaN} if there are no samples
+	 */
+	public double getMean() {
+		return (count == 0) ? Double.NaN : sum / count;
+	}
+
+	/**
+	 * @return root-mean-square of the samples; {@code NaN} if there are no samples
+	 */
+	public double getRms() {
+		return (count == 0) ? Double.NaN : Math.sqrt(sumOfSquares / count);
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + count + " min=" + min + " max=" + max + " sum=" + sum + " mean=" + getMean() + " rms="
+				+ getRms();
+	}
+}
@@ -0,0 +1,508 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * This is a class to record a BinaryTimeseries file of unknown length chunk by
+ * chunk, e.g. while the samples arrive from a data acquisition system. The
+ * header is written when the file is created, with the number of samples set
+ * to zero. Appended samples are collected in a fixed-size staging buffer and
+ * written to the end of the file whenever it is full, so the heap usage does
+ * not depend on the length of the recording. The length of the file is set
+ * in large extents, so that it is not updated on every write. The extents are
+ * not written in advance, so every byte of the recording is written only once;
+ * the file system allocates the disk space as the samples are written.
+ * The number of samples in the header is updated on {@link #flush()} and
+ * {@link #close()}; the latter also truncates the file to its exact size.
+ * The staging buffer is taken from the shared {@link DirectBufferPool} and
+ * the file is written in native byte order, so that no byte swapping is needed.
+ * <br>
+ * A writer is not safe for use by multiple threads at the same time.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BinaryTimeseriesWriter implements Closeable {
+
+	/**
+	 * Default size of the extents by which the file is grown: 64 MB
+	 */
+	public static final long DEFAULT_EXTENT_SIZE = 64L << 20;
+
+	/**
+	 * Size of the staging buffer in which appended samples are collected: 1 MB
+	 */
+	static final int STAGING_SIZE = 1 << 20;
+
+	/**
+	 * Offset of the number of samples in the header
+	 */
+	private static final int NUM_SAMPLES_OFFSET = 60;
+
+	private final Path file;
+	private final RandomAccessFile memoryFile;
+	private final FileChannel channel;
+	private final byte data_dtype;
+	private final int dataSize;
+	private final long extentSize;
+	private final ByteBuffer staging;
+
+	/** number of samples appended so far, including the staged ones */
+	private long numSamples;
+
+	/** number of samples already written to the file */
+	private long numWritten;
+
+	/** current length of the file in bytes */
+	private long allocated;
+
+	private boolean closed;
+
+	private BinaryTimeseriesWriter(final Path file, final RandomAccessFile memoryFile, final byte data_dtype,
+			final long extentSize) {
+		this.file = file;
+		this.memoryFile = memoryFile;
+		this.channel = memoryFile.getChannel();
+		this.data_dtype = data_dtype;
+		this.dataSize = BinaryTimeseries.dtypeSize(data_dtype);
+		this.extentSize = extentSize;
+		this.staging = DirectBufferPool.SHARED.acquire(STAGING_SIZE);
+	}
+
+	/**
+	 * Create a new BinaryTimeseries file without scaling and write its header.
+	 * 
+	 * @param file       file to create; an existing file is overwritten
+	 * @param t0         reference timestamp; can be {@code double} or {@code long}
+	 * @param dt         reference timestamp; can be {@code double} or {@code long}
+	 * @param data_dtype raw data type; one of {@code DTYPE_BYTE},
+	 *                   {@code DTYPE_SHORT}, {@code DTYPE_INT}, {@code DTYPE_LONG},
+	 *                   {@code DTYPE_FLOAT} or {@code DTYPE_DOUBLE}
+	 * @return a writer to which the samples can be appended
+	 * @throws IOException if the file could not be created
+	 */
+	public static BinaryTimeseriesWriter create(final Path file, Object t0, Object dt, final byte data_dtype)
+			throws IOException {
+		return create(file, DEFAULT_EXTENT_SIZE, t0, dt, data_dtype, null, null);
+	}
+
+	/**
+	 * Create a new BinaryTimeseries file and write its header.
+	 * 
+	 * @param file          file to create; an existing file is overwritten
+	 * @param t0            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param dt            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param data_dtype    raw data type; one of {@code DTYPE_BYTE},
+	 *                      {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *                      {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *                      {@code DTYPE_DOUBLE}
+	 * @param scalingOffset scaling offset of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param scalingFactor scaling factor of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @return a writer to which the samples can be appended
+	 * @throws IOException if the file could not be created
+	 */
+	public static BinaryTimeseriesWriter create(final Path file, Object t0, Object dt, final byte data_dtype,
+			Object scalingOffset, Object scalingFactor) throws IOException {
+		return create(file, DEFAULT_EXTENT_SIZE, t0, dt, data_dtype, scalingOffset, scalingFactor);
+	}
+
+	/**
+	 * Create a new BinaryTimeseries file which is grown in extents of the given
+	 * size and write its header.
+	 * 
+	 * @param file          file to create; an existing file is overwritten
+	 * @param extentSize    number of bytes by which the file is grown when it is
+	 *                      full; must be positive
+	 * @param t0            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param dt            reference timestamp; can be {@code double} or
+	 *                      {@code long}
+	 * @param data_dtype    raw data type; one of {@code DTYPE_BYTE},
+	 *                      {@code DTYPE_SHORT}, {@code DTYPE_INT},
+	 *                      {@code DTYPE_LONG}, {@code DTYPE_FLOAT} or
+	 *                      {@code DTYPE_DOUBLE}
+	 * @param scalingOffset scaling offset of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @param scalingFactor scaling factor of the raw data to be saved into the
+	 *                      file; can be {@code null}, {@code byte}, {@code short},
+	 *                      {@code int}, {@code long}, {@code float} or
+	 *                      {@code double}
+	 * @return a writer to which the samples can be appended
+	 * @throws IOException if the file could not be created
+	 */
+	public static BinaryTimeseriesWriter create(final Path file, final long extentSize, Object t0, Object dt,
+			final byte data_dtype, Object scalingOffset, Object scalingFactor) throws IOException {
+		if (extentSize <= 0) {
+			throw new RuntimeException("extent size must be positive but is " + extentSize);
+		}
+		BinaryTimeseries.dtypeSize(data_dtype);
+
+		// check all header parameters before touching the file
+		final ByteBuffer header = ByteBuffer.allocate(64);
+		header.order(ByteOrder.nativeOrder());
+		BinaryTimeseries.writeHeader(header, t0, dt, scalingOffset, scalingFactor, data_dtype, 0);
+		header.flip();
+
+		final RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "rw");
+		try {
+			memoryFile.setLength(0);
+			final BinaryTimeseriesWriter writer = new BinaryTimeseriesWriter(file, memoryFile, data_dtype,
+					extentSize);
+			writer.ensureCapacity(header.remaining());
+			writer.writeFully(header, 0);
+			return writer;
+		} catch (IOException | RuntimeException e) {
+			memoryFile.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_BYTE}
+	 */
+	public void append(final byte[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_BYTE}
+	 */
+	public void append(final byte[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_BYTE);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_SHORT}
+	 */
+	public void append(final short[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_SHORT}
+	 */
+	public void append(final short[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_SHORT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_INT}
+	 */
+	public void append(final int[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_INT}
+	 */
+	public void append(final int[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_INT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_LONG}
+	 */
+	public void append(final long[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_LONG}
+	 */
+	public void append(final long[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_LONG);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_FLOAT}
+	 */
+	public void append(final float[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_FLOAT}
+	 */
+	public void append(final float[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_FLOAT);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Append the given samples to the time series.
+	 * 
+	 * @param values samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_DOUBLE}
+	 */
+	public void append(final double[] values) throws IOException {
+		append(values, 0, values.length);
+	}
+
+	/**
+	 * Append {@code length} samples from {@code values}, starting at
+	 * {@code offset}, to the time series.
+	 * 
+	 * @param values samples to append
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 * @throws RuntimeException if the raw data type of this file is not
+	 *                          {@code DTYPE_DOUBLE}
+	 */
+	public void append(final double[] values, final int offset, final int length) throws IOException {
+		checkDataType(BinaryTimeseries.DTYPE_DOUBLE);
+		appendRawData(values, offset, length);
+	}
+
+	/**
+	 * Write all staged samples to the file and update the number of samples in
+	 * the header, so that the samples appended so far can be read from the file,
+	 * also if the recording is interrupted later on.
+	 * 
+	 * @throws IOException if the file could not be written
+	 */
+	public void flush() throws IOException {
+		checkNotClosed();
+		writeStaged();
+		writeNumSamples();
+		channel.force(false);
+	}
+
+	/**
+	 * Write all staged samples to the file, update the number of samples in the
+	 * header, truncate the file to the size of the time series and close it.
+	 * Closing an already closed writer has no effect.
+	 * 
+	 * @throws IOException if the file could not be written
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			writeStaged();
+			writeNumSamples();
+			memoryFile.setLength(BinaryTimeseries.fileOffset_long(dataSize, numWritten));
+		} finally {
+			memoryFile.close();
+			DirectBufferPool.SHARED.release(staging);
+		}
+	}
+
+	/**
+	 * @return the path of the file written by this writer
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return raw data type of the time series
+	 */
+	public byte getDataType() {
+		return data_dtype;
+	}
+
+	/**
+	 * @return number of samples appended so far, including those which are not
+	 *         yet written to the file
+	 */
+	public int getNumSamples() {
+		return (int) numSamples;
+	}
+
+	/**
+	 * Collect the given samples in the staging buffer and write the staging buffer
+	 * to the file whenever it is full.
+	 * 
+	 * @param values raw data array of the type of this time series
+	 * @param offset index of the first sample in {@code values} to append
+	 * @param length number of samples to append
+	 * @throws IOException if the staged samples could not be written to the file
+	 */
+	void appendRawData(final Object values, final int offset, final int length) throws IOException {
+		checkNotClosed();
+		if (numSamples + length > Integer.MAX_VALUE) {
+			throw new RuntimeException("a BinaryTimeseries can contain at most " + Integer.MAX_VALUE
+					+ " samples, but " + numSamples + " + " + length + " were given");
+		}
+		int numAppended = 0;
+		while (numAppended < length) {
+			final int numToStage = Math.min(length - numAppended, staging.remaining() / dataSize);
+			if (numToStage == 0) {
+				writeStaged();
+				continue;
+			}
+			BinaryTimeseries.writeRawData(staging, values, offset + numAppended, numToStage);
+			numAppended += numToStage;
+			numSamples += numToStage;
+		}
+	}
+
+	/**
+	 * Write the contents of the staging buffer to the end of the time series in the
+	 * file.
+	 * 
+	 * @throws IOException if the file could not be written
+	 */
+	private void writeStaged() throws IOException {
+		staging.flip();
+		final long position = BinaryTimeseries.fileOffset_long(dataSize, numWritten);
+		ensureCapacity(position + staging.remaining());
+		writeFully(staging, position);
+		staging.clear();
+		numWritten = numSamples;
+	}
+
+	/**
+	 * Update the number of samples in the header to the number of samples written
+	 * to the file.
+	 * 
+	 * @throws IOException if the file could not be written
+	 */
+	private void writeNumSamples() throws IOException {
+		final ByteBuffer numSamplesBuffer = ByteBuffer.allocate(Integer.BYTES).order(staging.order());
+		numSamplesBuffer.putInt((int) numWritten);
+		numSamplesBuffer.flip();
+		writeFully(numSamplesBuffer, NUM_SAMPLES_OFFSET);
+	}
+
+	/**
+	 * Grow the file by as many extents as needed to hold the given number of
+	 * bytes. Only the length of the file is set; the new extents are filled by
+	 * the following writes.
+	 * 
+	 * @param size number of bytes the file has to hold
+	 * @throws IOException if the file could not be grown
+	 */
+	private void ensureCapacity(final long size) throws IOException {
+		if (size > allocated) {
+			allocated = (size + extentSize - 1) / extentSize * extentSize;
+			memoryFile.setLength(allocated);
+		}
+	}
+
+	/**
+	 * Write the remaining bytes of the given buffer into the file at the given
+	 * position.
+	 * 
+	 * @param source   buffer to write
+	 * @param position position in the file at which to write the buffer
+	 * @throws IOException if the file could not be written
+	 */
+	private void writeFully(final ByteBuffer source, final long position) throws IOException {
+		long filePosition = position;
+		while (source.hasRemaining()) {
+			filePosition += channel.write(source, filePosition);
+		}
+	}
+
+	/**
+	 * @param dtype raw data type of the samples to append
+	 * @throws RuntimeException if the given type is not the raw data type of this
+	 *                          time series
+	 */
+	private void checkDataType(final byte dtype) {
+		if (dtype != data_dtype) {
+			throw new RuntimeException("cannot append " + BinaryTimeseries.dtypeStr(dtype)
+					+ " samples to a time series of " + BinaryTimeseries.dtypeStr(data_dtype) + " samples");
+		}
+	}
+
+	/**
+	 * @throws RuntimeException if this writer has been closed
+	 */
+	private void checkNotClosed() {
+		if (closed) {
+			throw new RuntimeException("writer for '" + file + "' has already been closed");
+		}
+	}
+}
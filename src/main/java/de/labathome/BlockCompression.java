@@ -0,0 +1,262 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Block-wise compression of the raw data of a BinaryTimeseries. The samples are
+ * split into blocks of a fixed number of samples, which are encoded
+ * independently of each other, so that reading an index range only requires
+ * decoding the blocks which contain the range.
+ * <br>
+ * The compressed variant is indicated by {@link BinaryTimeseries#COMPRESSION_DELTA_FOR}
+ * in the first reserved header byte at offset 36. The rest of the header is
+ * unchanged, i.e., it still contains the raw data type and the number of
+ * samples. The data section at offset 64 is replaced by:
+ * <ul>
+ * <li>the number of samples per block as {@code int} (offset 64)</li>
+ * <li>the number of blocks as {@code int} (offset 68)</li>
+ * <li>the block offset table: numBlocks + 1 absolute offsets as {@code long}
+ * (offset 72); the last entry is the end of the last block</li>
+ * <li>the encoded blocks</li>
+ * </ul>
+ * Each block is encoded as the first raw value as {@code long}, the minimum
+ * difference between consecutive raw values as {@code long}, the number of bits
+ * per packed difference as {@code byte} and the differences minus the minimum
+ * difference, packed into {@code long} words starting at the least significant
+ * bit. The raw values are taken as their (sign-extended) bit patterns, so the
+ * encoding is lossless for all data types, but only integer data from slowly
+ * varying signals (e.g. ADC samples) compresses well.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class BlockCompression {
+
+	/** default number of samples per block */
+	static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	/** offset of the compression flag in the header, i.e. the first reserved byte */
+	static final int COMPRESSION_OFFSET = 36;
+
+	/** offset of the number of samples per block */
+	static final int BLOCK_SIZE_OFFSET = 64;
+
+	/** offset of the number of blocks */
+	static final int NUM_BLOCKS_OFFSET = 68;
+
+	/** offset of the block offset table */
+	static final int TABLE_OFFSET = 72;
+
+	private BlockCompression() {
+	}
+
+	/**
+	 * Create the compressed variant of an uncompressed BinaryTimeseries.
+	 *
+	 * @param source    buffer containing an uncompressed BinaryTimeseries starting
+	 *                  at its current position; its position is not modified
+	 * @param blockSize number of samples per block
+	 * @return new buffer containing the compressed BinaryTimeseries in the byte
+	 *         order of {@code source}, positioned at its start
+	 * @throws RuntimeException if {@code source} is already compressed or the
+	 *                          compressed time series would be too large for a
+	 *                          single buffer
+	 */
+	static ByteBuffer compress(final ByteBuffer source, final int blockSize) {
+		if (blockSize < 1) {
+			throw new RuntimeException("block size must be positive, but is " + blockSize);
+		}
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+		if (reader.getCompression() != BinaryTimeseries.COMPRESSION_NONE) {
+			throw new RuntimeException("source is already compressed");
+		}
+		final int numSamples = reader.getNumSamples();
+		final byte data_dtype = reader.getDataType();
+		final int numBlocks = (int) ((numSamples + (long) blockSize - 1) / blockSize);
+		final long maxSize = TABLE_OFFSET + 8L * (numBlocks + 1) + (long) numBlocks * maxEncodedSize(blockSize);
+		if (maxSize > Integer.MAX_VALUE) {
+			throw new RuntimeException("compressed time series of " + numSamples
+					+ " samples might not fit into a single buffer");
+		}
+
+		final ByteBuffer view = source.slice();
+		view.order(reader.getByteOrder());
+		final ByteBuffer target = ByteBuffer.allocate((int) maxSize);
+		target.order(reader.getByteOrder());
+		for (int i = 0; i < 64; ++i) {
+			target.put(view.get(i));
+		}
+		target.put(COMPRESSION_OFFSET, BinaryTimeseries.COMPRESSION_DELTA_FOR);
+		target.putInt(BLOCK_SIZE_OFFSET, blockSize);
+		target.putInt(NUM_BLOCKS_OFFSET, numBlocks);
+
+		final long[] values = new long[blockSize];
+		final long[] words = new long[blockSize];
+		final int dataSize = BinaryTimeseries.dtypeSize(data_dtype);
+		view.position(64);
+		target.position(TABLE_OFFSET + 8 * (numBlocks + 1));
+		for (int block = 0; block < numBlocks; ++block) {
+			target.putLong(TABLE_OFFSET + 8 * block, target.position());
+			final int numInBlock = Math.min(blockSize, numSamples - block * blockSize);
+			readRaw(view, dataSize, values, numInBlock);
+			encodeBlock(values, numInBlock, words, target);
+		}
+		target.putLong(TABLE_OFFSET + 8 * numBlocks, target.position());
+
+		// copy into a buffer of the actual size to not keep the worst-case allocation
+		target.flip();
+		final ByteBuffer compressed = ByteBuffer.allocate(target.remaining());
+		compressed.order(reader.getByteOrder());
+		compressed.put(target);
+		compressed.flip();
+		return compressed;
+	}
+
+	/**
+	 * @param blockSize number of samples per block
+	 * @return maximum number of bytes of an encoded block
+	 */
+	static int maxEncodedSize(final int blockSize) {
+		return 8 + 8 + 1 + 8 * (blockSize - 1);
+	}
+
+	/**
+	 * Encode {@code n} raw values into the {@code target} buffer, starting at its
+	 * current position.
+	 *
+	 * @param values raw values to encode
+	 * @param n      number of values to encode; at least 1
+	 * @param words  scratch array with room for at least {@code n} words
+	 * @param target buffer into which to put the encoded block
+	 */
+	static void encodeBlock(final long[] values, final int n, final long[] words, final ByteBuffer target) {
+		long minDelta = Long.MAX_VALUE;
+		for (int i = 1; i < n; ++i) {
+			minDelta = Math.min(minDelta, values[i] - values[i - 1]);
+		}
+		long allBits = 0;
+		for (int i = 1; i < n; ++i) {
+			allBits |= values[i] - values[i - 1] - minDelta;
+		}
+		final int bitWidth = 64 - Long.numberOfLeadingZeros(allBits);
+		final int numWords = numWords(n, bitWidth);
+		for (int i = 0; i < numWords; ++i) {
+			words[i] = 0;
+		}
+		if (bitWidth > 0) {
+			long bitPosition = 0;
+			for (int i = 1; i < n; ++i) {
+				final long packed = values[i] - values[i - 1] - minDelta;
+				final int word = (int) (bitPosition >>> 6);
+				final int shift = (int) (bitPosition & 63);
+				words[word] |= packed << shift;
+				if (shift + bitWidth > 64) {
+					words[word + 1] |= packed >>> (64 - shift);
+				}
+				bitPosition += bitWidth;
+			}
+		}
+
+		target.putLong(values[0]);
+		target.putLong(minDelta);
+		target.put((byte) bitWidth);
+		for (int i = 0; i < numWords; ++i) {
+			target.putLong(words[i]);
+		}
+	}
+
+	/**
+	 * Decode a block of {@code n} raw values starting at the current position of
+	 * the {@code source} buffer.
+	 *
+	 * @param source buffer positioned at the start of an encoded block
+	 * @param values array into which to put the decoded raw values
+	 * @param n      number of values in the block
+	 * @param words  scratch array with room for at least {@code n} words
+	 */
+	static void decodeBlock(final ByteBuffer source, final long[] values, final int n, final long[] words) {
+		final long first = source.getLong();
+		final long minDelta = source.getLong();
+		final int bitWidth = source.get();
+		if (bitWidth < 0 || bitWidth > 64) {
+			throw new RuntimeException("invalid bit width in compressed block: " + bitWidth);
+		}
+		final int numWords = numWords(n, bitWidth);
+		for (int i = 0; i < numWords; ++i) {
+			words[i] = source.getLong();
+		}
+
+		values[0] = first;
+		if (bitWidth == 0) {
+			for (int i = 1; i < n; ++i) {
+				values[i] = values[i - 1] + minDelta;
+			}
+		} else {
+			final long mask = (bitWidth == 64) ? -1L : (1L << bitWidth) - 1;
+			long bitPosition = 0;
+			for (int i = 1; i < n; ++i) {
+				final int word = (int) (bitPosition >>> 6);
+				final int shift = (int) (bitPosition & 63);
+				long packed = words[word] >>> shift;
+				if (shift + bitWidth > 64) {
+					packed |= words[word + 1] << (64 - shift);
+				}
+				values[i] = values[i - 1] + minDelta + (packed & mask);
+				bitPosition += bitWidth;
+			}
+		}
+	}
+
+	/**
+	 * Read {@code n} raw samples as their sign-extended bit patterns.
+	 *
+	 * @param source   buffer positioned at the first raw sample
+	 * @param dataSize size of a raw sample in bytes
+	 * @param values   array into which to put the raw values
+	 * @param n        number of samples to read
+	 */
+	static void readRaw(final ByteBuffer source, final int dataSize, final long[] values, final int n) {
+		for (int i = 0; i < n; ++i) {
+			if (dataSize == 1) {
+				values[i] = source.get();
+			} else if (dataSize == 2) {
+				values[i] = source.getShort();
+			} else if (dataSize == 4) {
+				values[i] = source.getInt();
+			} else {
+				values[i] = source.getLong();
+			}
+		}
+	}
+
+	/**
+	 * Write {@code n} raw values as raw samples, i.e., the inverse of
+	 * {@link #readRaw(ByteBuffer, int, long[], int)}.
+	 *
+	 * @param target   buffer into which to put the raw samples
+	 * @param dataSize size of a raw sample in bytes
+	 * @param values   raw values
+	 * @param n        number of samples to write
+	 */
+	static void writeRaw(final ByteBuffer target, final int dataSize, final long[] values, final int n) {
+		for (int i = 0; i < n; ++i) {
+			if (dataSize == 1) {
+				target.put((byte) values[i]);
+			} else if (dataSize == 2) {
+				target.putShort((short) values[i]);
+			} else if (dataSize == 4) {
+				target.putInt((int) values[i]);
+			} else {
+				target.putLong(values[i]);
+			}
+		}
+	}
+
+	/**
+	 * @param n        number of values in a block
+	 * @param bitWidth number of bits per packed difference
+	 * @return number of words holding the packed differences
+	 */
+	private static int numWords(final int n, final int bitWidth) {
+		return (int) (((long) (n - 1) * bitWidth + 63) / 64);
+	}
+}
@@ -0,0 +1,102 @@
+package de.labathome;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Explicit release of direct and mapped buffers. Without this, the memory of a
+ * {@link java.nio.MappedByteBuffer} is only unmapped when the buffer is garbage
+ * collected, so opening and closing many files quickly exhausts the address
+ * space long before the garbage collector runs. Java 9 and newer provide
+ * {@code sun.misc.Unsafe.invokeCleaner}; on Java 8 the cleaner of the buffer is
+ * invoked directly. If neither is available, buffers are left to the garbage
+ * collector.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class BufferUnmapper {
+
+	/** {@code sun.misc.Unsafe} instance on Java 9+; null otherwise */
+	private static final Object unsafe;
+
+	/** {@code Unsafe.invokeCleaner(ByteBuffer)} on Java 9+; null otherwise */
+	private static final Method invokeCleaner;
+
+	/** {@code DirectBuffer.cleaner()} on Java 8; null otherwise */
+	private static final Method directBufferCleaner;
+
+	/** {@code Cleaner.clean()} on Java 8; null otherwise */
+	private static final Method cleanerClean;
+
+	static {
+		Object _unsafe = null;
+		Method _invokeCleaner = null;
+		Method _directBufferCleaner = null;
+		Method _cleanerClean = null;
+		try {
+			final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			_invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			_unsafe = theUnsafe.get(null);
+		} catch (Exception e) {
+			_unsafe = null;
+			_invokeCleaner = null;
+			try {
+				_directBufferCleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				_cleanerClean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			} catch (Exception e2) {
+				_directBufferCleaner = null;
+				_cleanerClean = null;
+			}
+		}
+		unsafe = _unsafe;
+		invokeCleaner = _invokeCleaner;
+		directBufferCleaner = _directBufferCleaner;
+		cleanerClean = _cleanerClean;
+	}
+
+	private BufferUnmapper() {
+	}
+
+	/**
+	 * @return true if buffers can be released explicitly in this JVM
+	 */
+	static boolean isSupported() {
+		return invokeCleaner != null || cleanerClean != null;
+	}
+
+	/**
+	 * Release the memory of the given direct or mapped buffer immediately. The
+	 * buffer and all views of it must not be accessed anymore afterwards, since
+	 * this would access unmapped memory and crash the JVM.
+	 *
+	 * @param buffer direct buffer as returned by
+	 *               {@link ByteBuffer#allocateDirect(int)} or
+	 *               {@link java.nio.channels.FileChannel#map}; not a slice or a
+	 *               duplicate
+	 * @return true if the buffer was released; false if this is not supported and
+	 *         the buffer is left to the garbage collector
+	 */
+	static boolean unmap(final ByteBuffer buffer) {
+		if (buffer == null || !buffer.isDirect()) {
+			return false;
+		}
+		try {
+			if (invokeCleaner != null) {
+				invokeCleaner.invoke(unsafe, buffer);
+				return true;
+			} else if (cleanerClean != null) {
+				final Object cleaner = directBufferCleaner.invoke(buffer);
+				if (cleaner != null) {
+					cleanerClean.invoke(cleaner);
+					return true;
+				}
+			}
+		} catch (Exception e) {
+			// leave the buffer to the garbage collector
+		}
+		return false;
+	}
+}
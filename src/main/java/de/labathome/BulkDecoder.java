@@ -0,0 +1,75 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decoding kernels for raw data which already has the target type, i.e.
+ * {@code double} raw data into {@code double} samples and {@code float} raw
+ * data into {@code float} samples. The raw samples are copied into the target
+ * array by a single bulk transfer, which also takes care of the byte order,
+ * and are then scaled in place by a counted loop over the array. Unlike the
+ * sample-by-sample decoding with relative gets from the byte buffer, the loop
+ * has no buffer bounds or byte order checks, so the JIT compiler can unroll
+ * and vectorize it. No scratch memory is allocated. Java does not contract
+ * {@code a + b * c} into a fused multiply-add, so the results are identical to
+ * the sample-by-sample decoding.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class BulkDecoder {
+
+	/**
+	 * minimum number of samples for which the bulk kernels are used; see
+	 * {@link SampleDecoders}
+	 */
+	static final int MIN_SAMPLES = 32;
+
+	private BulkDecoder() {
+	}
+
+	/**
+	 * Decode {@code numToRead} {@code double} raw samples starting at the current
+	 * position of the {@code source} buffer, scale them and put the results into
+	 * the {@code target} array. The position of {@code source} is advanced past
+	 * the decoded samples.
+	 *
+	 * @param source        buffer positioned at the first sample to decode
+	 * @param scalingOffset scaling offset
+	 * @param scalingFactor scaling factor
+	 * @param target        array into which to put the scaled data
+	 * @param targetOffset  offset in {@code target} at which to put the first
+	 *                      decoded sample
+	 * @param numToRead     number of samples to decode
+	 */
+	static void decode(final ByteBuffer source, final double scalingOffset, final double scalingFactor,
+			final double[] target, final int targetOffset, final int numToRead) {
+		BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+		final int end = targetOffset + numToRead;
+		for (int i = targetOffset; i < end; ++i) {
+			target[i] = scalingOffset + scalingFactor * target[i];
+		}
+	}
+
+	/**
+	 * Decode {@code numToRead} {@code float} raw samples starting at the current
+	 * position of the {@code source} buffer, scale them and put the results into
+	 * the {@code target} array. The position of {@code source} is advanced past
+	 * the decoded samples.
+	 *
+	 * @param source        buffer positioned at the first sample to decode
+	 * @param scalingOffset scaling offset
+	 * @param scalingFactor scaling factor
+	 * @param target        array into which to put the scaled data
+	 * @param targetOffset  offset in {@code target} at which to put the first
+	 *                      decoded sample
+	 * @param numToRead     number of samples to decode
+	 */
+	static void decode(final ByteBuffer source, final float scalingOffset, final float scalingFactor,
+			final float[] target, final int targetOffset, final int numToRead) {
+		BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+		final int end = targetOffset + numToRead;
+		for (int i = targetOffset; i < end; ++i) {
+			target[i] = scalingOffset + scalingFactor * target[i];
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package de.labathome;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Access to a BinaryTimeseries file through positional reads from a
+ * {@link FileChannel} instead of memory-mapping it. Samples are read into
+ * pooled direct buffers sized to the requested range, so no direct memory is
+ * allocated per read. Positional reads do not modify the position of the
+ * channel, and neither the reads nor the pool hold a monitor or use
+ * thread-local state, so this can be used by many (virtual) threads at the
+ * same time. A file which is truncated while it is read leads to an exception
+ * instead of a crash.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class ChannelDataSource implements DataSource {
+
+	private final FileChannel channel;
+	private final DirectBufferPool pool;
+	private final long size;
+
+	/**
+	 * @param channel channel open for reading; it is not closed by this class
+	 * @param pool    pool from which to take the buffers into which to read
+	 * @throws UncheckedIOException if the size of the file could not be
+	 *                              determined
+	 */
+	ChannelDataSource(final FileChannel channel, final DirectBufferPool pool) {
+		this.channel = channel;
+		this.pool = pool;
+		try {
+			size = channel.size();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public ByteBuffer bytesAt(final long offset, final int length) {
+		final ByteBuffer buffer = ByteBuffer.allocate(length);
+		readFully(buffer, offset);
+		return buffer;
+	}
+
+	@Override
+	public ByteBuffer acquire(final long offset, final long maxLength) {
+		final ByteBuffer buffer = pool.acquire((int) Math.min(pool.getMaxBufferSize(), maxLength));
+		buffer.limit((int) Math.min(buffer.capacity(), maxLength));
+		try {
+			readFully(buffer, offset);
+		} catch (final RuntimeException e) {
+			pool.release(buffer);
+			throw e;
+		}
+		return buffer;
+	}
+
+	@Override
+	public void release(final ByteBuffer buffer) {
+		pool.release(buffer);
+	}
+
+	/**
+	 * Fill the remaining part of the given buffer with the bytes starting at the
+	 * given offset and flip it.
+	 *
+	 * @param buffer buffer to fill
+	 * @param offset absolute offset of the first byte to read
+	 * @throws UncheckedIOException if reading failed or the file ended before the
+	 *                              buffer was full
+	 */
+	private void readFully(final ByteBuffer buffer, final long offset) {
+		try {
+			final int start = buffer.position();
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, offset + buffer.position() - start) < 0) {
+					throw new EOFException("file ends at byte " + (offset + buffer.position() - start)
+							+ " while reading " + (buffer.limit() - start) + " bytes at " + offset);
+				}
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buffer.flip();
+	}
+}
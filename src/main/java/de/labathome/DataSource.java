@@ -0,0 +1,66 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Access to the bytes of a BinaryTimeseries for a {@link BinaryTimeseriesReader}.
+ * All methods address the bytes by their absolute offset from the start of the
+ * header and must be safe to be called concurrently by any number of threads.
+ * The returned buffers are independent of each other; their byte order has to
+ * be set by the caller.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+interface DataSource {
+
+	/**
+	 * @return total number of bytes available from this source
+	 */
+	long size();
+
+	/**
+	 * Get a buffer containing exactly the given range of bytes.
+	 *
+	 * @param offset absolute offset of the first byte
+	 * @param length number of bytes
+	 * @return buffer positioned at the first byte with {@code length} bytes
+	 *         remaining
+	 */
+	ByteBuffer bytesAt(long offset, int length);
+
+	/**
+	 * Get a buffer containing the bytes starting at the given offset, for
+	 * decoding samples. The buffer contains at least one and at most
+	 * {@code maxLength} bytes; the number of bytes is a multiple of the sample
+	 * size if {@code maxLength} is. It must be passed to {@link #release} after
+	 * use.
+	 *
+	 * @param offset    absolute offset of the first byte
+	 * @param maxLength maximum number of bytes needed
+	 * @return buffer positioned at the first byte
+	 */
+	ByteBuffer acquire(long offset, long maxLength);
+
+	/**
+	 * Release a buffer obtained from {@link #acquire}.
+	 *
+	 * @param buffer buffer which is not used anymore by the caller
+	 */
+	void release(ByteBuffer buffer);
+
+	/**
+	 * Mark the start of a read during which all buffers obtained from this source
+	 * must stay valid. Every call must be followed by a call of
+	 * {@link #endRead()}. Sources whose buffers are always valid do nothing.
+	 *
+	 * @throws RuntimeException if this source cannot be read anymore
+	 */
+	default void beginRead() {
+	}
+
+	/**
+	 * Mark the end of a read started by {@link #beginRead()}.
+	 */
+	default void endRead() {
+	}
+}
@@ -0,0 +1,436 @@
+package de.labathome;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of decoded samples for interactive use, e.g. a plot which is
+ * panned back and forth over the same few seconds of a shot. A time series is
+ * divided into blocks of a fixed number of samples, which are read and scaled
+ * into {@code double[]} or {@code float[]} arrays and kept in the cache, keyed
+ * by the identity of the file, the block index and the target type. Range reads
+ * through the cache are assembled from the cached blocks and only decode the
+ * blocks which are missing.
+ * <br>
+ * The cache holds at most a given number of bytes of decoded samples and evicts
+ * the least recently used blocks beyond that. If several threads request a
+ * block which is not cached yet at the same time, it is decoded only once and
+ * all of them wait for that result. The numbers of hits, misses and evicted
+ * blocks are counted and can be used to tune the cache size.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class DecodedBlockCache {
+
+	/**
+	 * Default number of samples per block: 64 k
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+	private final int blockSize;
+	private final long maxBytes;
+
+	/** cached and loading blocks in access order; guarded by {@code this} */
+	private final LinkedHashMap<Key, Entry> blocks = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** sum of the weights of all loaded blocks; guarded by {@code this} */
+	private long cachedBytes;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param maxBytes maximum number of bytes of decoded samples to keep
+	 */
+	public DecodedBlockCache(final long maxBytes) {
+		this(DEFAULT_BLOCK_SIZE, maxBytes);
+	}
+
+	/**
+	 * @param blockSize number of samples per block; must be positive
+	 * @param maxBytes  maximum number of bytes of decoded samples to keep
+	 */
+	public DecodedBlockCache(final int blockSize, final long maxBytes) {
+		if (blockSize < 1) {
+			throw new RuntimeException("block size must be positive but is " + blockSize);
+		}
+		this.blockSize = blockSize;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Read the samples in the given index range through the cache and put them
+	 * into a {@code double[]} array. The reader itself identifies the file.
+	 *
+	 * @param reader         reader of the time series
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public double[] readData_double(final BinaryTimeseriesReader reader, final int firstDataIndex,
+			final int lastDataIndex) {
+		return readData_double(reader, reader, firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given index range through the cache and put them
+	 * into a {@code double[]} array.
+	 *
+	 * @param file           identity of the file, e.g. its {@link java.nio.file.Path};
+	 *                       must implement {@code equals} and {@code hashCode}
+	 *                       and stay the same for all readers of the same file
+	 * @param reader         reader of the time series
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public double[] readData_double(final Object file, final BinaryTimeseriesReader reader,
+			final int firstDataIndex, final int lastDataIndex) {
+		final int last = lastIndex(reader, firstDataIndex, lastDataIndex);
+		final double[] target = new double[last - firstDataIndex + 1];
+		for (int b = firstDataIndex / blockSize; target.length > 0 && b <= last / blockSize; ++b) {
+			final double[] block = (double[]) getBlock(file, b, BinaryTimeseries.DTYPE_DOUBLE, blockLoader(reader,
+					b, BinaryTimeseries.DTYPE_DOUBLE));
+			copy(block, b, firstDataIndex, last, target);
+		}
+		return target;
+	}
+
+	/**
+	 * Read the samples in the given index range through the cache and put them
+	 * into a {@code float[]} array. The reader itself identifies the file.
+	 *
+	 * @param reader         reader of the time series
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public float[] readData_float(final BinaryTimeseriesReader reader, final int firstDataIndex,
+			final int lastDataIndex) {
+		return readData_float(reader, reader, firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples in the given index range through the cache and put them
+	 * into a {@code float[]} array.
+	 *
+	 * @param file           identity of the file, e.g. its {@link java.nio.file.Path};
+	 *                       must implement {@code equals} and {@code hashCode}
+	 *                       and stay the same for all readers of the same file
+	 * @param reader         reader of the time series
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples in the range
+	 *         {@code firstDataIndex} up to and including {@code lastDataIndex}
+	 */
+	public float[] readData_float(final Object file, final BinaryTimeseriesReader reader, final int firstDataIndex,
+			final int lastDataIndex) {
+		final int last = lastIndex(reader, firstDataIndex, lastDataIndex);
+		final float[] target = new float[last - firstDataIndex + 1];
+		for (int b = firstDataIndex / blockSize; target.length > 0 && b <= last / blockSize; ++b) {
+			final float[] block = (float[]) getBlock(file, b, BinaryTimeseries.DTYPE_FLOAT, blockLoader(reader, b,
+					BinaryTimeseries.DTYPE_FLOAT));
+			copy(block, b, firstDataIndex, last, target);
+		}
+		return target;
+	}
+
+	/**
+	 * Remove all cached blocks of the given file, e.g. because it was modified.
+	 *
+	 * @param file identity of the file
+	 */
+	public synchronized void invalidate(final Object file) {
+		final Iterator<Map.Entry<Key, Entry>> iterator = blocks.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<Key, Entry> entry = iterator.next();
+			if (entry.getKey().file.equals(file)) {
+				cachedBytes -= entry.getValue().weight;
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove all cached blocks.
+	 */
+	public synchronized void clear() {
+		blocks.clear();
+		cachedBytes = 0;
+	}
+
+	/**
+	 * @return number of samples per block
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * @return maximum number of bytes of decoded samples to keep
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @return number of bytes of decoded samples currently cached
+	 */
+	public synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	/**
+	 * @return number of blocks currently cached or being loaded
+	 */
+	public synchronized int getNumBlocks() {
+		return blocks.size();
+	}
+
+	/**
+	 * @return number of block requests which were served by a cached block or a
+	 *         load already in progress
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of block requests which had to decode the block
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of blocks evicted to stay within the maximum size
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return fraction of block requests which were hits; 0 if there were none
+	 */
+	public double getHitRate() {
+		final long numHits = getHits();
+		final long numRequests = numHits + getMisses();
+		return (numRequests == 0) ? 0.0 : (double) numHits / numRequests;
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + " misses=" + getMisses() + " evictions=" + getEvictions() + " cachedBytes="
+				+ getCachedBytes();
+	}
+
+	/**
+	 * Get a block from the cache or load it if it is not cached. Concurrent
+	 * requests for the same block which is not cached yet wait for a single load.
+	 *
+	 * @param file       identity of the file
+	 * @param blockIndex index of the block in the file
+	 * @param dtype      type of the decoded samples
+	 * @param loader     decodes the block if it is not cached
+	 * @return the decoded block
+	 * @throws RuntimeException if the block could not be loaded
+	 */
+	Object getBlock(final Object file, final int blockIndex, final byte dtype, final Supplier<Object> loader) {
+		final Key key = new Key(file, blockIndex, dtype);
+		final Entry block;
+		final boolean load;
+		synchronized (this) {
+			final Entry cached = blocks.get(key);
+			if (cached != null) {
+				block = cached;
+				load = false;
+			} else {
+				block = new Entry();
+				blocks.put(key, block);
+				load = true;
+			}
+		}
+
+		if (!load) {
+			hits.increment();
+			try {
+				return block.samples.join();
+			} catch (final CompletionException e) {
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+			}
+		}
+
+		misses.increment();
+		final Object decoded;
+		try {
+			decoded = loader.get();
+		} catch (final Throwable e) {
+			// also on errors, so that no waiting thread is left blocked on a block which is never loaded
+			synchronized (this) {
+				blocks.remove(key, block);
+			}
+			block.samples.completeExceptionally(e);
+			throw e;
+		}
+		synchronized (this) {
+			// account the weight only while the block is cached, so that it is subtracted exactly once
+			if (blocks.get(key) == block) {
+				block.weight = weight(decoded);
+				block.loaded = true;
+				cachedBytes += block.weight;
+				evict();
+			}
+			block.samples.complete(decoded);
+		}
+		return decoded;
+	}
+
+	/**
+	 * Evict the least recently used completely loaded blocks until the cache is
+	 * within its maximum size again.
+	 */
+	private void evict() {
+		final Iterator<Entry> iterator = blocks.values().iterator();
+		while (cachedBytes > maxBytes && iterator.hasNext()) {
+			final Entry block = iterator.next();
+			if (block.loaded) {
+				cachedBytes -= block.weight;
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * @param reader     reader of the time series
+	 * @param blockIndex index of the block
+	 * @param dtype      {@code DTYPE_FLOAT} or {@code DTYPE_DOUBLE}
+	 * @return decoder of the given block into an array of the given type
+	 */
+	private Supplier<Object> blockLoader(final BinaryTimeseriesReader reader, final int blockIndex,
+			final byte dtype) {
+		return () -> {
+			final int first = blockIndex * blockSize;
+			final int last = (int) Math.min(reader.getNumSamples(), (long) first + blockSize) - 1;
+			if (dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return reader.readData_float(first, last);
+			}
+			return reader.readData_double(first, last);
+		};
+	}
+
+	/**
+	 * Copy the part of a block which is inside the requested range into the
+	 * target array.
+	 *
+	 * @param block          decoded block
+	 * @param blockIndex     index of the block
+	 * @param firstDataIndex the index of the first requested sample
+	 * @param lastDataIndex  the index of the last requested sample
+	 * @param target         array holding the samples from {@code firstDataIndex}
+	 *                       on
+	 */
+	private void copy(final Object block, final int blockIndex, final int firstDataIndex, final int lastDataIndex,
+			final Object target) {
+		final int blockStart = blockIndex * blockSize;
+		final int from = Math.max(firstDataIndex, blockStart);
+		final int to = Math.min(lastDataIndex, blockStart + blockSize - 1);
+		System.arraycopy(block, from - blockStart, target, from - firstDataIndex, to - from + 1);
+	}
+
+	/**
+	 * @param reader         reader of the time series
+	 * @param firstDataIndex the index of the first requested sample
+	 * @param lastDataIndex  the index of the last requested sample; -1 means all
+	 *                       available samples
+	 * @return index of the last requested sample
+	 * @throws RuntimeException if the given range is not inside the time series
+	 */
+	private static int lastIndex(final BinaryTimeseriesReader reader, final int firstDataIndex,
+			final int lastDataIndex) {
+		final int numSamples = reader.getNumSamples();
+		final int last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		if (firstDataIndex < 0 || last >= numSamples || firstDataIndex > last + 1) {
+			throw new RuntimeException("index range [" + firstDataIndex + ", " + lastDataIndex
+					+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+		}
+		return last;
+	}
+
+	/**
+	 * @param samples decoded samples
+	 * @return number of bytes of the decoded samples
+	 */
+	private static long weight(final Object samples) {
+		if (samples instanceof double[]) {
+			return (long) ((double[]) samples).length * Double.BYTES;
+		} else if (samples instanceof float[]) {
+			return (long) ((float[]) samples).length * Float.BYTES;
+		}
+		return 0;
+	}
+
+	/**
+	 * A cached or loading block; all fields but the samples are guarded by the
+	 * cache.
+	 */
+	private static final class Entry {
+
+		/** completed when the block is decoded */
+		final CompletableFuture<Object> samples = new CompletableFuture<>();
+
+		/** number of bytes added to {@code cachedBytes} for this block */
+		long weight;
+
+		/** set when the weight of the block has been added to {@code cachedBytes} */
+		boolean loaded;
+	}
+
+	/**
+	 * Key of a block: identity of the file, block index and type of the decoded
+	 * samples.
+	 */
+	private static final class Key {
+
+		private final Object file;
+		private final int blockIndex;
+		private final byte dtype;
+
+		Key(final Object file, final int blockIndex, final byte dtype) {
+			this.file = file;
+			this.blockIndex = blockIndex;
+			this.dtype = dtype;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) other;
+			return blockIndex == key.blockIndex && dtype == key.dtype && file.equals(key.file);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(file, blockIndex, dtype);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of direct buffers for the I/O of this library, which can be used
+ * concurrently by any number of threads. Allocating direct memory is expensive
+ * and it is only released when the garbage collector collects the buffer, so
+ * temporary buffers for positional reads and writes are taken from and
+ * returned to this pool instead.
+ * <br>
+ * The buffers come in size classes of powers of two from 4 kB up to a maximum
+ * size, so that a small read does not occupy a large buffer. For each size
+ * class, at most an equal share of the maximum number of pooled bytes (but at
+ * least one buffer) is kept idle; buffers returned beyond that are unmapped
+ * right away, so that the native memory of the pool does not grow under
+ * sustained load. Acquired buffers are in native byte order, so that no byte
+ * swapping is needed for time series written on the same machine.
+ * <br>
+ * The numbers of hits (requests served from the pool), misses (requests which
+ * had to allocate) and discarded buffers are counted and can be used to tune
+ * the pool size.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class DirectBufferPool {
+
+	/** size of the smallest size class in bytes: 4 kB */
+	static final int MIN_BUFFER_SIZE = 1 << 12;
+
+	/** pool shared by all readers and writers: buffers of up to 1 MB, 64 MB idle */
+	static final DirectBufferPool SHARED = new DirectBufferPool(1 << 20, 64L << 20);
+
+	private final int maxBufferSize;
+	private final long maxPooledBytes;
+
+	/** idle buffers of each size class */
+	private final SizeClass[] sizeClasses;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
+	private final AtomicLong pooledBytes = new AtomicLong();
+
+	/**
+	 * @param maxBufferSize  size of the largest size class in bytes; must be a
+	 *                       power of two of at least 4 kB
+	 * @param maxPooledBytes maximum number of bytes in idle buffers kept in the
+	 *                       pool
+	 * @throws RuntimeException if {@code maxBufferSize} is not a power of two of
+	 *                          at least 4 kB
+	 */
+	DirectBufferPool(final int maxBufferSize, final long maxPooledBytes) {
+		if (maxBufferSize < MIN_BUFFER_SIZE || Integer.bitCount(maxBufferSize) != 1) {
+			throw new RuntimeException("maximum buffer size must be a power of two of at least " + MIN_BUFFER_SIZE
+					+ ", but is " + maxBufferSize);
+		}
+		this.maxBufferSize = maxBufferSize;
+		this.maxPooledBytes = maxPooledBytes;
+
+		final int numClasses = sizeClass(maxBufferSize) + 1;
+		sizeClasses = new SizeClass[numClasses];
+		for (int i = 0; i < numClasses; ++i) {
+			sizeClasses[i] = new SizeClass((int) Math.max(1, Math.min(Integer.MAX_VALUE,
+					maxPooledBytes / numClasses / (MIN_BUFFER_SIZE << i))));
+		}
+	}
+
+	/**
+	 * @return the pool used by the readers and writers of this library
+	 */
+	public static DirectBufferPool getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Take a buffer of the smallest size class which holds the given number of
+	 * bytes from the pool or allocate a new one if there is no idle buffer of
+	 * that size class.
+	 *
+	 * @param minSize number of bytes needed; requests larger than the maximum
+	 *                buffer size get a buffer of the maximum size
+	 * @return cleared direct buffer in native byte order with a capacity of at
+	 *         least {@code minSize} bytes or the maximum buffer size
+	 */
+	ByteBuffer acquire(final int minSize) {
+		final int sizeClass = sizeClass(Math.min(minSize, maxBufferSize));
+		ByteBuffer buffer = sizeClasses[sizeClass].buffers.poll();
+		if (buffer == null) {
+			misses.increment();
+			buffer = ByteBuffer.allocateDirect(MIN_BUFFER_SIZE << sizeClass);
+		} else {
+			hits.increment();
+			sizeClasses[sizeClass].numPooled.decrementAndGet();
+			pooledBytes.addAndGet(-buffer.capacity());
+			buffer.clear();
+		}
+		buffer.order(ByteOrder.nativeOrder());
+		return buffer;
+	}
+
+	/**
+	 * Return a buffer obtained from {@link #acquire(int)} to the pool. The buffer
+	 * must not be used by the caller anymore. If the pool already holds enough
+	 * idle buffers of its size class, its memory is released immediately.
+	 *
+	 * @param buffer buffer to return
+	 */
+	void release(final ByteBuffer buffer) {
+		final SizeClass sizeClass = sizeClasses[sizeClass(buffer.capacity())];
+		if (sizeClass.numPooled.incrementAndGet() <= sizeClass.maxPooled) {
+			pooledBytes.addAndGet(buffer.capacity());
+			sizeClass.buffers.offer(buffer);
+		} else {
+			sizeClass.numPooled.decrementAndGet();
+			discarded.increment();
+			BufferUnmapper.unmap(buffer);
+		}
+	}
+
+	/**
+	 * @return size of the largest buffers in bytes
+	 */
+	public int getMaxBufferSize() {
+		return maxBufferSize;
+	}
+
+	/**
+	 * @return maximum number of bytes in idle buffers kept in the pool
+	 */
+	public long getMaxPooledBytes() {
+		return maxPooledBytes;
+	}
+
+	/**
+	 * @return number of requests which were served by an idle buffer
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of requests for which a new buffer had to be allocated
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of returned buffers which were released because the pool
+	 *         already held enough idle buffers
+	 */
+	public long getDiscarded() {
+		return discarded.sum();
+	}
+
+	/**
+	 * @return number of bytes in idle buffers currently kept in the pool
+	 */
+	public long getPooledBytes() {
+		return pooledBytes.get();
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + " misses=" + getMisses() + " discarded=" + getDiscarded() + " pooledBytes="
+				+ getPooledBytes();
+	}
+
+	/**
+	 * @param size number of bytes; at most the maximum buffer size
+	 * @return index of the smallest size class holding {@code size} bytes
+	 */
+	private static int sizeClass(final int size) {
+		if (size <= MIN_BUFFER_SIZE) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+	}
+
+	/**
+	 * Idle buffers of one size class.
+	 */
+	private static final class SizeClass {
+
+		/** idle buffers */
+		final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+		/** number of idle buffers */
+		final AtomicInteger numPooled = new AtomicInteger();
+
+		/** maximum number of idle buffers */
+		final int maxPooled;
+
+		SizeClass(final int maxPooled) {
+			this.maxPooled = maxPooled;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package de.labathome;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Lightweight view of the {@code double} timestamps of a range of samples in a
+ * BinaryTimeseries. Only t_0, Delta_t, the index of the first sample and the
+ * number of samples are stored; the timestamps are computed on demand, either
+ * one at a time, in batches into a caller-provided array or as a stream. This
+ * avoids allocating a timestamp array as large as the data read from the time
+ * series. The computed values are identical to those of
+ * {@link BinaryTimeseries#buildTimebase(int, double[], int, int, double, double)}.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class DoubleTimebase {
+
+	private final double t0;
+	private final double dt;
+	private final int offset;
+	private final int numSamples;
+
+	/**
+	 * Create a view of the timestamps {@code t0 + i * dt} with {@code i} from
+	 * {@code offset} up to and including {@code offset + numSamples - 1}.
+	 * 
+	 * @param t0         reference timestamp of the time series
+	 * @param dt         time interval between two consecutive samples
+	 * @param offset     index of the first sample in the time series
+	 * @param numSamples number of samples in the view
+	 * @throws RuntimeException if {@code offset} or {@code numSamples} is
+	 *                          negative
+	 */
+	public DoubleTimebase(final double t0, final double dt, final int offset, final int numSamples) {
+		if (offset < 0 || numSamples < 0 || offset + numSamples < 0) {
+			throw new RuntimeException("invalid timebase range: offset " + offset + ", " + numSamples + " samples");
+		}
+		this.t0 = t0;
+		this.dt = dt;
+		this.offset = offset;
+		this.numSamples = numSamples;
+	}
+
+	/**
+	 * @return reference timestamp t_0 of the time series
+	 */
+	public double getT0() {
+		return t0;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t
+	 */
+	public double getDt() {
+		return dt;
+	}
+
+	/**
+	 * @return index in the time series of the first timestamp in this view
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * @return number of timestamps in this view
+	 */
+	public int size() {
+		return numSamples;
+	}
+
+	/**
+	 * @param index index in this view
+	 * @return timestamp of the sample at {@code index} in this view
+	 * @throws RuntimeException if {@code index} is outside this view
+	 */
+	public double get(final int index) {
+		if (index < 0 || index >= numSamples) {
+			throw new RuntimeException("index " + index + " is not inside the timebase [0, " + (numSamples - 1) + "]");
+		}
+		return t0 + (offset + index) * dt;
+	}
+
+	/**
+	 * Create a view of a part of this view.
+	 * 
+	 * @param firstIndex index in this view of the first timestamp of the part
+	 * @param numInPart  number of timestamps in the part
+	 * @return view of the timestamps from {@code firstIndex} up to and including
+	 *         {@code firstIndex + numInPart - 1}
+	 * @throws RuntimeException if the part is not inside this view
+	 */
+	public DoubleTimebase subrange(final int firstIndex, final int numInPart) {
+		checkRange(firstIndex, numInPart);
+		return new DoubleTimebase(t0, dt, offset + firstIndex, numInPart);
+	}
+
+	/**
+	 * Put the first {@code numToFill} timestamps of this view into the given
+	 * {@code target} array.
+	 * 
+	 * @param target       array into which to put the timestamps
+	 * @param targetOffset index in {@code target} at which to put the first
+	 *                     timestamp
+	 * @param numToFill    number of timestamps to compute
+	 * @throws RuntimeException if there are less than {@code numToFill}
+	 *                          timestamps in this view
+	 */
+	public void fill(final double[] target, final int targetOffset, final int numToFill) {
+		fill(0, target, targetOffset, numToFill);
+	}
+
+	/**
+	 * Put a batch of timestamps of this view into the given {@code target}
+	 * array, e.g. to process a long time series in cache-sized batches.
+	 * 
+	 * @param firstIndex   index in this view of the first timestamp to compute
+	 * @param target       array into which to put the timestamps
+	 * @param targetOffset index in {@code target} at which to put the first
+	 *                     timestamp
+	 * @param numToFill    number of timestamps to compute
+	 * @throws RuntimeException if the requested timestamps are not inside this
+	 *                          view
+	 */
+	public void fill(final int firstIndex, final double[] target, final int targetOffset, final int numToFill) {
+		checkRange(firstIndex, numToFill);
+		BinaryTimeseries.buildTimebase(offset + firstIndex, target, targetOffset, numToFill, t0, dt);
+	}
+
+	/**
+	 * @return new array containing all timestamps of this view
+	 */
+	public double[] toArray() {
+		final double[] target = new double[numSamples];
+		fill(target, 0, numSamples);
+		return target;
+	}
+
+	/**
+	 * @return sequential stream of the timestamps of this view, which are computed
+	 *         as they are consumed
+	 */
+	public DoubleStream stream() {
+		return IntStream.range(offset, offset + numSamples).mapToDouble(i -> t0 + i * dt);
+	}
+
+	@Override
+	public String toString() {
+		return "t0=" + t0 + " dt=" + dt + " offset=" + offset + " numSamples=" + numSamples;
+	}
+
+	/**
+	 * @param firstIndex index in this view of the first timestamp of a range
+	 * @param numInRange number of timestamps in the range
+	 * @throws RuntimeException if the range is not inside this view
+	 */
+	private void checkRange(final int firstIndex, final int numInRange) {
+		if (firstIndex < 0 || numInRange < 0 || firstIndex > numSamples - numInRange) {
+			throw new RuntimeException("range of " + numInRange + " timestamps starting at " + firstIndex
+					+ " is not inside the timebase [0, " + (numSamples - 1) + "]");
+		}
+	}
+}
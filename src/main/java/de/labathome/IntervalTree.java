@@ -0,0 +1,118 @@
+package de.labathome;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Static interval tree for stabbing and overlap queries. The intervals are
+ * sorted by their start and form an implicit balanced binary search tree over
+ * the sorted array, in which every node additionally stores the maximum end of
+ * all intervals in its subtree. A query descends only into subtrees which can
+ * contain an overlapping interval, so it takes O(log n + k) for k results
+ * without any allocation besides the results. Intervals whose end is before
+ * their start are empty and never reported.
+ *
+ * @param <T> type of the items to which the intervals belong
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class IntervalTree<T> {
+
+	private final List<T> items;
+	private final double[] starts;
+	private final double[] ends;
+
+	/** maximum end in the subtree rooted at each index */
+	private final double[] maxEnds;
+
+	/**
+	 * @param items items to index; the list is not modified
+	 * @param start start of the closed interval of an item
+	 * @param end   end of the closed interval of an item
+	 */
+	IntervalTree(final List<T> items, final ToDoubleFunction<T> start, final ToDoubleFunction<T> end) {
+		final List<T> sorted = new ArrayList<>();
+		for (final T item : items) {
+			if (end.applyAsDouble(item) >= start.applyAsDouble(item)) {
+				sorted.add(item);
+			}
+		}
+		Collections.sort(sorted, Comparator.comparingDouble(start));
+		this.items = sorted;
+
+		final int n = sorted.size();
+		starts = new double[n];
+		ends = new double[n];
+		maxEnds = new double[n];
+		for (int i = 0; i < n; ++i) {
+			starts[i] = start.applyAsDouble(sorted.get(i));
+			ends[i] = end.applyAsDouble(sorted.get(i));
+		}
+		buildMaxEnds(0, n);
+	}
+
+	/**
+	 * @return number of non-empty intervals in the tree
+	 */
+	int size() {
+		return starts.length;
+	}
+
+	/**
+	 * Report all items whose interval overlaps [{@code lower}, {@code upper}] in
+	 * ascending order of their start.
+	 *
+	 * @param lower  lower boundary of the query interval
+	 * @param upper  upper boundary of the query interval
+	 * @param action receives every overlapping item
+	 */
+	void query(final double lower, final double upper, final Consumer<T> action) {
+		query(0, starts.length, lower, upper, action);
+	}
+
+	/**
+	 * @param from  first index of the subtree
+	 * @param to    index after the last one of the subtree
+	 * @param lower lower boundary of the query interval
+	 * @param upper upper boundary of the query interval
+	 * @param action receives every overlapping item
+	 */
+	private void query(final int from, final int to, final double lower, final double upper,
+			final Consumer<T> action) {
+		if (from >= to) {
+			return;
+		}
+		final int mid = (from + to) >>> 1;
+		if (maxEnds[mid] < lower) {
+			// nothing in this subtree reaches the query interval
+			return;
+		}
+		query(from, mid, lower, upper, action);
+		if (starts[mid] > upper) {
+			// this and all later intervals start after the query interval
+			return;
+		}
+		if (ends[mid] >= lower) {
+			action.accept(items.get(mid));
+		}
+		query(mid + 1, to, lower, upper, action);
+	}
+
+	/**
+	 * @param from first index of the subtree
+	 * @param to   index after the last one of the subtree
+	 * @return maximum end in the subtree
+	 */
+	private double buildMaxEnds(final int from, final int to) {
+		if (from >= to) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		final int mid = (from + to) >>> 1;
+		maxEnds[mid] = Math.max(ends[mid], Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+		return maxEnds[mid];
+	}
+}
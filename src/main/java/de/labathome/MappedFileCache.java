@@ -0,0 +1,406 @@
+package de.labathome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of memory-mapped BinaryTimeseries files for services which read
+ * the same files over and over again. Opening and mapping a file costs several
+ * system calls and the setup of the page tables of the mapping, so the mapped
+ * {@link BinaryTimeseriesFile} and its {@link BinaryTimeseriesReader} are kept
+ * and handed out as reference-counted {@link Lease}s. Repeated reads of a
+ * popular file only cost a check of its size and modification time, so that a
+ * file which was rewritten is mapped again.
+ * <br>
+ * A file is unmapped explicitly (see {@link BinaryTimeseriesFile#close()})
+ * when it was not leased for longer than the idle timeout, or when more than
+ * the maximum number of files are mapped, in which case the least recently used
+ * idle files are unmapped first. Files with an active lease are never unmapped,
+ * so the maximum can be exceeded temporarily. Idle files are evicted whenever a
+ * lease is acquired or released and by {@link #evictIdle()}.
+ * <br>
+ * A cache can be used by any number of threads at the same time. If several
+ * threads lease a file which is not mapped yet at the same time, it is mapped
+ * only once.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class MappedFileCache implements Closeable {
+
+	/** cache shared by all users of this library: 256 files, 60 s idle timeout */
+	private static final MappedFileCache SHARED = new MappedFileCache(256, TimeUnit.SECONDS.toNanos(60),
+			System::nanoTime);
+
+	private final int maxOpenFiles;
+	private final long idleTimeoutNanos;
+	private final LongSupplier clock;
+
+	/** mapped and mapping files in access order; guarded by {@code this} */
+	private final LinkedHashMap<Path, Handle> handles = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/** guarded by {@code this} */
+	private boolean closed;
+
+	/**
+	 * @param maxOpenFiles maximum number of files kept mapped while idle; must be
+	 *                     positive
+	 * @param idleTimeout  time after which a file which is not leased is unmapped
+	 * @param unit         unit of {@code idleTimeout}
+	 */
+	public MappedFileCache(final int maxOpenFiles, final long idleTimeout, final TimeUnit unit) {
+		this(maxOpenFiles, unit.toNanos(idleTimeout), System::nanoTime);
+	}
+
+	/**
+	 * @param maxOpenFiles     maximum number of files kept mapped while idle; must
+	 *                         be positive
+	 * @param idleTimeoutNanos time in nanoseconds after which a file which is not
+	 *                         leased is unmapped
+	 * @param clock            source of the current time in nanoseconds
+	 */
+	MappedFileCache(final int maxOpenFiles, final long idleTimeoutNanos, final LongSupplier clock) {
+		if (maxOpenFiles < 1) {
+			throw new RuntimeException("maximum number of open files must be positive but is " + maxOpenFiles);
+		}
+		this.maxOpenFiles = maxOpenFiles;
+		this.idleTimeoutNanos = idleTimeoutNanos;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return the cache shared by all users of this library
+	 */
+	public static MappedFileCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Lease the given file, mapping it if it is not mapped yet or was modified
+	 * since it was mapped. The lease must be closed after use, e.g. with a
+	 * try-with-resources statement; the reader obtained from it must not be used
+	 * anymore afterwards.
+	 *
+	 * @param file BinaryTimeseries file to read
+	 * @return lease of the mapped file
+	 * @throws IOException      if the file could not be mapped
+	 * @throws RuntimeException if the file does not contain a valid header or the
+	 *                          cache has been closed
+	 */
+	public Lease acquire(final Path file) throws IOException {
+		final Path key = file.toAbsolutePath().normalize();
+		final BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+		final long lastModified = attributes.lastModifiedTime().toMillis();
+
+		final Handle handle;
+		final boolean map;
+		final List<Handle> evicted = new ArrayList<>();
+		synchronized (this) {
+			if (closed) {
+				throw new RuntimeException("mapped file cache has already been closed");
+			}
+			final Handle cached = handles.get(key);
+			if (cached != null && cached.lastModified == lastModified && cached.size == attributes.size()) {
+				handle = cached;
+				map = false;
+			} else {
+				if (cached != null) {
+					// the file was rewritten; unmap the old mapping once its leases are released
+					handles.remove(key);
+					cached.retired = true;
+					if (cached.refCount == 0) {
+						evicted.add(cached);
+					}
+				}
+				handle = new Handle(key, lastModified, attributes.size());
+				handles.put(key, handle);
+				map = true;
+			}
+			++handle.refCount;
+		}
+		unmap(evicted);
+
+		if (map) {
+			misses.increment();
+			try {
+				final BinaryTimeseriesFile btsFile = BinaryTimeseriesFile.open(key);
+				try {
+					handle.mapped.complete(new Mapping(btsFile, btsFile.getReader()));
+				} catch (final Throwable e) {
+					btsFile.close();
+					throw e;
+				}
+			} catch (final Throwable e) {
+				// also on errors, so that no waiting thread is left blocked on a file which is never mapped
+				synchronized (this) {
+					handles.remove(key, handle);
+					handle.retired = true;
+					--handle.refCount;
+				}
+				handle.mapped.completeExceptionally(e);
+				throw e;
+			}
+		} else {
+			hits.increment();
+		}
+
+		final Mapping mapping;
+		try {
+			mapping = handle.mapped.join();
+		} catch (final CompletionException e) {
+			synchronized (this) {
+				--handle.refCount;
+			}
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+		}
+		evictIdle();
+		return new Lease(this, handle, mapping);
+	}
+
+	/**
+	 * Unmap all files which have not been leased for longer than the idle timeout,
+	 * and the least recently used idle files beyond the maximum number of open
+	 * files. Services can call this periodically, so that idle files are also
+	 * unmapped when the cache is not used.
+	 */
+	public void evictIdle() {
+		final List<Handle> evicted = new ArrayList<>();
+		synchronized (this) {
+			final long now = clock.getAsLong();
+			int numOpen = handles.size();
+			final Iterator<Handle> iterator = handles.values().iterator();
+			while (iterator.hasNext()) {
+				final Handle handle = iterator.next();
+				if (handle.refCount == 0 && handle.mapped.isDone()
+						&& (numOpen > maxOpenFiles || now - handle.lastUsed > idleTimeoutNanos)) {
+					iterator.remove();
+					handle.retired = true;
+					evicted.add(handle);
+					--numOpen;
+				}
+			}
+		}
+		evictions.add(evicted.size());
+		unmap(evicted);
+	}
+
+	/**
+	 * Unmap all idle files and refuse further leases. Files which are still leased
+	 * are unmapped when their last lease is released.
+	 */
+	@Override
+	public void close() {
+		final List<Handle> evicted = new ArrayList<>();
+		synchronized (this) {
+			closed = true;
+			for (final Handle handle : handles.values()) {
+				handle.retired = true;
+				if (handle.refCount == 0) {
+					evicted.add(handle);
+				}
+			}
+			handles.clear();
+		}
+		unmap(evicted);
+	}
+
+	/**
+	 * @return maximum number of files kept mapped while idle
+	 */
+	public int getMaxOpenFiles() {
+		return maxOpenFiles;
+	}
+
+	/**
+	 * @return number of files currently mapped or being mapped
+	 */
+	public synchronized int getNumOpenFiles() {
+		return handles.size();
+	}
+
+	/**
+	 * @return number of leases which used an existing mapping
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of leases which had to map the file
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of files unmapped because they were idle for too long or the
+	 *         maximum number of open files was exceeded
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + " misses=" + getMisses() + " evictions=" + getEvictions() + " openFiles="
+				+ getNumOpenFiles();
+	}
+
+	/**
+	 * Release one lease of the given handle. A retired handle is unmapped when its
+	 * last lease is released.
+	 *
+	 * @param handle handle of a leased file
+	 */
+	private void release(final Handle handle) {
+		final boolean unmap;
+		synchronized (this) {
+			--handle.refCount;
+			handle.lastUsed = clock.getAsLong();
+			unmap = handle.retired && handle.refCount == 0;
+		}
+		if (unmap) {
+			handle.mapped.join().file.close();
+		}
+		evictIdle();
+	}
+
+	/**
+	 * @param evicted handles which are neither leased nor in the cache anymore
+	 */
+	private static void unmap(final List<Handle> evicted) {
+		for (final Handle handle : evicted) {
+			if (!handle.mapped.isCompletedExceptionally()) {
+				handle.mapped.join().file.close();
+			}
+		}
+	}
+
+	/**
+	 * A mapped file and the reader of its time series.
+	 */
+	private static final class Mapping {
+
+		final BinaryTimeseriesFile file;
+		final BinaryTimeseriesReader reader;
+
+		Mapping(final BinaryTimeseriesFile file, final BinaryTimeseriesReader reader) {
+			this.file = file;
+			this.reader = reader;
+		}
+	}
+
+	/**
+	 * State of one mapping of a file in the cache; all fields but the mapping are
+	 * guarded by the cache.
+	 */
+	private static final class Handle {
+
+		final Path path;
+		final long lastModified;
+		final long size;
+
+		/** completed when the file is mapped */
+		final CompletableFuture<Mapping> mapped = new CompletableFuture<>();
+
+		/** number of active leases */
+		int refCount;
+
+		/** time at which the last lease was released */
+		long lastUsed;
+
+		/** set when the handle was removed from the cache */
+		boolean retired;
+
+		Handle(final Path path, final long lastModified, final long size) {
+			this.path = path;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Reference-counted lease of a mapped file. The file stays mapped at least
+	 * until the lease is closed.
+	 */
+	public static final class Lease implements Closeable {
+
+		private final MappedFileCache cache;
+		private final Handle handle;
+		private final Mapping mapping;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Lease(final MappedFileCache cache, final Handle handle, final Mapping mapping) {
+			this.cache = cache;
+			this.handle = handle;
+			this.mapping = mapping;
+		}
+
+		/**
+		 * @return the path of the leased file
+		 */
+		public Path getPath() {
+			return handle.path;
+		}
+
+		/**
+		 * @return the mapped file
+		 * @throws RuntimeException if the lease has been closed
+		 */
+		public BinaryTimeseriesFile getFile() {
+			checkNotReleased();
+			return mapping.file;
+		}
+
+		/**
+		 * @return the reader of the time series in the file, which is shared by all
+		 *         leases of the same mapping
+		 * @throws RuntimeException if the lease has been closed
+		 */
+		public BinaryTimeseriesReader getReader() {
+			checkNotReleased();
+			return mapping.reader;
+		}
+
+		/**
+		 * Release this lease. Closing an already closed lease has no effect.
+		 */
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				cache.release(handle);
+			}
+		}
+
+		/**
+		 * @throws RuntimeException if this lease has been closed
+		 */
+		private void checkNotReleased() {
+			if (released.get()) {
+				throw new RuntimeException("lease of '" + handle.path + "' has already been closed");
+			}
+		}
+	}
+}
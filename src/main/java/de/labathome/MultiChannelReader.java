@@ -0,0 +1,956 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * This is a class to read from a multi-channel BinaryTimeseries container (see
+ * {@link MultiChannelTimeseries}). The header and the scaling table are parsed
+ * once when the reader is created. A time window is located once for all
+ * channels; for the interleaved layout, reading it from all channels is a
+ * single sequential pass over one contiguous byte range, for the planar layout
+ * it is one contiguous range per channel. Each channel is scaled with its own
+ * scaling parameters.
+ * <br>
+ * The decoders into floating-point samples of each channel are bound to the
+ * lookup tables of its scaling once when the reader is created. Like a
+ * {@link BinaryTimeseriesReader}, a reader can be shared by any number of
+ * threads.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class MultiChannelReader {
+
+	/** number of samples per channel de-interleaved at once */
+	private static final int CHUNK_SIZE = 4096;
+
+	/** access to the bytes of the container */
+	private final DataSource source;
+
+	/** byte order in which the container was written */
+	private final ByteOrder order;
+
+	private final byte time_dtype;
+	private final long t0_long;
+	private final long dt_long;
+	private final double t0_double;
+	private final double dt_double;
+
+	private final byte layout;
+	private final int numChannels;
+	private final byte data_dtype;
+	private final int dataSize;
+	private final int numSamples;
+
+	/** offset of the raw data of the first channel */
+	private final long dataOffset;
+
+	private final byte[] scaling_dtype;
+	private final long[] scalingOffset_long;
+	private final long[] scalingFactor_long;
+	private final double[] scalingOffset_double;
+	private final double[] scalingFactor_double;
+
+	/**
+	 * decoders into floating-point samples of each channel, bound once to the
+	 * lookup tables of the scaling of the channel
+	 */
+	private final List<SampleDecoder<float[]>> decoders_float;
+	private final List<SampleDecoder<double[]>> decoders_double;
+
+	/**
+	 * Parse the header and the scaling table of the multi-channel container which
+	 * starts at the current position of {@code source}.
+	 * 
+	 * @param source buffer containing a multi-channel container starting at its
+	 *               current position; its position is not modified
+	 * @throws RuntimeException if the header contains invalid entries
+	 */
+	public MultiChannelReader(final ByteBuffer source) {
+		this(new SegmentedDataSource(new ByteBuffer[] { source.slice().order(source.order()) }, source.remaining()));
+	}
+
+	/**
+	 * Parse the header and the scaling table of a multi-channel container file
+	 * which is read using positional reads from the given channel; see
+	 * {@link BinaryTimeseriesReader#BinaryTimeseriesReader(FileChannel)}.
+	 * 
+	 * @param channel channel open for reading a multi-channel container file; it
+	 *                is not closed by the reader
+	 * @throws RuntimeException if the header contains invalid entries
+	 */
+	public MultiChannelReader(final FileChannel channel) {
+		this(new ChannelDataSource(channel, DirectBufferPool.SHARED));
+	}
+
+	/**
+	 * Parse the header and the scaling table of the container in the given
+	 * source.
+	 * 
+	 * @param source access to the bytes of the container
+	 * @throws RuntimeException if the header contains invalid entries or the
+	 *                          source does not contain all samples
+	 */
+	private MultiChannelReader(final DataSource source) {
+		this.source = source;
+		final long size = source.size();
+		if (size < BinaryTimeseriesHeader.SIZE) {
+			throw new RuntimeException("source contains only " + size + " bytes, which is not enough for the header");
+		}
+
+		final BinaryTimeseriesHeader parsed = new BinaryTimeseriesHeader(source.bytesAt(0,
+				BinaryTimeseriesHeader.SIZE));
+		order = parsed.order;
+		time_dtype = parsed.time_dtype;
+		t0_long = parsed.t0_long;
+		dt_long = parsed.dt_long;
+		t0_double = parsed.t0_double;
+		dt_double = parsed.dt_double;
+
+		layout = parsed.layout;
+		if (layout != BinaryTimeseries.LAYOUT_INTERLEAVED && layout != BinaryTimeseries.LAYOUT_PLANAR) {
+			throw new RuntimeException("not a multi-channel container; layout is " + layout);
+		}
+		if (parsed.compression != BinaryTimeseries.COMPRESSION_NONE) {
+			throw new RuntimeException("compressed multi-channel containers are not supported");
+		}
+		numChannels = parsed.numChannels;
+		if (numChannels < 1) {
+			throw new RuntimeException("invalid number of channels: " + numChannels);
+		}
+
+		data_dtype = parsed.data_dtype;
+		dataSize = parsed.dataSize;
+		numSamples = parsed.numSamples;
+		dataOffset = MultiChannelTimeseries.dataOffset(numChannels);
+		if (size < dataOffset + (long) numChannels * numSamples * dataSize) {
+			throw new RuntimeException("source contains only " + size + " bytes, which is not enough for "
+					+ numChannels + " channels of " + numSamples + " samples");
+		}
+
+		scaling_dtype = new byte[numChannels];
+		scalingOffset_long = new long[numChannels];
+		scalingFactor_long = new long[numChannels];
+		scalingOffset_double = new double[numChannels];
+		scalingFactor_double = new double[numChannels];
+		final ByteBuffer table = source.bytesAt(MultiChannelTimeseries.SCALING_TABLE_OFFSET,
+				MultiChannelTimeseries.SCALING_ENTRY_SIZE * numChannels);
+		table.order(order);
+		for (int c = 0; c < numChannels; ++c) {
+			readScaling(table, table.position() + c * MultiChannelTimeseries.SCALING_ENTRY_SIZE, c);
+		}
+
+		decoders_float = new ArrayList<>(numChannels);
+		decoders_double = new ArrayList<>(numChannels);
+		for (int c = 0; c < numChannels; ++c) {
+			decoders_float.add(ScalingLookupTable.bind_float(SampleDecoders.get_float(scaling_dtype[c], data_dtype),
+					scaling_dtype[c], scalingOffset_long[c], scalingFactor_long[c], scalingOffset_double[c],
+					scalingFactor_double[c], data_dtype));
+			decoders_double.add(ScalingLookupTable.bind_double(SampleDecoders.get_double(scaling_dtype[c],
+					data_dtype), scaling_dtype[c], scalingOffset_long[c], scalingFactor_long[c],
+					scalingOffset_double[c], scalingFactor_double[c], data_dtype));
+		}
+	}
+
+	/**
+	 * @return byte order in which the container was written
+	 */
+	public ByteOrder getByteOrder() {
+		return order;
+	}
+
+	/**
+	 * @return {@code LAYOUT_INTERLEAVED} or {@code LAYOUT_PLANAR}
+	 */
+	public byte getLayout() {
+		return layout;
+	}
+
+	/**
+	 * @return number of channels in the container
+	 */
+	public int getNumChannels() {
+		return numChannels;
+	}
+
+	/**
+	 * @return timestamp dtype; either {@code DTYPE_LONG} or {@code DTYPE_DOUBLE}
+	 */
+	public byte getTimeType() {
+		return time_dtype;
+	}
+
+	/**
+	 * @return reference timestamp t_0
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getT0_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return t0_long;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public long getDt_long() {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return dt_long;
+	}
+
+	/**
+	 * @return reference timestamp t_0; converted to {@code double} if the
+	 *         timestamps are stored as {@code long}
+	 */
+	public double getT0_double() {
+		return t0_double;
+	}
+
+	/**
+	 * @return time interval between two consecutive samples Delta_t; converted to
+	 *         {@code double} if the timestamps are stored as {@code long}
+	 */
+	public double getDt_double() {
+		return dt_double;
+	}
+
+	/**
+	 * @param channel index of the channel
+	 * @return scaling dtype of the given channel; {@code DTYPE_NONE} if the
+	 *         channel has no scaling
+	 */
+	public byte getScalingType(final int channel) {
+		checkChannel(channel);
+		return scaling_dtype[channel];
+	}
+
+	/**
+	 * @return raw data type of all channels
+	 */
+	public byte getDataType() {
+		return data_dtype;
+	}
+
+	/**
+	 * @return number of samples per channel
+	 */
+	public int getNumSamples() {
+		return numSamples;
+	}
+
+	/**
+	 * Compute the first index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public int firstIndexInside(final long t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return (int) BinaryTimeseries.firstIndexInside(t0_long, dt_long, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code long}
+	 */
+	public int lastIndexInside(final long t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_LONG);
+		return (int) BinaryTimeseries.lastIndexInside(t0_long, dt_long, t_u, numSamples);
+	}
+
+	/**
+	 * Compute the first index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @return first index inside the time interval [{@code t_l}, {@code t_u}]
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public int firstIndexInside(final double t_l) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return (int) BinaryTimeseries.firstIndexInside(t0_double, dt_double, t_l, numSamples);
+	}
+
+	/**
+	 * Compute the last index of timestamps inside the given time interval
+	 * [{@code t_l}, {@code t_u}], limited to the available samples.
+	 * 
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return last index inside the time interval [{@code t_l}, {@code t_u}]; -1
+	 *         if {@code t_u} is before the first sample
+	 * @throws RuntimeException if the timestamps are not stored as {@code double}
+	 */
+	public int lastIndexInside(final double t_u) {
+		checkTimeType(BinaryTimeseries.DTYPE_DOUBLE);
+		return (int) BinaryTimeseries.lastIndexInside(t0_double, dt_double, t_u, numSamples);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code byte[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public byte[] readData_byte(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final byte[][] targets = new byte[numChannels][];
+		targets[channel] = new byte[numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_byte(scaling_dtype[c], data_dtype), targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code byte[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public byte[][] readData_byte(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final byte[][] targets = new byte[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_byte(scaling_dtype[c], data_dtype), targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code byte[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public byte[][] readDataInside_byte(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[numChannels][0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code byte[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public byte[][] readDataInside_byte(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new byte[numChannels][0];
+		}
+		return readData_byte(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code short[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public short[] readData_short(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final short[][] targets = new short[numChannels][];
+		targets[channel] = new short[numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_short(scaling_dtype[c], data_dtype), targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code short[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public short[][] readData_short(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final short[][] targets = new short[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_short(scaling_dtype[c], data_dtype), targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code short[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public short[][] readDataInside_short(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[numChannels][0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code short[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public short[][] readDataInside_short(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new short[numChannels][0];
+		}
+		return readData_short(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code int[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public int[] readData_int(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final int[][] targets = new int[numChannels][];
+		targets[channel] = new int[numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_int(scaling_dtype[c], data_dtype), targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code int[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public int[][] readData_int(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final int[][] targets = new int[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_int(scaling_dtype[c], data_dtype), targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code int[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public int[][] readDataInside_int(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[numChannels][0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code int[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public int[][] readDataInside_int(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new int[numChannels][0];
+		}
+		return readData_int(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code long[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public long[] readData_long(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final long[][] targets = new long[numChannels][];
+		targets[channel] = new long[numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_long(scaling_dtype[c], data_dtype), targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code long[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public long[][] readData_long(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final long[][] targets = new long[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, c -> SampleDecoders.get_long(scaling_dtype[c], data_dtype), targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code long[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public long[][] readDataInside_long(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[numChannels][0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code long[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public long[][] readDataInside_long(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new long[numChannels][0];
+		}
+		return readData_long(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code float[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public float[] readData_float(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final float[][] targets = new float[numChannels][];
+		targets[channel] = new float[numToRead];
+		readChannels(firstDataIndex, numToRead, decoders_float::get, targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code float[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public float[][] readData_float(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final float[][] targets = new float[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, decoders_float::get, targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code float[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public float[][] readDataInside_float(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[numChannels][0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code float[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public float[][] readDataInside_float(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new float[numChannels][0];
+		}
+		return readData_float(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of one channel in the given index range into a
+	 * {@code double[]} array.
+	 * 
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return an array containing the (scaled) samples of the given channel
+	 * @throws RuntimeException if the channel or the range is not inside the
+	 *                          container
+	 */
+	public double[] readData_double(final int channel, final int firstDataIndex, final int lastDataIndex) {
+		checkChannel(channel);
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final double[][] targets = new double[numChannels][];
+		targets[channel] = new double[numToRead];
+		readChannels(firstDataIndex, numToRead, decoders_double::get, targets);
+		return targets[channel];
+	}
+
+	/**
+	 * Read the samples of all channels in the given index range into one
+	 * {@code double[]} array per channel.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels
+	 * @throws RuntimeException if the range is not inside the container
+	 */
+	public double[][] readData_double(final int firstDataIndex, final int lastDataIndex) {
+		final int numToRead = numToRead(firstDataIndex, lastDataIndex);
+		final double[][] targets = new double[numChannels][numToRead];
+		readChannels(firstDataIndex, numToRead, decoders_double::get, targets);
+		return targets;
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code double[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public double[][] readDataInside_double(final long t_l, final long t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[numChannels][0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Read the samples of all channels inside the time interval [{@code t_l},
+	 * {@code t_u}] into one {@code double[]} array per channel.
+	 * 
+	 * @param t_l lower boundary of the time interval to read data from
+	 * @param t_u upper boundary of the time interval to read data from
+	 * @return [numChannels][numSamples] array containing the (scaled) samples of
+	 *         all channels inside the given time interval
+	 */
+	public double[][] readDataInside_double(final double t_l, final double t_u) {
+		final int firstDataIndex = firstIndexInside(t_l);
+		final int lastDataIndex = lastIndexInside(t_u);
+		if (lastDataIndex < firstDataIndex) {
+			return new double[numChannels][0];
+		}
+		return readData_double(firstDataIndex, lastDataIndex);
+	}
+
+	/**
+	 * Compute the number of samples in the given index range and check that it is
+	 * inside the container.
+	 * 
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param lastDataIndex  the index of the last sample to read; -1 means read all
+	 *                       available samples
+	 * @return number of samples to read
+	 * @throws RuntimeException if the given range is not inside the container
+	 */
+	private int numToRead(final int firstDataIndex, final int lastDataIndex) {
+		final int last = (lastDataIndex == -1) ? numSamples - 1 : lastDataIndex;
+		if (firstDataIndex < 0 || last >= numSamples || firstDataIndex > last + 1) {
+			throw new RuntimeException("index range [" + firstDataIndex + ", " + lastDataIndex
+					+ "] is not inside the available samples [0, " + (numSamples - 1) + "]");
+		}
+		return last - firstDataIndex + 1;
+	}
+
+	/**
+	 * Read the samples in the given index range of those channels for which a
+	 * target array is given.
+	 * 
+	 * @param <T>            type of the target arrays
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param numToRead      number of samples to read per channel
+	 * @param decoders       provides the decoder for a given channel
+	 * @param targets        arrays into which to put the (scaled) samples of the
+	 *                       channels; channels with a {@code null} entry are
+	 *                       skipped
+	 */
+	private <T> void readChannels(final int firstDataIndex, final int numToRead,
+			final IntFunction<SampleDecoder<T>> decoders, final T[] targets) {
+		if (layout == BinaryTimeseries.LAYOUT_PLANAR) {
+			for (int c = 0; c < numChannels; ++c) {
+				if (targets[c] != null) {
+					readPlanar(c, firstDataIndex, numToRead, decoders.apply(c), targets[c]);
+				}
+			}
+		} else {
+			readInterleaved(firstDataIndex, numToRead, decoders, targets);
+		}
+	}
+
+	/**
+	 * Read the samples in the given index range of one channel of a planar
+	 * container, which are one contiguous range of bytes.
+	 * 
+	 * @param <T>            type of the target array
+	 * @param channel        index of the channel to read
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param numToRead      number of samples to read
+	 * @param decoder        decoder into the type of the target array
+	 * @param target         array into which to put the (scaled) samples
+	 */
+	private <T> void readPlanar(final int channel, final int firstDataIndex, final int numToRead,
+			final SampleDecoder<T> decoder, final T target) {
+		final long channelOffset = dataOffset + (long) channel * numSamples * dataSize;
+		int numRead = 0;
+		while (numRead < numToRead) {
+			final long offset = channelOffset + (long) (firstDataIndex + numRead) * dataSize;
+			final ByteBuffer view = source.acquire(offset, (long) (numToRead - numRead) * dataSize);
+			try {
+				view.order(order);
+				final int numInView = view.remaining() / dataSize;
+				decoder.decode(view, scalingOffset_long[channel], scalingFactor_long[channel],
+						scalingOffset_double[channel], scalingFactor_double[channel], target, numRead, numInView);
+				numRead += numInView;
+			} finally {
+				source.release(view);
+			}
+		}
+	}
+
+	/**
+	 * Read the samples in the given index range of an interleaved container in a
+	 * single pass over the contiguous rows of samples. The samples of each channel
+	 * are gathered from the rows into a scratch buffer, from which they are
+	 * decoded with the scaling of that channel.
+	 * 
+	 * @param <T>            type of the target arrays
+	 * @param firstDataIndex the index of the first sample to read
+	 * @param numToRead      number of samples to read per channel
+	 * @param decoders       provides the decoder for a given channel
+	 * @param targets        arrays into which to put the (scaled) samples of the
+	 *                       channels; channels with a {@code null} entry are
+	 *                       skipped
+	 */
+	private <T> void readInterleaved(final int firstDataIndex, final int numToRead,
+			final IntFunction<SampleDecoder<T>> decoders, final T[] targets) {
+		final int rowSize = numChannels * dataSize;
+		final ByteBuffer column = ByteBuffer.allocate(Math.min(numToRead, CHUNK_SIZE) * dataSize);
+		column.order(order);
+		int numRead = 0;
+		while (numRead < numToRead) {
+			final long offset = dataOffset + (long) (firstDataIndex + numRead) * rowSize;
+			ByteBuffer rows = source.acquire(offset, (long) Math.min(numToRead - numRead, CHUNK_SIZE) * rowSize);
+			boolean acquired = true;
+			if (rows.remaining() < rowSize) {
+				// the next row crosses the end of the acquired buffer, e.g. a segment boundary
+				source.release(rows);
+				rows = source.bytesAt(offset, rowSize);
+				acquired = false;
+			}
+			try {
+				rows.order(order);
+				final int numRows = rows.remaining() / rowSize;
+				for (int c = 0; c < numChannels; ++c) {
+					if (targets[c] == null) {
+						continue;
+					}
+					column.clear();
+					gather(rows, rowSize, c * dataSize, numRows, column);
+					column.flip();
+					decoders.apply(c).decode(column, scalingOffset_long[c], scalingFactor_long[c],
+							scalingOffset_double[c], scalingFactor_double[c], targets[c], numRead, numRows);
+				}
+				numRead += numRows;
+			} finally {
+				if (acquired) {
+					source.release(rows);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copy the raw samples of one channel from consecutive rows into the
+	 * {@code column} buffer.
+	 * 
+	 * @param rows         buffer positioned at the first row
+	 * @param rowSize      number of bytes per row
+	 * @param columnOffset offset of the channel within a row
+	 * @param numRows      number of rows
+	 * @param column       buffer into which to put the raw samples
+	 */
+	private void gather(final ByteBuffer rows, final int rowSize, final int columnOffset, final int numRows,
+			final ByteBuffer column) {
+		int position = rows.position() + columnOffset;
+		for (int i = 0; i < numRows; ++i, position += rowSize) {
+			if (dataSize == 1) {
+				column.put(rows.get(position));
+			} else if (dataSize == 2) {
+				column.putShort(rows.getShort(position));
+			} else if (dataSize == 4) {
+				column.putInt(rows.getInt(position));
+			} else {
+				column.putLong(rows.getLong(position));
+			}
+		}
+	}
+
+	/**
+	 * Parse one entry of the scaling table.
+	 * 
+	 * @param table   buffer containing the scaling table
+	 * @param offset  absolute offset of the entry in {@code table}
+	 * @param channel index of the channel described by the entry
+	 * @throws RuntimeException if the scaling dtype is unknown
+	 */
+	private void readScaling(final ByteBuffer table, final int offset, final int channel) {
+		final byte dtype = table.get(offset);
+		scaling_dtype[channel] = dtype;
+		if (dtype == BinaryTimeseries.DTYPE_BYTE) {
+			scalingOffset_long[channel] = table.get(offset + 1);
+			scalingFactor_long[channel] = table.get(offset + 9);
+		} else if (dtype == BinaryTimeseries.DTYPE_SHORT) {
+			scalingOffset_long[channel] = table.getShort(offset + 1);
+			scalingFactor_long[channel] = table.getShort(offset + 9);
+		} else if (dtype == BinaryTimeseries.DTYPE_INT) {
+			scalingOffset_long[channel] = table.getInt(offset + 1);
+			scalingFactor_long[channel] = table.getInt(offset + 9);
+		} else if (dtype == BinaryTimeseries.DTYPE_LONG) {
+			scalingOffset_long[channel] = table.getLong(offset + 1);
+			scalingFactor_long[channel] = table.getLong(offset + 9);
+		} else if (dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			scalingOffset_double[channel] = table.getFloat(offset + 1);
+			scalingFactor_double[channel] = table.getFloat(offset + 9);
+		} else if (dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			scalingOffset_double[channel] = table.getDouble(offset + 1);
+			scalingFactor_double[channel] = table.getDouble(offset + 9);
+		} else if (dtype != BinaryTimeseries.DTYPE_NONE) {
+			throw new RuntimeException("unknown scaling dtype of channel " + channel + ": " + dtype);
+		}
+	}
+
+	/**
+	 * @param channel index of a channel
+	 * @throws RuntimeException if there is no such channel
+	 */
+	private void checkChannel(final int channel) {
+		if (channel < 0 || channel >= numChannels) {
+			throw new RuntimeException("channel " + channel + " is not inside [0, " + (numChannels - 1) + "]");
+		}
+	}
+
+	/**
+	 * @param expected_dtype expected timestamp dtype
+	 * @throws RuntimeException if the timestamps are not stored in the expected
+	 *                          dtype
+	 */
+	private void checkTimeType(final byte expected_dtype) {
+		if (time_dtype != expected_dtype) {
+			throw new RuntimeException("timestamps are stored as " + BinaryTimeseries.dtypeStr(time_dtype)
+					+ " and not as " + BinaryTimeseries.dtypeStr(expected_dtype));
+		}
+	}
+}
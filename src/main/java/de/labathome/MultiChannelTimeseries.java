@@ -0,0 +1,199 @@
+package de.labathome;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+
+/**
+ * This is a class to save several channels which are sampled on the same clock,
+ * e.g. by one multi-channel ADC, into a single BinaryTimeseries container. The
+ * container uses the regular 64 byte header with the same timebase and dtype
+ * codes, so that t_0 and Delta_t are stored only once and a time window is
+ * located in all channels by a single index computation. The reserved header
+ * bytes hold the layout and the number of channels:
+ * <ul>
+ * <li>offset 37: layout; {@code LAYOUT_INTERLEAVED} or {@code LAYOUT_PLANAR}</li>
+ * <li>offset 38: number of channels as {@code int}</li>
+ * </ul>
+ * The scaling in the header is disabled. Instead, a scaling table follows the
+ * header at offset 64 with one 17 byte entry per channel, which has the same
+ * layout as the scaling parameters in the header (scaling dtype, offset,
+ * factor), so every channel has its own scaling. The table is padded with zeros
+ * to a multiple of 8 bytes, so that the raw data is aligned to its sample size.
+ * The raw data of all channels follows the padded table, either interleaved
+ * (row-major), so that a time window of all channels is one contiguous range,
+ * or planar, so that each channel is one contiguous range. Use a
+ * {@link MultiChannelReader} to read such a container.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public final class MultiChannelTimeseries {
+
+	/** offset of the layout in the header */
+	static final int LAYOUT_OFFSET = 37;
+
+	/** offset of the number of channels in the header */
+	static final int NUM_CHANNELS_OFFSET = 38;
+
+	/** offset of the scaling table */
+	static final int SCALING_TABLE_OFFSET = 64;
+
+	/** size of one entry in the scaling table: scaling dtype, offset and factor */
+	static final int SCALING_ENTRY_SIZE = 1 + 8 + 8;
+
+	private MultiChannelTimeseries() {
+	}
+
+	/**
+	 * Compute the number of bytes of a multi-channel container.
+	 * 
+	 * @param numChannels number of channels
+	 * @param data_dtype  raw data type of all channels
+	 * @param numSamples  number of samples per channel
+	 * @return size of the container in bytes
+	 */
+	public static long size(final int numChannels, final byte data_dtype, final int numSamples) {
+		return dataOffset(numChannels) + (long) numChannels * numSamples * BinaryTimeseries.dtypeSize(data_dtype);
+	}
+
+	/**
+	 * Create a multi-channel container of unscaled channels.
+	 * 
+	 * @param target  buffer into which to write the container; must have room for
+	 *                {@link #size(int, byte, int)} bytes
+	 * @param t0      reference timestamp; can be {@code double} or {@code long}
+	 * @param dt      time interval between two consecutive samples; can be
+	 *                {@code double} or {@code long}
+	 * @param layout  {@code LAYOUT_INTERLEAVED} or {@code LAYOUT_PLANAR}
+	 * @param rawData raw data arrays of the channels, all of the same type and
+	 *                length
+	 * @throws RuntimeException if the channels do not have the same type and
+	 *                          length or the layout is unknown
+	 */
+	public static void write(final ByteBuffer target, Object t0, Object dt, final byte layout,
+			final Object[] rawData) {
+		write(target, t0, dt, layout, rawData, null, null);
+	}
+
+	/**
+	 * Create a multi-channel container of channels with individual scaling.
+	 * 
+	 * @param target         buffer into which to write the container; must have
+	 *                       room for {@link #size(int, byte, int)} bytes
+	 * @param t0             reference timestamp; can be {@code double} or
+	 *                       {@code long}
+	 * @param dt             time interval between two consecutive samples; can be
+	 *                       {@code double} or {@code long}
+	 * @param layout         {@code LAYOUT_INTERLEAVED} or {@code LAYOUT_PLANAR}
+	 * @param rawData        raw data arrays of the channels, all of the same type
+	 *                       and length
+	 * @param scalingOffsets scaling offsets of the channels; {@code null} if no
+	 *                       channel has scaling; otherwise the entries can be
+	 *                       {@code null} or of the same class as the
+	 *                       corresponding scaling factors
+	 * @param scalingFactors scaling factors of the channels; {@code null} if no
+	 *                       channel has scaling
+	 * @throws RuntimeException if the channels do not have the same type and
+	 *                          length, the scaling parameters do not match or the
+	 *                          layout is unknown
+	 */
+	public static void write(final ByteBuffer target, Object t0, Object dt, final byte layout,
+			final Object[] rawData, final Object[] scalingOffsets, final Object[] scalingFactors) {
+		if (layout != BinaryTimeseries.LAYOUT_INTERLEAVED && layout != BinaryTimeseries.LAYOUT_PLANAR) {
+			throw new RuntimeException("unknown multi-channel layout: " + layout);
+		}
+		final int numChannels = rawData.length;
+		if (numChannels < 1) {
+			throw new RuntimeException("at least one channel is needed");
+		}
+		if ((scalingOffsets != null && scalingOffsets.length != numChannels)
+				|| (scalingFactors != null && scalingFactors.length != numChannels)) {
+			throw new RuntimeException("scaling parameters have to be given for all " + numChannels + " channels");
+		}
+		final byte data_dtype = BinaryTimeseries.dataType(rawData[0]);
+		final int numSamples = Array.getLength(rawData[0]);
+		for (int c = 1; c < numChannels; ++c) {
+			if (BinaryTimeseries.dataType(rawData[c]) != data_dtype || Array.getLength(rawData[c]) != numSamples) {
+				throw new RuntimeException("channel " + c + " differs in type or length from channel 0");
+			}
+		}
+
+		final int start = target.position();
+		BinaryTimeseries.writeHeader(target, t0, dt, null, null, data_dtype, numSamples);
+		target.put(start + LAYOUT_OFFSET, layout);
+		target.putInt(start + NUM_CHANNELS_OFFSET, numChannels);
+		for (int c = 0; c < numChannels; ++c) {
+			BinaryTimeseries.writeScaling(target, (scalingOffsets == null) ? null : scalingOffsets[c],
+					(scalingFactors == null) ? null : scalingFactors[c]);
+		}
+		while (target.position() < start + dataOffset(numChannels)) {
+			target.put((byte) 0);
+		}
+
+		if (layout == BinaryTimeseries.LAYOUT_PLANAR) {
+			for (int c = 0; c < numChannels; ++c) {
+				BinaryTimeseries.writeRawData(target, rawData[c], 0, numSamples);
+			}
+		} else {
+			writeInterleaved(target, data_dtype, rawData, numSamples);
+		}
+	}
+
+	/**
+	 * @param numChannels number of channels
+	 * @return offset of the raw data, i.e., the end of the scaling table padded
+	 *         to a multiple of 8 bytes
+	 */
+	static long dataOffset(final int numChannels) {
+		return SCALING_TABLE_OFFSET + ((long) SCALING_ENTRY_SIZE * numChannels + 7) / 8 * 8;
+	}
+
+	/**
+	 * Write the raw data of all channels sample by sample.
+	 * 
+	 * @param target     buffer into which to write the raw data
+	 * @param data_dtype raw data type of all channels
+	 * @param rawData    raw data arrays of the channels
+	 * @param numSamples number of samples per channel
+	 */
+	private static void writeInterleaved(final ByteBuffer target, final byte data_dtype, final Object[] rawData,
+			final int numSamples) {
+		final int numChannels = rawData.length;
+		if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.put(((byte[]) rawData[c])[i]);
+				}
+			}
+		} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.putShort(((short[]) rawData[c])[i]);
+				}
+			}
+		} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.putInt(((int[]) rawData[c])[i]);
+				}
+			}
+		} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.putLong(((long[]) rawData[c])[i]);
+				}
+			}
+		} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.putFloat(((float[]) rawData[c])[i]);
+				}
+			}
+		} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			for (int i = 0; i < numSamples; ++i) {
+				for (int c = 0; c < numChannels; ++c) {
+					target.putDouble(((double[]) rawData[c])[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decoder of raw samples of one particular raw data type, scaled with one
+ * particular scaling type, into samples of one particular target type. Integer
+ * scaling parameters are passed widened to {@code long} and floating-point
+ * scaling parameters are passed widened to {@code double}; they are narrowed
+ * back to the scaling data type before use, so the result is the same as if
+ * the scaling parameters had been read from the buffer directly.
+ *
+ * @param <T> type of the target array
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ * @see SampleDecoders
+ */
+@FunctionalInterface
+interface SampleDecoder<T> {
+
+	/**
+	 * Decode {@code numToRead} raw samples starting at the current position of the
+	 * {@code source} buffer, scale them and put the resulting samples into the
+	 * given {@code target} array. The position of {@code source} is advanced past
+	 * the decoded samples.
+	 * 
+	 * @param source               buffer positioned at the first sample to decode
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param target               array into which to put the (scaled) data
+	 * @param targetOffset         offset in {@code target} at which to put the
+	 *                             first decoded sample
+	 * @param numToRead            number of samples to decode
+	 */
+	void decode(ByteBuffer source, long scalingOffset_long, long scalingFactor_long, double scalingOffset_double,
+			double scalingFactor_double, T target, int targetOffset, int numToRead);
+}
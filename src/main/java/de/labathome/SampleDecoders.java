@@ -0,0 +1,2628 @@
+package de.labathome;
+
+/**
+ * Decoders for all combinations of scaling type, raw data type and target type.
+ * Instead of branching on the data types for every sample, the combination of
+ * types is resolved once per read into a decoder which only contains the loop
+ * for this particular combination, so the loop itself contains no type
+ * dispatch. Each decoder is a separate class, so a call site which is reached
+ * with decoders of many combinations, e.g. the one in
+ * {@link BinaryTimeseriesReader}, is megamorphic and pays one virtual call per
+ * read, not per sample. Decoders are created on first use and cached.
+ * <br>
+ * This file is generated by {@code GenerateDecoderCode} in the test sources;
+ * change the generator instead of editing this file by hand.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class SampleDecoders {
+
+	/**
+	 * cached decoders, indexed by target type, scaling type and raw data type; the
+	 * decoders are stateless, so a race between two threads only creates a decoder
+	 * twice
+	 */
+	private static final SampleDecoder<?>[] decoders = new SampleDecoder<?>[7 * 7 * 7];
+
+	/** cached decoders which always decode sample by sample */
+	private static final SampleDecoder<?>[] scalarDecoders = new SampleDecoder<?>[7 * 7 * 7];
+
+	private SampleDecoders() {
+	}
+
+	/**
+	 * Get the decoder into {@code byte} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<byte[]> get_byte(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<byte[]>) get(BinaryTimeseries.DTYPE_BYTE, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code byte} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<byte[]> getScalar_byte(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<byte[]>) get(BinaryTimeseries.DTYPE_BYTE, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get the decoder into {@code short} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<short[]> get_short(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<short[]>) get(BinaryTimeseries.DTYPE_SHORT, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code short} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<short[]> getScalar_short(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<short[]>) get(BinaryTimeseries.DTYPE_SHORT, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get the decoder into {@code int} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<int[]> get_int(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<int[]>) get(BinaryTimeseries.DTYPE_INT, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code int} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<int[]> getScalar_int(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<int[]>) get(BinaryTimeseries.DTYPE_INT, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get the decoder into {@code long} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<long[]> get_long(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<long[]>) get(BinaryTimeseries.DTYPE_LONG, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code long} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<long[]> getScalar_long(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<long[]>) get(BinaryTimeseries.DTYPE_LONG, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get the decoder into {@code float} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<float[]> get_float(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<float[]>) get(BinaryTimeseries.DTYPE_FLOAT, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code float} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<float[]> getScalar_float(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<float[]>) get(BinaryTimeseries.DTYPE_FLOAT, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get the decoder into {@code double} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<double[]> get_double(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<double[]>) get(BinaryTimeseries.DTYPE_DOUBLE, scaling_dtype, data_dtype, true);
+	}
+
+	/**
+	 * Get the decoder into {@code double} samples for the given combination of
+	 * scaling and raw data type which always decodes sample by sample.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	@SuppressWarnings("unchecked")
+	static SampleDecoder<double[]> getScalar_double(final byte scaling_dtype, final byte data_dtype) {
+		return (SampleDecoder<double[]>) get(BinaryTimeseries.DTYPE_DOUBLE, scaling_dtype, data_dtype, false);
+	}
+
+	/**
+	 * Get a cached decoder or create it if it does not exist yet.
+	 * 
+	 * @param target_dtype  target data type
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return decoder for the given combination of types
+	 * @throws RuntimeException if an unknown scaling type or data type was given
+	 */
+	private static SampleDecoder<?> get(final byte target_dtype, final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype < BinaryTimeseries.DTYPE_NONE || scaling_dtype > BinaryTimeseries.DTYPE_DOUBLE) {
+			throw new RuntimeException("unknown scaling dtype");
+		}
+		if (data_dtype < BinaryTimeseries.DTYPE_BYTE || data_dtype > BinaryTimeseries.DTYPE_DOUBLE) {
+			throw new RuntimeException("unknown data dtype");
+		}
+		final SampleDecoder<?>[] cache = specialized ? decoders : scalarDecoders;
+		final int index = 49 * target_dtype + 7 * scaling_dtype + data_dtype;
+		SampleDecoder<?> decoder = cache[index];
+		if (decoder == null) {
+			if (target_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				decoder = create_byte(scaling_dtype, data_dtype, specialized);
+			} else if (target_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				decoder = create_short(scaling_dtype, data_dtype, specialized);
+			} else if (target_dtype == BinaryTimeseries.DTYPE_INT) {
+				decoder = create_int(scaling_dtype, data_dtype, specialized);
+			} else if (target_dtype == BinaryTimeseries.DTYPE_LONG) {
+				decoder = create_long(scaling_dtype, data_dtype, specialized);
+			} else if (target_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				decoder = create_float(scaling_dtype, data_dtype, specialized);
+			} else {
+				decoder = create_double(scaling_dtype, data_dtype, specialized);
+			}
+			cache[index] = decoder;
+		}
+		return decoder;
+	}
+
+	/**
+	 * Create the decoder into {@code byte} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<byte[]> create_byte(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) source.getShort();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) source.getInt();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) source.getLong();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) source.getFloat();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) source.getDouble();
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (byte) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+
+	/**
+	 * Create the decoder into {@code short} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<short[]> create_short(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) source.get();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) source.getInt();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) source.getLong();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) source.getFloat();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) source.getDouble();
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (short) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+
+	/**
+	 * Create the decoder into {@code int} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<int[]> create_int(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) source.get();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) source.getShort();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) source.getLong();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) source.getFloat();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) source.getDouble();
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (int) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+
+	/**
+	 * Create the decoder into {@code long} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<long[]> create_long(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) source.get();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) source.getShort();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) source.getInt();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) source.getFloat();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) source.getDouble();
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (long) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+
+	/**
+	 * Create the decoder into {@code float} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<float[]> create_float(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) source.get();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) source.getShort();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) source.getInt();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) source.getLong();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) source.getDouble();
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				if (specialized) {
+					return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+							scalingFactor_double, target, targetOffset, numToRead) -> {
+						final float scalingOffset = (float) scalingOffset_double;
+						final float scalingFactor = (float) scalingFactor_double;
+						if (numToRead >= BulkDecoder.MIN_SAMPLES) {
+							BulkDecoder.decode(source, scalingOffset, scalingFactor, target, targetOffset,
+									numToRead);
+						} else {
+							for (int i = 0; i < numToRead; ++i) {
+								target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+							}
+						}
+					};
+				}
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (float) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+
+	/**
+	 * Create the decoder into {@code double} samples for the given combination of
+	 * scaling and raw data type.
+	 * 
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @param specialized   whether to use the bulk kernels where available
+	 * @return new decoder
+	 */
+	private static SampleDecoder<double[]> create_double(final byte scaling_dtype, final byte data_dtype,
+			final boolean specialized) {
+		if (scaling_dtype == BinaryTimeseries.DTYPE_NONE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) source.get();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) source.getShort();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) source.getInt();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) source.getLong();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) source.getFloat();
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final byte scalingOffset = (byte) scalingOffset_long;
+					final byte scalingFactor = (byte) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final short scalingOffset = (short) scalingOffset_long;
+					final short scalingFactor = (short) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_INT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final int scalingOffset = (int) scalingOffset_long;
+					final int scalingFactor = (int) scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_LONG) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final long scalingOffset = scalingOffset_long;
+					final long scalingFactor = scalingFactor_long;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final float scalingOffset = (float) scalingOffset_double;
+					final float scalingFactor = (float) scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		} else if (scaling_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.get());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getShort());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getInt());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_LONG) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getLong());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_FLOAT) {
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getFloat());
+					}
+				};
+			} else if (data_dtype == BinaryTimeseries.DTYPE_DOUBLE) {
+				if (specialized) {
+					return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+							scalingFactor_double, target, targetOffset, numToRead) -> {
+						final double scalingOffset = scalingOffset_double;
+						final double scalingFactor = scalingFactor_double;
+						if (numToRead >= BulkDecoder.MIN_SAMPLES) {
+							BulkDecoder.decode(source, scalingOffset, scalingFactor, target, targetOffset,
+									numToRead);
+						} else {
+							for (int i = 0; i < numToRead; ++i) {
+								target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+							}
+						}
+					};
+				}
+				return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead) -> {
+					final double scalingOffset = scalingOffset_double;
+					final double scalingFactor = scalingFactor_double;
+					for (int i = 0; i < numToRead; ++i) {
+						target[targetOffset + i] = (double) (scalingOffset + scalingFactor * source.getDouble());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("unknown scaling dtype or data dtype");
+	}
+}
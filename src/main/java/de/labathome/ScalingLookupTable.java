@@ -0,0 +1,431 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lookup tables for decoding scaled {@code byte} and {@code short} raw data
+ * into {@code float} or {@code double} samples. These raw types have only 256
+ * or 65536 distinct values, so all scaled values can be computed once and the
+ * raw samples are then mapped through the table instead of evaluating
+ * {@code scalingOffset + scalingFactor * raw} for every sample. The tables are
+ * built using the regular decoding methods, so the results are identical.
+ * <br>
+ * A table is bound to the scaling parameters of one time series by wrapping
+ * its decoder with {@link #bind_float} or {@link #bind_double}, e.g. once when
+ * a {@link BinaryTimeseriesReader} is created. The wrapper looks up its table
+ * only on the first decode which is large enough and keeps it, so later decodes
+ * neither allocate memory nor take a lock. Tables are also kept in a small
+ * least-recently-used cache per scaling parameters which is shared by all
+ * threads, so that readers of files with the same scaling share their tables.
+ * The static {@code BinaryTimeseries.readData} methods bind a table for each
+ * call, so they look it up in this cache once per call.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class ScalingLookupTable {
+
+	/**
+	 * maximum number of cached tables; the largest table has 512 kB
+	 */
+	static final int MAX_CACHED_TABLES = 32;
+
+	private static final Map<Key, Object> cache = new LinkedHashMap<Key, Object>(MAX_CACHED_TABLES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+			return size() > MAX_CACHED_TABLES;
+		}
+	};
+
+	private ScalingLookupTable() {
+	}
+
+	/**
+	 * Check whether decoding the given number of raw samples of the given type is
+	 * worth a lookup table. This is the case if the table is at most as large as
+	 * the number of samples to decode, so that building a table which is not
+	 * cached yet costs at most as much as decoding the samples directly.
+	 *
+	 * @param data_dtype raw data type
+	 * @param numToRead  number of samples to decode
+	 * @return true if the samples should be decoded using a lookup table
+	 */
+	static boolean isApplicable(final byte data_dtype, final int numToRead) {
+		if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+			return numToRead >= 256;
+		} else if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+			return numToRead >= 65536;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Get the table of all scaled {@code float} values for the given scaling
+	 * parameters and raw data type. The table entry for a raw value {@code r} is
+	 * at index {@code r & 0xFF} for {@code byte} and {@code r & 0xFFFF} for
+	 * {@code short} raw data.
+	 *
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type; {@code DTYPE_BYTE} or
+	 *                             {@code DTYPE_SHORT}
+	 * @return lookup table; must not be modified
+	 */
+	static float[] get_float(final byte scaling_dtype, final long scalingOffset_long, final long scalingFactor_long,
+			final double scalingOffset_double, final double scalingFactor_double, final byte data_dtype) {
+		final Key key = new Key(BinaryTimeseries.DTYPE_FLOAT, scaling_dtype, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, data_dtype);
+		float[] table;
+		synchronized (cache) {
+			table = (float[]) cache.get(key);
+		}
+		if (table == null) {
+			final int numValues = numValues(data_dtype);
+			table = new float[numValues];
+			BinaryTimeseries.decodeScalar_float(allRawValues(data_dtype), scaling_dtype, scalingOffset_long,
+					scalingFactor_long, scalingOffset_double, scalingFactor_double, data_dtype, table, 0, numValues);
+			synchronized (cache) {
+				cache.put(key, table);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Get the table of all scaled {@code double} values for the given scaling
+	 * parameters and raw data type. The table entry for a raw value {@code r} is
+	 * at index {@code r & 0xFF} for {@code byte} and {@code r & 0xFFFF} for
+	 * {@code short} raw data.
+	 *
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type; {@code DTYPE_BYTE} or
+	 *                             {@code DTYPE_SHORT}
+	 * @return lookup table; must not be modified
+	 */
+	static double[] get_double(final byte scaling_dtype, final long scalingOffset_long, final long scalingFactor_long,
+			final double scalingOffset_double, final double scalingFactor_double, final byte data_dtype) {
+		final Key key = new Key(BinaryTimeseries.DTYPE_DOUBLE, scaling_dtype, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, data_dtype);
+		double[] table;
+		synchronized (cache) {
+			table = (double[]) cache.get(key);
+		}
+		if (table == null) {
+			final int numValues = numValues(data_dtype);
+			table = new double[numValues];
+			BinaryTimeseries.decodeScalar_double(allRawValues(data_dtype), scaling_dtype, scalingOffset_long,
+					scalingFactor_long, scalingOffset_double, scalingFactor_double, data_dtype, table, 0, numValues);
+			synchronized (cache) {
+				cache.put(key, table);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Wrap the given decoder into {@code float} samples such that large decodes
+	 * of {@code byte} or {@code short} raw data with the given scaling parameters
+	 * use a lookup table. Other combinations of types do not benefit from a
+	 * table, so the decoder is returned unchanged for them.
+	 *
+	 * @param decoder              decoder for the given scaling and raw data type
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @return decoder which uses a lookup table where applicable
+	 */
+	static SampleDecoder<float[]> bind_float(final SampleDecoder<float[]> decoder, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype) {
+		if (!hasTable(scaling_dtype, data_dtype)) {
+			return decoder;
+		}
+		return new TableDecoder_float(decoder, scaling_dtype, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, data_dtype);
+	}
+
+	/**
+	 * Wrap the given decoder into {@code double} samples such that large decodes
+	 * of {@code byte} or {@code short} raw data with the given scaling parameters
+	 * use a lookup table. Other combinations of types do not benefit from a
+	 * table, so the decoder is returned unchanged for them.
+	 *
+	 * @param decoder              decoder for the given scaling and raw data type
+	 * @param scaling_dtype        scaling data type
+	 * @param scalingOffset_long   scaling offset for integer scaling data types
+	 * @param scalingFactor_long   scaling factor for integer scaling data types
+	 * @param scalingOffset_double scaling offset for floating-point scaling data
+	 *                             types
+	 * @param scalingFactor_double scaling factor for floating-point scaling data
+	 *                             types
+	 * @param data_dtype           raw data type
+	 * @return decoder which uses a lookup table where applicable
+	 */
+	static SampleDecoder<double[]> bind_double(final SampleDecoder<double[]> decoder, final byte scaling_dtype,
+			final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+			final double scalingFactor_double, final byte data_dtype) {
+		if (!hasTable(scaling_dtype, data_dtype)) {
+			return decoder;
+		}
+		return new TableDecoder_double(decoder, scaling_dtype, scalingOffset_long, scalingFactor_long,
+				scalingOffset_double, scalingFactor_double, data_dtype);
+	}
+
+	/**
+	 * Remove all tables from the cache.
+	 */
+	static void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return number of currently cached tables
+	 */
+	static int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * @param scaling_dtype scaling data type
+	 * @param data_dtype    raw data type
+	 * @return true if samples of the given types can be decoded using a table
+	 */
+	private static boolean hasTable(final byte scaling_dtype, final byte data_dtype) {
+		return scaling_dtype != BinaryTimeseries.DTYPE_NONE
+				&& (data_dtype == BinaryTimeseries.DTYPE_BYTE || data_dtype == BinaryTimeseries.DTYPE_SHORT);
+	}
+
+	/**
+	 * @param data_dtype {@code DTYPE_BYTE} or {@code DTYPE_SHORT}
+	 * @return number of distinct values of the given raw data type
+	 */
+	private static int numValues(final byte data_dtype) {
+		return (data_dtype == BinaryTimeseries.DTYPE_BYTE) ? 256 : 65536;
+	}
+
+	/**
+	 * Create a buffer that contains all values {@code r} of the given raw data
+	 * type, ordered such that value {@code r} is at index {@code r & 0xFF} or
+	 * {@code r & 0xFFFF}, respectively.
+	 *
+	 * @param data_dtype {@code DTYPE_BYTE} or {@code DTYPE_SHORT}
+	 * @return buffer positioned at the first raw value
+	 */
+	private static ByteBuffer allRawValues(final byte data_dtype) {
+		final int numValues = numValues(data_dtype);
+		final ByteBuffer values = ByteBuffer.allocate(numValues * BinaryTimeseries.dtypeSize(data_dtype));
+		for (int i = 0; i < numValues; ++i) {
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				values.put((byte) i);
+			} else {
+				values.putShort((short) i);
+			}
+		}
+		values.flip();
+		return values;
+	}
+
+	/**
+	 * Decoder into {@code float} samples which maps large numbers of raw samples
+	 * through the table of one set of scaling parameters. The table is looked up
+	 * on first use; racing threads at worst look it up twice and get the same
+	 * table.
+	 */
+	private static final class TableDecoder_float implements SampleDecoder<float[]> {
+
+		private final SampleDecoder<float[]> decoder;
+		private final byte scaling_dtype;
+		private final long scalingOffset_long;
+		private final long scalingFactor_long;
+		private final double scalingOffset_double;
+		private final double scalingFactor_double;
+		private final byte data_dtype;
+
+		private volatile float[] table;
+
+		TableDecoder_float(final SampleDecoder<float[]> decoder, final byte scaling_dtype,
+				final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+				final double scalingFactor_double, final byte data_dtype) {
+			this.decoder = decoder;
+			this.scaling_dtype = scaling_dtype;
+			this.scalingOffset_long = scalingOffset_long;
+			this.scalingFactor_long = scalingFactor_long;
+			this.scalingOffset_double = scalingOffset_double;
+			this.scalingFactor_double = scalingFactor_double;
+			this.data_dtype = data_dtype;
+		}
+
+		@Override
+		public void decode(final ByteBuffer source, final long scalingOffset_long, final long scalingFactor_long,
+				final double scalingOffset_double, final double scalingFactor_double, final float[] target,
+				final int targetOffset, final int numToRead) {
+			if (!isApplicable(data_dtype, numToRead)
+					|| !isBoundTo(scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double)) {
+				decoder.decode(source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead);
+				return;
+			}
+			float[] lookup = table;
+			if (lookup == null) {
+				lookup = get_float(scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, data_dtype);
+				table = lookup;
+			}
+			final int position = source.position();
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				for (int i = 0; i < numToRead; ++i) {
+					target[targetOffset + i] = lookup[source.get(position + i) & 0xFF];
+				}
+				source.position(position + numToRead);
+			} else {
+				for (int i = 0; i < numToRead; ++i) {
+					target[targetOffset + i] = lookup[source.getShort(position + i * Short.BYTES) & 0xFFFF];
+				}
+				source.position(position + numToRead * Short.BYTES);
+			}
+		}
+
+		/**
+		 * @param scalingOffset_long   scaling offset for integer scaling data types
+		 * @param scalingFactor_long   scaling factor for integer scaling data types
+		 * @param scalingOffset_double scaling offset for floating-point scaling data
+		 *                             types
+		 * @param scalingFactor_double scaling factor for floating-point scaling data
+		 *                             types
+		 * @return true if the given scaling parameters are the ones of the table
+		 */
+		private boolean isBoundTo(final long scalingOffset_long, final long scalingFactor_long,
+				final double scalingOffset_double, final double scalingFactor_double) {
+			return scalingOffset_long == this.scalingOffset_long && scalingFactor_long == this.scalingFactor_long
+					&& Double.compare(scalingOffset_double, this.scalingOffset_double) == 0
+					&& Double.compare(scalingFactor_double, this.scalingFactor_double) == 0;
+		}
+	}
+
+	/**
+	 * Decoder into {@code double} samples which maps large numbers of raw samples
+	 * through the table of one set of scaling parameters. The table is looked up
+	 * on first use; racing threads at worst look it up twice and get the same
+	 * table.
+	 */
+	private static final class TableDecoder_double implements SampleDecoder<double[]> {
+
+		private final SampleDecoder<double[]> decoder;
+		private final byte scaling_dtype;
+		private final long scalingOffset_long;
+		private final long scalingFactor_long;
+		private final double scalingOffset_double;
+		private final double scalingFactor_double;
+		private final byte data_dtype;
+
+		private volatile double[] table;
+
+		TableDecoder_double(final SampleDecoder<double[]> decoder, final byte scaling_dtype,
+				final long scalingOffset_long, final long scalingFactor_long, final double scalingOffset_double,
+				final double scalingFactor_double, final byte data_dtype) {
+			this.decoder = decoder;
+			this.scaling_dtype = scaling_dtype;
+			this.scalingOffset_long = scalingOffset_long;
+			this.scalingFactor_long = scalingFactor_long;
+			this.scalingOffset_double = scalingOffset_double;
+			this.scalingFactor_double = scalingFactor_double;
+			this.data_dtype = data_dtype;
+		}
+
+		@Override
+		public void decode(final ByteBuffer source, final long scalingOffset_long, final long scalingFactor_long,
+				final double scalingOffset_double, final double scalingFactor_double, final double[] target,
+				final int targetOffset, final int numToRead) {
+			if (!isApplicable(data_dtype, numToRead)
+					|| !isBoundTo(scalingOffset_long, scalingFactor_long, scalingOffset_double, scalingFactor_double)) {
+				decoder.decode(source, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, target, targetOffset, numToRead);
+				return;
+			}
+			double[] lookup = table;
+			if (lookup == null) {
+				lookup = get_double(scaling_dtype, scalingOffset_long, scalingFactor_long, scalingOffset_double,
+						scalingFactor_double, data_dtype);
+				table = lookup;
+			}
+			final int position = source.position();
+			if (data_dtype == BinaryTimeseries.DTYPE_BYTE) {
+				for (int i = 0; i < numToRead; ++i) {
+					target[targetOffset + i] = lookup[source.get(position + i) & 0xFF];
+				}
+				source.position(position + numToRead);
+			} else {
+				for (int i = 0; i < numToRead; ++i) {
+					target[targetOffset + i] = lookup[source.getShort(position + i * Short.BYTES) & 0xFFFF];
+				}
+				source.position(position + numToRead * Short.BYTES);
+			}
+		}
+
+		/**
+		 * @param scalingOffset_long   scaling offset for integer scaling data types
+		 * @param scalingFactor_long   scaling factor for integer scaling data types
+		 * @param scalingOffset_double scaling offset for floating-point scaling data
+		 *                             types
+		 * @param scalingFactor_double scaling factor for floating-point scaling data
+		 *                             types
+		 * @return true if the given scaling parameters are the ones of the table
+		 */
+		private boolean isBoundTo(final long scalingOffset_long, final long scalingFactor_long,
+				final double scalingOffset_double, final double scalingFactor_double) {
+			return scalingOffset_long == this.scalingOffset_long && scalingFactor_long == this.scalingFactor_long
+					&& Double.compare(scalingOffset_double, this.scalingOffset_double) == 0
+					&& Double.compare(scalingFactor_double, this.scalingFactor_double) == 0;
+		}
+	}
+
+	/**
+	 * Identification of a lookup table by its target type, scaling parameters and
+	 * raw data type.
+	 */
+	private static final class Key {
+		private final long[] parameters;
+
+		Key(final byte target_dtype, final byte scaling_dtype, final long scalingOffset_long,
+				final long scalingFactor_long, final double scalingOffset_double, final double scalingFactor_double,
+				final byte data_dtype) {
+			parameters = new long[] { target_dtype, scaling_dtype, data_dtype, scalingOffset_long, scalingFactor_long,
+					Double.doubleToLongBits(scalingOffset_double), Double.doubleToLongBits(scalingFactor_double) };
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key && Arrays.equals(parameters, ((Key) obj).parameters);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(parameters);
+		}
+	}
+}
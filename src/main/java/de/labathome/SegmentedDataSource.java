@@ -0,0 +1,134 @@
+package de.labathome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Access to a BinaryTimeseries held in one or several consecutive buffers,
+ * e.g. the {@link java.nio.MappedByteBuffer} segments of a large file. Samples
+ * are decoded directly from views of the segments; only byte ranges which cross
+ * a segment boundary are copied.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class SegmentedDataSource implements DataSource {
+
+	/**
+	 * consecutive parts of the time series data; position 0 of the first segment
+	 * is at the start of the header
+	 */
+	private final ByteBuffer[] segments;
+
+	/** size of all but the last segment in bytes */
+	private final long segmentSize;
+
+	/** file whose mapped segments these are; {@code null} for plain buffers */
+	private final BinaryTimeseriesFile file;
+
+	/**
+	 * @param segments    consecutive parts of the time series; all but the last one
+	 *                    must have a size of {@code segmentSize} bytes
+	 * @param segmentSize size of all but the last segment in bytes; must be a
+	 *                    multiple of 8
+	 */
+	SegmentedDataSource(final ByteBuffer[] segments, final long segmentSize) {
+		this(segments, segmentSize, null);
+	}
+
+	/**
+	 * @param segments    consecutive parts of the time series; all but the last one
+	 *                    must have a size of {@code segmentSize} bytes
+	 * @param segmentSize size of all but the last segment in bytes; must be a
+	 *                    multiple of 8
+	 * @param file        file which owns the mapped segments and keeps them mapped
+	 *                    during reads; {@code null} for plain buffers
+	 */
+	SegmentedDataSource(final ByteBuffer[] segments, final long segmentSize, final BinaryTimeseriesFile file) {
+		this.segments = segments;
+		this.segmentSize = segmentSize;
+		this.file = file;
+	}
+
+	@Override
+	public long size() {
+		long size = 0;
+		for (ByteBuffer segment : segments) {
+			size += segment.capacity();
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc} This is a view of the containing segment if the range does not
+	 * cross a segment boundary and a copy otherwise.
+	 */
+	@Override
+	public ByteBuffer bytesAt(final long offset, final int length) {
+		final ByteBuffer view = view(offset);
+		if (view.remaining() >= length) {
+			view.limit(view.position() + length);
+			return view;
+		}
+
+		final ByteBuffer copy = ByteBuffer.allocate(length);
+		copy.order(segments[0].order());
+		long current = offset;
+		while (copy.hasRemaining()) {
+			final ByteBuffer part = view(current);
+			part.limit(Math.min(part.limit(), part.position() + copy.remaining()));
+			current += part.remaining();
+			copy.put(part);
+		}
+		copy.flip();
+		return copy;
+	}
+
+	/**
+	 * {@inheritDoc} This is a view of the containing segment, which ends at the
+	 * end of the segment at the latest. Since the segment size is a multiple of 8,
+	 * no sample is split across two views.
+	 */
+	@Override
+	public ByteBuffer acquire(final long offset, final long maxLength) {
+		final ByteBuffer view = view(offset);
+		view.limit((int) Math.min(view.limit(), view.position() + maxLength));
+		return view;
+	}
+
+	@Override
+	public void release(final ByteBuffer buffer) {
+		// views do not need to be released
+	}
+
+	/**
+	 * {@inheritDoc} The segments of a file are not unmapped before the read has
+	 * ended.
+	 */
+	@Override
+	public void beginRead() {
+		if (file != null) {
+			file.beginRead();
+		}
+	}
+
+	@Override
+	public void endRead() {
+		if (file != null) {
+			file.endRead();
+		}
+	}
+
+	/**
+	 * @param offset absolute offset
+	 * @return view of the segment containing {@code offset}, positioned at
+	 *         {@code offset}
+	 */
+	private ByteBuffer view(final long offset) {
+		final int segmentIndex = (int) (offset / segmentSize);
+
+		// duplicate() does not retain the byte order, so it has to be set again
+		final ByteBuffer view = segments[segmentIndex].duplicate();
+		view.order(segments[0].order());
+		view.position((int) (offset - segmentIndex * segmentSize));
+		return view;
+	}
+}
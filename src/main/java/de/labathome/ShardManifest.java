@@ -0,0 +1,218 @@
+package de.labathome;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest of a time series which is split into several BinaryTimeseries files
+ * (shards), see {@link BinaryTimeseriesShardedWriter}. It is a small text file
+ * which holds the global timebase and raw data type and one line per shard:
+ *
+ * <pre>
+ * bts-shards 1
+ * time_dtype long
+ * t0 1000
+ * dt 10
+ * data_dtype 2
+ * shard 0 1000000 recording.00000.bts
+ * shard 1000000 1000000 recording.00001.bts
+ * </pre>
+ *
+ * where each shard line contains the global index of its first sample, its
+ * number of samples and its file name relative to the manifest. Timestamps are
+ * written with {@link Long#toString(long)} or {@link Double#toString(double)},
+ * which can be parsed back exactly.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+final class ShardManifest {
+
+	/** first line of every manifest */
+	private static final String MAGIC = "bts-shards 1";
+
+	final byte time_dtype;
+	final long t0_long;
+	final long dt_long;
+	final double t0_double;
+	final double dt_double;
+	final byte data_dtype;
+
+	/** global index of the first sample of each shard */
+	final List<Long> firstSamples = new ArrayList<>();
+
+	/** number of samples in each shard */
+	final List<Integer> numSamples = new ArrayList<>();
+
+	/** file name of each shard, relative to the manifest */
+	final List<String> fileNames = new ArrayList<>();
+
+	/**
+	 * @param t0         reference timestamp of the first sample of the first shard;
+	 *                   can be {@code double} or {@code long}
+	 * @param dt         time interval between two consecutive samples; same type
+	 *                   as {@code t0}
+	 * @param data_dtype raw data type of all shards
+	 * @throws RuntimeException if {@code t0} and {@code dt} are not both
+	 *                          {@code long} or both {@code double}
+	 */
+	ShardManifest(final Object t0, final Object dt, final byte data_dtype) {
+		if (t0 instanceof Long && dt instanceof Long) {
+			time_dtype = BinaryTimeseries.DTYPE_LONG;
+			t0_long = (Long) t0;
+			dt_long = (Long) dt;
+			t0_double = t0_long;
+			dt_double = dt_long;
+		} else if (t0 instanceof Double && dt instanceof Double) {
+			time_dtype = BinaryTimeseries.DTYPE_DOUBLE;
+			t0_long = 0;
+			dt_long = 0;
+			t0_double = (Double) t0;
+			dt_double = (Double) dt;
+		} else {
+			throw new RuntimeException("t0 and dt must be of the same class and either long or double");
+		}
+		this.data_dtype = data_dtype;
+	}
+
+	/**
+	 * @return total number of samples in all shards
+	 */
+	long totalNumSamples() {
+		final int last = numSamples.size() - 1;
+		return (last < 0) ? 0 : firstSamples.get(last) + numSamples.get(last);
+	}
+
+	/**
+	 * @param firstSample global index of the first sample of a shard
+	 * @return reference timestamp of that shard: {@code t0 + firstSample * dt}
+	 */
+	Object shardT0(final long firstSample) {
+		if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+			return t0_long + firstSample * dt_long;
+		} else {
+			return t0_double + firstSample * dt_double;
+		}
+	}
+
+	/**
+	 * @return timestep in the type of the timestamps
+	 */
+	Object dt() {
+		if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+			return dt_long;
+		} else {
+			return dt_double;
+		}
+	}
+
+	/**
+	 * Write the manifest to a temporary file next to the given one and move it to
+	 * the given path, so that readers never see a partially written manifest.
+	 *
+	 * @param file path of the manifest
+	 * @throws IOException if the manifest could not be written
+	 */
+	void write(final Path file) throws IOException {
+		final List<String> lines = new ArrayList<>();
+		lines.add(MAGIC);
+		if (time_dtype == BinaryTimeseries.DTYPE_LONG) {
+			lines.add("time_dtype long");
+			lines.add("t0 " + Long.toString(t0_long));
+			lines.add("dt " + Long.toString(dt_long));
+		} else {
+			lines.add("time_dtype double");
+			lines.add("t0 " + Double.toString(t0_double));
+			lines.add("dt " + Double.toString(dt_double));
+		}
+		lines.add("data_dtype " + data_dtype);
+		for (int i = 0; i < fileNames.size(); ++i) {
+			lines.add("shard " + firstSamples.get(i) + " " + numSamples.get(i) + " " + fileNames.get(i));
+		}
+
+		final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+		Files.write(tmpFile, lines, StandardCharsets.UTF_8);
+		try {
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final AtomicMoveNotSupportedException e) {
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Parse a manifest.
+	 *
+	 * @param file path of the manifest
+	 * @return the parsed manifest
+	 * @throws IOException      if the manifest could not be read
+	 * @throws RuntimeException if the manifest is malformed
+	 */
+	static ShardManifest read(final Path file) throws IOException {
+		final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		if (lines.size() < 5 || !MAGIC.equals(lines.get(0))) {
+			throw new RuntimeException("'" + file + "' is not a BinaryTimeseries shard manifest");
+		}
+		try {
+			final String timeType = value(lines.get(1), "time_dtype");
+			final String t0 = value(lines.get(2), "t0");
+			final String dt = value(lines.get(3), "dt");
+			final byte data_dtype = Byte.parseByte(value(lines.get(4), "data_dtype"));
+			final ShardManifest manifest;
+			if ("long".equals(timeType)) {
+				manifest = new ShardManifest(Long.parseLong(t0), Long.parseLong(dt), data_dtype);
+			} else if ("double".equals(timeType)) {
+				manifest = new ShardManifest(Double.parseDouble(t0), Double.parseDouble(dt), data_dtype);
+			} else {
+				throw new RuntimeException("unknown time dtype: " + timeType);
+			}
+
+			for (final String line : lines.subList(5, lines.size())) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				final String[] parts = value(line, "shard").split(" ", 3);
+				if (parts.length != 3) {
+					throw new RuntimeException("malformed shard entry: " + line);
+				}
+				final long firstSample = Long.parseLong(parts[0]);
+				if (firstSample != manifest.totalNumSamples()) {
+					throw new RuntimeException("shard '" + parts[2] + "' starts at sample " + firstSample
+							+ " instead of " + manifest.totalNumSamples());
+				}
+				manifest.add(firstSample, Integer.parseInt(parts[1]), parts[2]);
+			}
+			return manifest;
+		} catch (final NumberFormatException e) {
+			throw new RuntimeException("malformed shard manifest '" + file + "'", e);
+		}
+	}
+
+	/**
+	 * @param firstSample global index of the first sample of the shard
+	 * @param numSamples  number of samples in the shard
+	 * @param fileName    file name of the shard, relative to the manifest
+	 */
+	void add(final long firstSample, final int numSamples, final String fileName) {
+		firstSamples.add(firstSample);
+		this.numSamples.add(numSamples);
+		fileNames.add(fileName);
+	}
+
+	/**
+	 * @param line line of the manifest
+	 * @param key  expected key at the start of the line
+	 * @return the remainder of the line after the key
+	 * @throws RuntimeException if the line does not start with the given key
+	 */
+	private static String value(final String line, final String key) {
+		if (!line.startsWith(key + " ")) {
+			throw new RuntimeException("expected '" + key + "' in shard manifest, but found: " + line);
+		}
+		return line.substring(key.length() + 1);
+	}
+}
@@ -1,6 +1,13 @@
 package de.labathome;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,4 +62,211 @@ public class ApiTests {
 		assertEquals("  0   2 reads 0x00 => invalid endianess check value: 0", explanation);
 	}
 
+	/**
+	 * Test that the bulk writing of raw data respects the byte order of the target
+	 * buffer and advances its position past the written data.
+	 */
+	@Test
+	public void testWriteDataByteOrder() {
+		final short[] values = { 1, -2, 300 };
+		final int fileSize = BinaryTimeseries.fileOffset(Short.BYTES, values.length);
+
+		final ByteBuffer target = ByteBuffer.allocate(fileSize).order(ByteOrder.LITTLE_ENDIAN);
+		target.position(59);
+		BinaryTimeseries.writeData(target, values);
+		assertEquals(fileSize, target.position());
+
+		target.position(59);
+		assertEquals(BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.readDataType(target));
+		assertEquals(values.length, BinaryTimeseries.readNumSamples(target));
+		for (int i = 0; i < values.length; ++i) {
+			assertEquals(values[i], target.getShort());
+		}
+	}
+
+	/**
+	 * Test that the bulk reading of raw data respects the byte order of the source
+	 * buffer, the offset into the target array and advances the position of the
+	 * source buffer past the read data.
+	 */
+	@Test
+	public void testReadRawDataByteOrder() {
+		final double[] values = { 1.5, -2.25, 3.0e300 };
+		final ByteBuffer source = ByteBuffer.allocate(64 + Double.BYTES * values.length).order(ByteOrder.LITTLE_ENDIAN);
+		source.position(59);
+		BinaryTimeseries.writeData(source, values);
+
+		source.position(64);
+		final double[] target = new double[values.length + 1];
+		BinaryTimeseries.readRawData(source, target, 1, values.length);
+		assertEquals(source.capacity(), source.position());
+		assertEquals(0.0, target[0]);
+		for (int i = 0; i < values.length; ++i) {
+			assertEquals(values[i], target[1 + i]);
+		}
+	}
+
+	/**
+	 * Test that reading into a given array yields the same samples as reading into
+	 * a newly allocated array.
+	 */
+	@Test
+	public void testReadDataIntoGivenArray() {
+		final short[] values = new short[100];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = (short) (i * 37 - 1000);
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Short.BYTES, values.length));
+		BinaryTimeseries.write(source, 13L, 37L, values, 1.5, 0.25);
+
+		final int firstDataIndex = 10, lastDataIndex = 29, targetOffset = 3;
+
+		source.position(19);
+		final double[] reference = BinaryTimeseries.readData_double(source, firstDataIndex, lastDataIndex);
+		final int referencePosition = source.position();
+
+		final double[] target = new double[targetOffset + reference.length];
+		source.position(19);
+		assertEquals(reference.length,
+				BinaryTimeseries.readData_double(source, firstDataIndex, lastDataIndex, target, targetOffset));
+		assertEquals(referencePosition, source.position());
+		for (int i = 0; i < reference.length; ++i) {
+			assertEquals(reference[i], target[targetOffset + i]);
+		}
+
+		// read all samples into a given array
+		final double[] all = new double[values.length];
+		source.position(19);
+		assertEquals(values.length, BinaryTimeseries.readData_double(source, 0, -1, all, 0));
+		source.position(19);
+		assertArrayEquals(BinaryTimeseries.readData_double(source), all);
+	}
+
+	/**
+	 * Test that file offsets are computed without overflow for the largest files
+	 * allowed by the format.
+	 */
+	@Test
+	public void testFileOffsetLong() {
+		assertEquals(BinaryTimeseries.fileOffset(Double.BYTES, 10), BinaryTimeseries.fileOffset_long(Double.BYTES, 10));
+		assertEquals(64L + 8L * Integer.MAX_VALUE, BinaryTimeseries.fileOffset_long(Double.BYTES, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Check that decoding scaled byte and short raw data through a lookup table
+	 * yields exactly the same values as decoding sample by sample, for all scaling
+	 * types.
+	 */
+	@Test
+	public void testLookupTableDecoding() {
+		final int numSamples = 70000;
+		final ByteBuffer bytes = ByteBuffer.allocate(numSamples);
+		final ByteBuffer shorts = ByteBuffer.allocate(Short.BYTES * numSamples);
+		for (int i = 0; i < numSamples; ++i) {
+			bytes.put((byte) (7 * i));
+			shorts.putShort((short) (7 * i));
+		}
+
+		final byte[] scaling_dtypes = { BinaryTimeseries.DTYPE_BYTE, BinaryTimeseries.DTYPE_SHORT,
+				BinaryTimeseries.DTYPE_INT, BinaryTimeseries.DTYPE_LONG, BinaryTimeseries.DTYPE_FLOAT,
+				BinaryTimeseries.DTYPE_DOUBLE };
+		ScalingLookupTable.clear();
+		for (byte scaling_dtype : scaling_dtypes) {
+			for (ByteBuffer source : new ByteBuffer[] { bytes, shorts }) {
+				final byte data_dtype = (source == bytes) ? BinaryTimeseries.DTYPE_BYTE : BinaryTimeseries.DTYPE_SHORT;
+				assertEquals(true, ScalingLookupTable.isApplicable(data_dtype, numSamples));
+
+				final double[] expected_double = new double[numSamples];
+				final double[] actual_double = new double[numSamples];
+				source.position(0);
+				BinaryTimeseries.decodeScalar_double(source, scaling_dtype, -3L, 5L, 0.1, 1.0e-3, data_dtype,
+						expected_double, 0, numSamples);
+				source.position(0);
+				BinaryTimeseries.decodeData_double(source, scaling_dtype, -3L, 5L, 0.1, 1.0e-3, data_dtype,
+						actual_double, 0, numSamples);
+				assertEquals(source.capacity(), source.position());
+				assertArrayEquals(expected_double, actual_double);
+
+				final float[] expected_float = new float[numSamples];
+				final float[] actual_float = new float[numSamples];
+				source.position(0);
+				BinaryTimeseries.decodeScalar_float(source, scaling_dtype, -3L, 5L, 0.1, 1.0e-3, data_dtype,
+						expected_float, 0, numSamples);
+				source.position(0);
+				BinaryTimeseries.decodeData_float(source, scaling_dtype, -3L, 5L, 0.1, 1.0e-3, data_dtype,
+						actual_float, 0, numSamples);
+				assertArrayEquals(expected_float, actual_float);
+			}
+		}
+		assertEquals(4 * scaling_dtypes.length, ScalingLookupTable.size());
+	}
+
+	/**
+	 * Check that the bulk decoding kernels, and the regular decoders of the other
+	 * common raw data types, yield exactly the same values as decoding sample by
+	 * sample, also for a non-zero target offset.
+	 */
+	@Test
+	public void testBulkDecoding() {
+		final int numSamples = 10007;
+		final int targetOffset = 3;
+		final byte[] data_dtypes = { BinaryTimeseries.DTYPE_SHORT, BinaryTimeseries.DTYPE_INT,
+				BinaryTimeseries.DTYPE_DOUBLE };
+		for (byte data_dtype : data_dtypes) {
+			final ByteBuffer source = ByteBuffer.allocate(numSamples * BinaryTimeseries.dtypeSize(data_dtype))
+					.order(ByteOrder.LITTLE_ENDIAN);
+			for (int i = 0; i < numSamples; ++i) {
+				if (data_dtype == BinaryTimeseries.DTYPE_SHORT) {
+					source.putShort((short) (13 * i));
+				} else if (data_dtype == BinaryTimeseries.DTYPE_INT) {
+					source.putInt(123457 * i);
+				} else {
+					source.putDouble(Math.sin(i));
+				}
+			}
+
+			final double[] expected = new double[targetOffset + numSamples];
+			final double[] actual = new double[targetOffset + numSamples];
+			source.position(0);
+			BinaryTimeseries.decodeScalar_double(source, BinaryTimeseries.DTYPE_DOUBLE, 0L, 0L, -0.3, 1.7, data_dtype,
+					expected, targetOffset, numSamples);
+			source.position(0);
+			BinaryTimeseries.decodeData_double(source, BinaryTimeseries.DTYPE_DOUBLE, 0L, 0L, -0.3, 1.7, data_dtype,
+					actual, targetOffset, numSamples);
+			assertEquals(source.capacity(), source.position());
+			assertArrayEquals(expected, actual);
+		}
+
+		final ByteBuffer source = ByteBuffer.allocate(numSamples * Float.BYTES);
+		for (int i = 0; i < numSamples; ++i) {
+			source.putFloat((float) Math.cos(i));
+		}
+		final float[] expected = new float[targetOffset + numSamples];
+		final float[] actual = new float[targetOffset + numSamples];
+		source.position(0);
+		BinaryTimeseries.decodeScalar_float(source, BinaryTimeseries.DTYPE_FLOAT, 0L, 0L, 0.1f, 3.3f,
+				BinaryTimeseries.DTYPE_FLOAT, expected, targetOffset, numSamples);
+		source.position(0);
+		BinaryTimeseries.decodeData_float(source, BinaryTimeseries.DTYPE_FLOAT, 0L, 0L, 0.1f, 3.3f,
+				BinaryTimeseries.DTYPE_FLOAT, actual, targetOffset, numSamples);
+		assertArrayEquals(expected, actual);
+	}
+
+	/**
+	 * Check that the decoder for each combination of types is created only once
+	 * and that unknown types are rejected.
+	 */
+	@Test
+	public void testDecoderCache() {
+		final SampleDecoder<double[]> decoder = SampleDecoders.get_double(BinaryTimeseries.DTYPE_DOUBLE,
+				BinaryTimeseries.DTYPE_DOUBLE);
+		assertSame(decoder, SampleDecoders.get_double(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_DOUBLE));
+		assertNotSame(decoder, SampleDecoders.get_double(BinaryTimeseries.DTYPE_FLOAT, BinaryTimeseries.DTYPE_DOUBLE));
+		assertNotSame(decoder,
+				SampleDecoders.getScalar_double(BinaryTimeseries.DTYPE_DOUBLE, BinaryTimeseries.DTYPE_DOUBLE));
+
+		assertThrows(RuntimeException.class, () -> SampleDecoders.get_int((byte) 7, BinaryTimeseries.DTYPE_SHORT));
+		assertThrows(RuntimeException.class,
+				() -> SampleDecoders.get_int(BinaryTimeseries.DTYPE_NONE, BinaryTimeseries.DTYPE_NONE));
+	}
 }
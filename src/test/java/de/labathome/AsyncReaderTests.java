@@ -0,0 +1,102 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the asynchronous BinaryTimeseriesAsyncReader.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class AsyncReaderTests {
+
+	/**
+	 * Start many concurrent reads, some of which span several pooled buffers, and
+	 * check that they give the same samples as a reader on the whole buffer.
+	 * 
+	 * @throws IOException          if the temporary file could not be written or
+	 *                              read
+	 * @throws ExecutionException   if an asynchronous read failed
+	 * @throws InterruptedException if interrupted while waiting for a read
+	 */
+	@Test
+	public void testConcurrentReads() throws IOException, InterruptedException, ExecutionException {
+		final Path tmpFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator + "async.bts");
+
+		final int numSamples = 3 * DirectBufferPool.SHARED.getMaxBufferSize() / Integer.BYTES + 17;
+		final int[] values = new int[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = i * 3 - 100000;
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Integer.BYTES, numSamples));
+		source.order(ByteOrder.LITTLE_ENDIAN);
+		BinaryTimeseries.write(source, 0.0, 0.5, values, 1.0f, 2.0f);
+		source.flip();
+		try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(source.duplicate());
+		}
+		final BinaryTimeseriesReader expected = new BinaryTimeseriesReader(source);
+
+		try (BinaryTimeseriesAsyncReader reader = BinaryTimeseriesAsyncReader.open(tmpFile).get()) {
+			assertEquals(ByteOrder.LITTLE_ENDIAN, reader.getByteOrder());
+			assertEquals(numSamples, reader.getNumSamples());
+			assertEquals(0.5, reader.getDt_double());
+			assertEquals(BinaryTimeseries.DTYPE_FLOAT, reader.getScalingType());
+
+			final Random random = new Random(1);
+			final List<int[]> ranges = new ArrayList<>();
+			final List<CompletableFuture<double[]>> futures = new ArrayList<>();
+			ranges.add(new int[] { 0, -1 });
+			futures.add(reader.readData_double(0, -1));
+			for (int i = 0; i < 200; ++i) {
+				final int first = random.nextInt(numSamples);
+				final int last = first + random.nextInt(Math.min(numSamples - first, 600000));
+				ranges.add(new int[] { first, last });
+				futures.add(reader.readData_double(first, last));
+			}
+			for (int i = 0; i < ranges.size(); ++i) {
+				final int[] range = ranges.get(i);
+				assertArrayEquals(expected.readData_double(range[0], range[1]), futures.get(i).get());
+			}
+
+			final long[] target = new long[12];
+			assertEquals(10, reader.readData_long(100, 109, target, 2).get());
+			assertEquals(expected.readData_long(100, 100)[0], target[2]);
+			assertArrayEquals(expected.readData_short(numSamples - 3, -1), reader.readData_short(numSamples - 3, -1)
+					.get());
+
+			assertThrows(RuntimeException.class, () -> reader.readData_int(0, numSamples));
+			assertTrue(DirectBufferPool.SHARED.getPooledBytes() > 0);
+		}
+
+		// compressed time series can only be read by a BinaryTimeseriesReader
+		Files.write(tmpFile, new byte[0]);
+		try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+			channel.write(BinaryTimeseries.compress(source));
+		}
+		final CompletableFuture<BinaryTimeseriesAsyncReader> compressed = BinaryTimeseriesAsyncReader.open(tmpFile);
+		assertThrows(ExecutionException.class, () -> compressed.get());
+
+		Files.delete(tmpFile);
+	}
+}
@@ -0,0 +1,172 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache of decoded sample blocks.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BlockCacheTests {
+
+	/**
+	 * Pan back and forth over a scaled time series and check that the ranges read
+	 * through the cache are the same as read directly, and that blocks are reused
+	 * and evicted in LRU order.
+	 */
+	@Test
+	public void testPanning() {
+		final int numSamples = 1050;
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i * 7 - 3000);
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Short.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0L, 1L, values, 0.5, 0.125);
+		source.flip();
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		// room for three double blocks of 100 samples
+		final DecodedBlockCache cache = new DecodedBlockCache(100, 3 * 100 * Double.BYTES);
+		assertArrayEquals(reader.readData_double(150, 349), cache.readData_double(reader, 150, 349));
+		assertEquals(3, cache.getMisses());
+		assertEquals(0, cache.getHits());
+
+		// panning within the cached blocks does not decode anything
+		assertArrayEquals(reader.readData_double(120, 299), cache.readData_double(reader, 120, 299));
+		assertEquals(3, cache.getMisses());
+		assertEquals(2, cache.getHits());
+
+		// block 4 evicts block 1, which is least recently used
+		assertArrayEquals(reader.readData_double(380, 420), cache.readData_double(reader, 380, 420));
+		assertEquals(1, cache.getEvictions());
+		assertEquals(3, cache.getNumBlocks());
+		assertEquals(3 * 100 * Double.BYTES, cache.getCachedBytes());
+		assertArrayEquals(reader.readData_double(150, 150), cache.readData_double(reader, 150, 150));
+		assertEquals(5, cache.getMisses());
+
+		// the last block is partial, and float blocks are cached separately
+		assertArrayEquals(reader.readData_double(0, -1), cache.readData_double(reader, 0, -1));
+		assertArrayEquals(reader.readData_float(1000, 1049), cache.readData_float(reader, 1000, 1049));
+		assertEquals(0, cache.readData_double(reader, 5, 4).length);
+		assertThrows(RuntimeException.class, () -> cache.readData_double(reader, 0, numSamples));
+		assertTrue(cache.getCachedBytes() <= cache.getMaxBytes());
+		assertTrue(cache.getHitRate() > 0.0);
+
+		cache.invalidate(reader);
+		assertEquals(0, cache.getNumBlocks());
+		assertEquals(0, cache.getCachedBytes());
+	}
+
+	/**
+	 * Request the same block from many threads at the same time and check that it
+	 * is decoded only once, and that a failed load is not cached.
+	 *
+	 * @throws InterruptedException if a thread was interrupted
+	 * @throws ExecutionException   if a request failed
+	 */
+	@Test
+	public void testConcurrentLoads() throws InterruptedException, ExecutionException {
+		final DecodedBlockCache cache = new DecodedBlockCache(100, 1 << 20);
+		final AtomicInteger numLoads = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		final double[] block = new double[100];
+
+		final int numThreads = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			final List<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < numThreads; ++i) {
+				results.add(executor.submit(() -> cache.getBlock("shot", 0, BinaryTimeseries.DTYPE_DOUBLE, () -> {
+					numLoads.incrementAndGet();
+					try {
+						release.await();
+					} catch (final InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					return block;
+				})));
+			}
+			while (cache.getHits() + cache.getMisses() < numThreads) {
+				Thread.sleep(1);
+			}
+			release.countDown();
+			for (final Future<Object> result : results) {
+				assertSame(block, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, numLoads.get());
+		assertEquals(1, cache.getMisses());
+		assertEquals(numThreads - 1, cache.getHits());
+
+		assertThrows(RuntimeException.class, () -> cache.getBlock("shot", 1, BinaryTimeseries.DTYPE_DOUBLE, () -> {
+			throw new RuntimeException("read error");
+		}));
+		assertEquals(1, cache.getNumBlocks());
+		assertThrows(OutOfMemoryError.class, () -> cache.getBlock("shot", 1, BinaryTimeseries.DTYPE_DOUBLE, () -> {
+			throw new OutOfMemoryError("decoded block");
+		}));
+		assertEquals(1, cache.getNumBlocks());
+		assertSame(block, cache.getBlock("shot", 1, BinaryTimeseries.DTYPE_DOUBLE, () -> block));
+	}
+
+	/**
+	 * Invalidate a file while one of its blocks is being loaded and check that
+	 * the weight of that block is neither added nor subtracted.
+	 *
+	 * @throws InterruptedException if a thread was interrupted
+	 * @throws ExecutionException   if the load failed
+	 */
+	@Test
+	public void testInvalidateWhileLoading() throws InterruptedException, ExecutionException {
+		final DecodedBlockCache cache = new DecodedBlockCache(100, 1 << 20);
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final double[] block = new double[100];
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Object> result = executor.submit(() -> cache.getBlock("shot", 0,
+					BinaryTimeseries.DTYPE_DOUBLE, () -> {
+						loading.countDown();
+						try {
+							release.await();
+						} catch (final InterruptedException e) {
+							throw new RuntimeException(e);
+						}
+						return block;
+					}));
+			loading.await();
+			cache.invalidate("shot");
+			release.countDown();
+			assertSame(block, result.get());
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(0, cache.getNumBlocks());
+		assertEquals(0, cache.getCachedBytes());
+
+		cache.getBlock("shot", 0, BinaryTimeseries.DTYPE_DOUBLE, () -> block);
+		assertEquals(100 * Double.BYTES, cache.getCachedBytes());
+		cache.invalidate("shot");
+		assertEquals(0, cache.getCachedBytes());
+	}
+}
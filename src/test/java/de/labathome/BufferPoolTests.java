@@ -0,0 +1,63 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the DirectBufferPool.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class BufferPoolTests {
+
+	/**
+	 * Check the size classes, the byte order, the hit and miss counters and that
+	 * the number of idle bytes stays bounded when many buffers are returned.
+	 */
+	@Test
+	public void testSizeClassesAndBounds() {
+		final DirectBufferPool pool = new DirectBufferPool(1 << 16, 1 << 18);
+
+		final ByteBuffer small = pool.acquire(100);
+		assertTrue(small.isDirect());
+		assertEquals(DirectBufferPool.MIN_BUFFER_SIZE, small.capacity());
+		assertEquals(ByteOrder.nativeOrder(), small.order());
+		assertEquals(8192, pool.acquire(4097).capacity());
+		assertEquals(1 << 16, pool.acquire(1 << 20).capacity());
+		assertEquals(3, pool.getMisses());
+
+		// a returned buffer is handed out again, cleared and in native byte order
+		small.order(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+		small.position(10);
+		pool.release(small);
+		assertEquals(small.capacity(), pool.getPooledBytes());
+		final ByteBuffer again = pool.acquire(DirectBufferPool.MIN_BUFFER_SIZE);
+		assertSame(small, again);
+		assertEquals(0, again.position());
+		assertEquals(ByteOrder.nativeOrder(), again.order());
+		assertEquals(1, pool.getHits());
+		assertEquals(0, pool.getPooledBytes());
+
+		// sustained load: many buffers in flight at once are not all kept idle
+		for (int round = 0; round < 10; ++round) {
+			final List<ByteBuffer> inFlight = new ArrayList<>();
+			for (int i = 0; i < 100; ++i) {
+				inFlight.add(pool.acquire(1 << 16));
+			}
+			for (ByteBuffer buffer : inFlight) {
+				pool.release(buffer);
+			}
+			assertTrue(pool.getPooledBytes() <= pool.getMaxPooledBytes());
+		}
+		assertTrue(pool.getDiscarded() > 0);
+		assertTrue(pool.getHits() > 1);
+	}
+}
@@ -0,0 +1,145 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the catalog of BinaryTimeseries files in a directory tree.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class CatalogTests {
+
+	/**
+	 * Compare the overlap queries of the interval tree with a linear search over
+	 * random intervals.
+	 */
+	@Test
+	public void testIntervalTree() {
+		final Random random = new Random(42);
+		final List<double[]> intervals = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i) {
+			final double start = random.nextInt(10000);
+			intervals.add(new double[] { start, start + random.nextInt(200) - 10 });
+		}
+		final IntervalTree<double[]> tree = new IntervalTree<>(intervals, interval -> interval[0],
+				interval -> interval[1]);
+
+		for (int q = 0; q < 1000; ++q) {
+			final double lower = random.nextInt(10000);
+			final double upper = lower + random.nextInt(100);
+			final List<double[]> expected = intervals.stream()
+					.filter(interval -> interval[1] >= interval[0] && interval[0] <= upper && interval[1] >= lower)
+					.sorted(Comparator.comparingDouble(interval -> interval[0])).collect(Collectors.toList());
+			final List<double[]> found = new ArrayList<>();
+			tree.query(lower, upper, found::add);
+			assertEquals(expected.size(), found.size());
+			for (int i = 0; i < found.size(); ++i) {
+				assertEquals(expected.get(i)[0], found.get(i)[0]);
+			}
+		}
+	}
+
+	/**
+	 * Index a directory tree, query it, and check that reopening and refreshing
+	 * only read the headers of new or modified files.
+	 *
+	 * @throws IOException if the temporary files could not be written or read
+	 */
+	@Test
+	public void testCatalog() throws IOException {
+		final Path root = Files.createTempDirectory("catalog");
+		try {
+			// ten consecutive files of 100 samples each, every 10 time units
+			for (int i = 0; i < 10; ++i) {
+				final Path directory = Files.createDirectories(root.resolve("day" + (i / 4)));
+				write(directory.resolve("shot" + i + ".bts"), 1000L * i, 10L, 100);
+			}
+			write(root.resolve("seconds.bts"), 0.5, 0.25, 8);
+			Files.write(root.resolve("broken.bts"), new byte[] { 1, 2, 3 });
+			Files.write(root.resolve("notes.txt"), new byte[64]);
+
+			final BinaryTimeseriesCatalog catalog = BinaryTimeseriesCatalog.open(root);
+			assertEquals(11, catalog.size());
+			assertEquals(12, catalog.getNumHeadersRead());
+			assertTrue(Files.isRegularFile(root.resolve(BinaryTimeseriesCatalog.INDEX_FILE_NAME)));
+
+			// shot 2 covers [2000, 2990] and shot 3 covers [3000, 3990]
+			assertEquals(Arrays.asList("shot2.bts", "shot3.bts"), names(catalog.overlapping(2990L, 3000L)));
+			assertEquals(Arrays.asList("shot2.bts"), names(catalog.overlapping(2985L, 2999L)));
+			assertEquals(0, catalog.overlapping(2991L, 2999L).size());
+			assertEquals(Arrays.asList("shot0.bts", "seconds.bts"), names(catalog.overlapping(2.25, 2.5)));
+			assertEquals(0, catalog.overlapping(9991L, 20000L).size());
+
+			final BinaryTimeseriesCatalog.Entry entry = catalog.overlapping(5500L, 5500L).get(0);
+			assertEquals(100, entry.getNumSamples());
+			assertEquals(5000L, entry.getT0_long());
+			assertEquals(BinaryTimeseries.DTYPE_SHORT, entry.getDataType());
+			assertEquals(root.resolve("day1").resolve("shot5.bts"), entry.getPath());
+
+			// a new catalog loads the index and only tries the invalid file again
+			final BinaryTimeseriesCatalog reopened = BinaryTimeseriesCatalog.open(root);
+			assertEquals(11, reopened.size());
+			assertEquals(1, reopened.getNumHeadersRead());
+			assertEquals(names(catalog.overlapping(0L, 5000L)), names(reopened.overlapping(0L, 5000L)));
+
+			// modify one file and remove another
+			final Path modified = root.resolve("day2").resolve("shot9.bts");
+			write(modified, 50000L, 10L, 200);
+			Files.setLastModifiedTime(modified, FileTime.fromMillis(Files.getLastModifiedTime(modified).toMillis()
+					+ 2000));
+			Files.delete(root.resolve("day0").resolve("shot0.bts"));
+			reopened.refresh();
+			assertEquals(10, reopened.size());
+			assertEquals(2, reopened.getNumHeadersRead());
+			assertEquals(Arrays.asList("shot9.bts"), names(reopened.overlapping(51990L, 60000L)));
+			assertEquals(0, reopened.overlapping(9000L, 9990L).size());
+			assertEquals(Arrays.asList("seconds.bts"), names(reopened.overlapping(2.25, 2.5)));
+		} finally {
+			try (Stream<Path> files = Files.walk(root)) {
+				for (final Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write a time series of {@code short} samples.
+	 *
+	 * @param file       file to write
+	 * @param t0         reference timestamp
+	 * @param dt         time interval between two consecutive samples
+	 * @param numSamples number of samples
+	 * @throws IOException if the file could not be written
+	 */
+	private static void write(final Path file, final Object t0, final Object dt, final int numSamples)
+			throws IOException {
+		try (BinaryTimeseriesWriter writer = BinaryTimeseriesWriter.create(file, t0, dt,
+				BinaryTimeseries.DTYPE_SHORT)) {
+			writer.append(new short[numSamples]);
+		}
+	}
+
+	/**
+	 * @param entries catalog entries
+	 * @return file names of the entries
+	 */
+	private static List<String> names(final List<BinaryTimeseriesCatalog.Entry> entries) {
+		return entries.stream().map(entry -> entry.getPath().getFileName().toString()).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,198 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the block-compressed variant of a BinaryTimeseries.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class CompressionTests {
+
+	/**
+	 * Compress a noisy 16-bit ADC signal with scaling and check that it gets
+	 * smaller and that index and time range reads give the same samples as from
+	 * the uncompressed time series.
+	 */
+	@Test
+	public void testAdcSignal() {
+		final int numSamples = 100000;
+		final Random random = new Random(42);
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (2000.0 * Math.sin(i * 1.0e-3) + random.nextInt(16));
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Short.BYTES, numSamples));
+		BinaryTimeseries.write(source, 1000L, 10L, values, 0.5, 0.25);
+		source.flip();
+
+		final ByteBuffer compressed = BinaryTimeseries.compress(source, 1000);
+		assertEquals(0, source.position());
+		assertTrue(compressed.remaining() < source.remaining() / 2);
+		assertThrows(RuntimeException.class, () -> BinaryTimeseries.compress(compressed));
+
+		final BinaryTimeseriesReader expected = new BinaryTimeseriesReader(source);
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(compressed);
+		assertEquals(BinaryTimeseries.COMPRESSION_NONE, expected.getCompression());
+		assertEquals(BinaryTimeseries.COMPRESSION_DELTA_FOR, reader.getCompression());
+		assertEquals(numSamples, reader.getNumSamples());
+		assertEquals(BinaryTimeseries.DTYPE_SHORT, reader.getDataType());
+
+		assertArrayEquals(expected.readData_short(), reader.readData_short());
+		assertArrayEquals(expected.readData_double(), reader.readData_double());
+		assertArrayEquals(expected.readData_float(999, 1000), reader.readData_float(999, 1000));
+		assertArrayEquals(expected.readData_double(numSamples - 1, -1), reader.readData_double(numSamples - 1, -1));
+		assertArrayEquals(expected.readDataInside_int(12345L, 23456L), reader.readDataInside_int(12345L, 23456L));
+		for (int i = 0; i < 100; ++i) {
+			final int first = random.nextInt(numSamples);
+			final int last = first + random.nextInt(numSamples - first);
+			assertArrayEquals(expected.readData_double(first, last), reader.readData_double(first, last));
+		}
+		assertEquals(expected.statistics(0, -1).getMean(), reader.statistics(0, -1).getMean());
+
+		// the static methods only read uncompressed data
+		compressed.position(19);
+		assertThrows(RuntimeException.class, () -> BinaryTimeseries.readData_short(compressed));
+	}
+
+	/**
+	 * Read a compressed time series in parallel and in chunks which do not align
+	 * with the blocks, and check that the results are the same as from the
+	 * uncompressed time series.
+	 */
+	@Test
+	public void testChunkedReads() {
+		final int numSamples = 3 * BinaryTimeseriesReader.PARALLEL_CHUNK_SIZE + 777;
+		final int[] values = new int[numSamples];
+		final Random random = new Random(7);
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = random.nextInt(1 << 20) - (1 << 19);
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Integer.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0L, 1L, values, 1.5, 0.5);
+		source.flip();
+		final BinaryTimeseriesReader expected = new BinaryTimeseriesReader(source);
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(BinaryTimeseries.compress(source, 1000));
+
+		assertArrayEquals(expected.readData_double(), reader.readDataParallel_double(0, -1));
+		assertArrayEquals(expected.readData_double(1234, numSamples - 2), reader.readDataParallel_double(1234,
+				numSamples - 2));
+
+		final BinaryTimeseriesStatistics expectedStatistics = expected.statistics(1500, -1);
+		final BinaryTimeseriesStatistics statistics = reader.statistics(1500, -1);
+		assertEquals(expectedStatistics.getMin(), statistics.getMin());
+		assertEquals(expectedStatistics.getMax(), statistics.getMax());
+		assertEquals(expectedStatistics.getMean(), statistics.getMean());
+
+		// consecutive reads within the same block
+		for (int first = 990; first < 1010; first += 3) {
+			assertArrayEquals(expected.readData_float(first, first + 2), reader.readData_float(first, first + 2));
+		}
+	}
+
+	/**
+	 * Read a compressed time series from a file using a {@link FileChannel} and
+	 * check that the results are the same as from the uncompressed time series.
+	 *
+	 * @throws IOException if the temporary file could not be written or read
+	 */
+	@Test
+	public void testChannelReads() throws IOException {
+		final int numSamples = 5000;
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i % 300 - 150);
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Short.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0L, 1L, values, 0.5, 0.25);
+		source.flip();
+		final BinaryTimeseriesReader expected = new BinaryTimeseriesReader(source);
+
+		final Path file = Files.createTempFile("compressed", ".bts");
+		try {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				final ByteBuffer compressed = BinaryTimeseries.compress(source, 64);
+				while (compressed.hasRemaining()) {
+					channel.write(compressed);
+				}
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(channel);
+				assertEquals(BinaryTimeseries.COMPRESSION_DELTA_FOR, reader.getCompression());
+				assertArrayEquals(expected.readData_double(), reader.readData_double());
+				assertArrayEquals(expected.readData_short(100, 1000), reader.readData_short(100, 1000));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Check that {@code long} and {@code double} data with extreme values and
+	 * differences round-trip exactly, also when the compressed time series is
+	 * split into segments which do not align with the blocks or the offset table.
+	 */
+	@Test
+	public void testExtremeValuesInSegments() {
+		final long[] longValues = { Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MIN_VALUE, 7L, 7L, 7L, 7L, 42L,
+				Long.MAX_VALUE, 1L };
+		final double[] doubleValues = { Double.NaN, -0.0, 0.0, Double.MAX_VALUE, Double.MIN_VALUE,
+				Double.NEGATIVE_INFINITY, 1.5, 1.5, 1.5, Math.PI };
+
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			final ByteBuffer longSource = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Long.BYTES,
+					longValues.length));
+			longSource.order(order);
+			BinaryTimeseries.write(longSource, 0.0, 1.0, longValues);
+			longSource.flip();
+			final ByteBuffer longCompressed = BinaryTimeseries.compress(longSource, 5);
+			assertArrayEquals(longValues, new BinaryTimeseriesReader(longCompressed).readData_long());
+			assertArrayEquals(longValues, new BinaryTimeseriesReader(split(longCompressed, 80), 80).readData_long());
+
+			final ByteBuffer doubleSource = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Double.BYTES,
+					doubleValues.length));
+			doubleSource.order(order);
+			BinaryTimeseries.write(doubleSource, 0.0, 1.0, doubleValues);
+			doubleSource.flip();
+			final ByteBuffer doubleCompressed = BinaryTimeseries.compress(doubleSource, 3);
+			final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(split(doubleCompressed, 68), 68);
+			assertArrayEquals(doubleValues, reader.readData_double());
+			assertArrayEquals(new double[] { Double.MIN_VALUE, Double.NEGATIVE_INFINITY },
+					reader.readData_double(4, 5));
+		}
+	}
+
+	/**
+	 * Split a buffer into consecutive segments of the given size.
+	 *
+	 * @param source      buffer to split
+	 * @param segmentSize size of all but the last segment
+	 * @return segments of {@code source}
+	 */
+	private static ByteBuffer[] split(final ByteBuffer source, final int segmentSize) {
+		final int numSegments = (source.remaining() + segmentSize - 1) / segmentSize;
+		final ByteBuffer[] segments = new ByteBuffer[numSegments];
+		for (int i = 0; i < numSegments; ++i) {
+			final ByteBuffer view = source.duplicate();
+			view.position(i * segmentSize);
+			view.limit(Math.min(source.limit(), (i + 1) * segmentSize));
+			segments[i] = view.slice();
+			segments[i].order(source.order());
+		}
+		return segments;
+	}
+}
@@ -0,0 +1,192 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of reading and writing BinaryTimeseries files.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class FileTests {
+
+	/**
+	 * Write and read a time series using segments much smaller than the file, so
+	 * that both writing and reading have to cross many segment boundaries.
+	 * 
+	 * @throws IOException if the temporary file could not be written or read
+	 */
+	@Test
+	public void testSegmentedReadWrite() throws IOException {
+		final Path tmpFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator + "segmented.bts");
+
+		final int numSamples = 1000;
+		final double[] values = new double[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = Math.sin(0.01 * i);
+		}
+
+		try {
+			final BinaryTimeseriesFile written = BinaryTimeseriesFile.write(tmpFile, 128, 0.0, 1.0e-3, values, null,
+					null);
+			assertEquals(BinaryTimeseries.fileOffset_long(Double.BYTES, numSamples), written.getSize());
+			assertEquals(63, written.getNumSegments());
+			written.force();
+
+			// read back with a segment size different from the one used for writing
+			final BinaryTimeseriesFile btsFile = BinaryTimeseriesFile.open(tmpFile, 200);
+			assertEquals(41, btsFile.getNumSegments());
+			final BinaryTimeseriesReader reader = btsFile.getReader();
+			assertEquals(BinaryTimeseries.DTYPE_DOUBLE, reader.getTimeType());
+			assertEquals(numSamples, reader.getNumSamples());
+
+			assertArrayEquals(values, reader.readData_double());
+			for (int first = 0; first < numSamples; first += 37) {
+				final int last = Math.min(numSamples - 1, first + 53);
+				final double[] expected = new double[last - first + 1];
+				System.arraycopy(values, first, expected, 0, expected.length);
+				assertArrayEquals(expected, reader.readData_double(first, last));
+			}
+
+			// a file mapped as a single segment yields the same data
+			assertArrayEquals(values, BinaryTimeseriesFile.open(tmpFile).getReader().readData_double());
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+	/**
+	 * Check that closing a file unmaps it and that neither the file nor a reader
+	 * obtained from it can be used anymore afterwards, and that unmapping waits
+	 * for reads in progress.
+	 * 
+	 * @throws IOException if the temporary file could not be written or read
+	 */
+	@Test
+	public void testClose() throws IOException {
+		final Path tmpFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator + "closed.bts");
+		try {
+			final short[] values = { 1, 2, 3 };
+			try (BinaryTimeseriesFile written = BinaryTimeseriesFile.write(tmpFile, 13L, 37L, values)) {
+				written.force();
+			}
+
+			final BinaryTimeseriesFile btsFile = BinaryTimeseriesFile.open(tmpFile);
+			final BinaryTimeseriesReader reader = btsFile.getReader();
+			assertArrayEquals(values, reader.readData_short());
+			assertEquals(false, btsFile.isClosed());
+
+			btsFile.close();
+			assertEquals(true, btsFile.isClosed());
+			assertThrows(RuntimeException.class, () -> btsFile.getReader());
+			final RuntimeException e = assertThrows(RuntimeException.class, () -> reader.readData_short());
+			assertEquals(RuntimeException.class, e.getClass());
+			assertThrows(RuntimeException.class, () -> reader.readDataParallel_double(0, -1));
+
+			// closing twice is allowed
+			btsFile.close();
+
+			// a read in progress defers unmapping until it has ended
+			final BinaryTimeseriesFile busyFile = BinaryTimeseriesFile.open(tmpFile);
+			final BinaryTimeseriesReader busyReader = busyFile.getReader();
+			busyFile.beginRead();
+			busyFile.close();
+			assertEquals(true, busyFile.isClosed());
+			assertEquals(false, busyFile.getSegments()[0] == null);
+			busyFile.endRead();
+			assertEquals(true, busyFile.getSegments()[0] == null);
+			assertThrows(RuntimeException.class, () -> busyReader.readData_short());
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+	/**
+	 * Read a file through positional reads from a channel, concurrently from
+	 * several threads and in ranges larger than the pooled buffers, and check
+	 * that truncating the file leads to an exception.
+	 * 
+	 * @throws IOException          if the temporary file could not be written or
+	 *                              read
+	 * @throws InterruptedException if interrupted while waiting for the readers
+	 * @throws ExecutionException   if a concurrent read failed
+	 */
+	@Test
+	public void testChannelReader() throws IOException, InterruptedException, ExecutionException {
+		final Path tmpFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator + "channel.bts");
+		final Path compressedFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator
+				+ "channel_compressed.bts");
+
+		final int numSamples = 2 * DirectBufferPool.SHARED.getMaxBufferSize() / Short.BYTES + 1001;
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i % 1000);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			BinaryTimeseriesFile.write(tmpFile, 5L, 2L, values, 0.0, 0.1).close();
+			try (BinaryTimeseriesFile mapped = BinaryTimeseriesFile.open(tmpFile);
+					FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.READ)) {
+				final BinaryTimeseriesReader expected = mapped.getReader();
+				final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(channel);
+				assertEquals(numSamples, reader.getNumSamples());
+				assertEquals(2L, reader.getDt_long());
+
+				final List<Future<?>> futures = new ArrayList<>();
+				for (int t = 0; t < 16; ++t) {
+					final int first = t * 10007;
+					futures.add(executor.submit(() -> {
+						assertArrayEquals(expected.readData_double(first, -1), reader.readData_double(first, -1));
+						assertArrayEquals(expected.readDataInside_short(5L + 2 * first, 1000000L),
+								reader.readDataInside_short(5L + 2 * first, 1000000L));
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+				assertEquals(expected.statistics(0, -1).getMean(), reader.statistics(0, -1).getMean());
+				assertEquals(0L, channel.position());
+
+				// compressed files are read through the block offset table
+				try (FileChannel compressed = FileChannel.open(compressedFile, StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.READ, StandardOpenOption.TRUNCATE_EXISTING)) {
+					compressed.write(BinaryTimeseries.compress(ByteBuffer.wrap(Files.readAllBytes(tmpFile))));
+					assertArrayEquals(expected.readData_float(), new BinaryTimeseriesReader(compressed)
+							.readData_float());
+				}
+			}
+
+			// truncation after opening is reported instead of crashing the JVM
+			try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(channel);
+				channel.truncate(1000);
+				assertThrows(UncheckedIOException.class, () -> reader.readData_short());
+			}
+		} finally {
+			executor.shutdown();
+			Files.deleteIfExists(tmpFile);
+			Files.deleteIfExists(compressedFile);
+		}
+	}
+}
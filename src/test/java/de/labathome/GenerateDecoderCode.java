@@ -0,0 +1,265 @@
+package de.labathome;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * The purpose of this class is to generate {@link SampleDecoders}, which
+ * contains one decoding loop for every combination of target type, scaling type
+ * and raw data type. All loops follow the same pattern, so they are generated
+ * here instead of being maintained by hand. The decoders can be regenerated by
+ * running the {@code main} method of this class from the project directory.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class GenerateDecoderCode {
+
+	/** Java type names of the dtypes, indexed by dtype */
+	private static final String[] javaName = { null, "byte", "short", "int", "long", "float", "double" };
+
+	/** names of the relative {@link java.nio.ByteBuffer} getters, indexed by dtype */
+	private static final String[] getter = { null, "get", "getShort", "getInt", "getLong", "getFloat",
+			"getDouble" };
+
+	/** names of the dtype constants, indexed by dtype */
+	private static final String[] constant = { "DTYPE_NONE", "DTYPE_BYTE", "DTYPE_SHORT", "DTYPE_INT",
+			"DTYPE_LONG", "DTYPE_FLOAT", "DTYPE_DOUBLE" };
+
+	public static void main(String[] args) {
+		generateSampleDecoders();
+	}
+
+	/**
+	 * generate the decoders and write them to
+	 * src/main/java/de/labathome/SampleDecoders.java
+	 */
+	public static void generateSampleDecoders() {
+		try (FileWriter fw = new FileWriter("src/main/java/de/labathome/SampleDecoders.java")) {
+			try (PrintWriter pw = new PrintWriter(fw)) {
+				pw.print("package de.labathome;\n" +
+						"\n" +
+						"/**\n" +
+						" * Decoders for all combinations of scaling type, raw data type and target type.\n" +
+						" * Instead of branching on the data types for every sample, the combination of\n" +
+						" * types is resolved once per read into a decoder which only contains the loop\n" +
+						" * for this particular combination, so the loop itself contains no type\n" +
+						" * dispatch. Each decoder is a separate class, so a call site which is reached\n" +
+						" * with decoders of many combinations, e.g. the one in\n" +
+						" * {@link BinaryTimeseriesReader}, is megamorphic and pays one virtual call per\n" +
+						" * read, not per sample. Decoders are created on first use and cached.\n" +
+						" * <br>\n" +
+						" * This file is generated by {@code GenerateDecoderCode} in the test sources;\n" +
+						" * change the generator instead of editing this file by hand.\n" +
+						" *\n" +
+						" * @author Jonathan Schilling (jonathan.schilling@mail.de)\n" +
+						" */\n" +
+						"final class SampleDecoders {\n" +
+						"\n" +
+						"	/**\n" +
+						"	 * cached decoders, indexed by target type, scaling type and raw data type; the\n" +
+						"	 * decoders are stateless, so a race between two threads only creates a decoder\n" +
+						"	 * twice\n" +
+						"	 */\n" +
+						"	private static final SampleDecoder<?>[] decoders = new SampleDecoder<?>[7 * 7 * 7];\n" +
+						"\n" +
+						"	/** cached decoders which always decode sample by sample */\n" +
+						"	private static final SampleDecoder<?>[] scalarDecoders = new SampleDecoder<?>[7 * 7 * 7];\n" +
+						"\n" +
+						"	private SampleDecoders() {\n" +
+						"	}\n");
+
+				for (int target_dtype = 1; target_dtype <= 6; ++target_dtype) {
+					generateAccessors(pw, target_dtype);
+				}
+				generateGet(pw);
+				for (int target_dtype = 1; target_dtype <= 6; ++target_dtype) {
+					generateCreate(pw, target_dtype);
+				}
+				pw.print("}\n");
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generate the accessors {@code get_*} and {@code getScalar_*} of the decoders
+	 * into the given target type.
+	 */
+	private static void generateAccessors(final PrintWriter pw, final int target_dtype) {
+		final String jT = javaName[target_dtype];
+		final String decoder = "SampleDecoder<" + jT + "[]>";
+		pw.print("\n" +
+				"	/**\n" +
+				"	 * Get the decoder into {@code " + jT + "} samples for the given combination of\n" +
+				"	 * scaling and raw data type.\n" +
+				"	 * \n" +
+				"	 * @param scaling_dtype scaling data type\n" +
+				"	 * @param data_dtype    raw data type\n" +
+				"	 * @return decoder for the given combination of types\n" +
+				"	 * @throws RuntimeException if an unknown scaling type or data type was given\n" +
+				"	 */\n" +
+				"	@SuppressWarnings(\"unchecked\")\n" +
+				"	static " + decoder + " get_" + jT + "(final byte scaling_dtype, final byte data_dtype) {\n" +
+				"		return (" + decoder + ") get(BinaryTimeseries." + constant[target_dtype]
+				+ ", scaling_dtype, data_dtype, true);\n" +
+				"	}\n" +
+				"\n" +
+				"	/**\n" +
+				"	 * Get the decoder into {@code " + jT + "} samples for the given combination of\n" +
+				"	 * scaling and raw data type which always decodes sample by sample.\n" +
+				"	 * \n" +
+				"	 * @param scaling_dtype scaling data type\n" +
+				"	 * @param data_dtype    raw data type\n" +
+				"	 * @return decoder for the given combination of types\n" +
+				"	 * @throws RuntimeException if an unknown scaling type or data type was given\n" +
+				"	 */\n" +
+				"	@SuppressWarnings(\"unchecked\")\n" +
+				"	static " + decoder + " getScalar_" + jT + "(final byte scaling_dtype, final byte data_dtype) {\n" +
+				"		return (" + decoder + ") get(BinaryTimeseries." + constant[target_dtype]
+				+ ", scaling_dtype, data_dtype, false);\n" +
+				"	}\n");
+	}
+
+	/**
+	 * Generate the method which looks up the cached decoders.
+	 */
+	private static void generateGet(final PrintWriter pw) {
+		pw.print("\n" +
+				"	/**\n" +
+				"	 * Get a cached decoder or create it if it does not exist yet.\n" +
+				"	 * \n" +
+				"	 * @param target_dtype  target data type\n" +
+				"	 * @param scaling_dtype scaling data type\n" +
+				"	 * @param data_dtype    raw data type\n" +
+				"	 * @param specialized   whether to use the bulk kernels where available\n" +
+				"	 * @return decoder for the given combination of types\n" +
+				"	 * @throws RuntimeException if an unknown scaling type or data type was given\n" +
+				"	 */\n" +
+				"	private static SampleDecoder<?> get(final byte target_dtype, final byte scaling_dtype, final byte data_dtype,\n" +
+				"			final boolean specialized) {\n" +
+				"		if (scaling_dtype < BinaryTimeseries.DTYPE_NONE || scaling_dtype > BinaryTimeseries.DTYPE_DOUBLE) {\n" +
+				"			throw new RuntimeException(\"unknown scaling dtype\");\n" +
+				"		}\n" +
+				"		if (data_dtype < BinaryTimeseries.DTYPE_BYTE || data_dtype > BinaryTimeseries.DTYPE_DOUBLE) {\n" +
+				"			throw new RuntimeException(\"unknown data dtype\");\n" +
+				"		}\n" +
+				"		final SampleDecoder<?>[] cache = specialized ? decoders : scalarDecoders;\n" +
+				"		final int index = 49 * target_dtype + 7 * scaling_dtype + data_dtype;\n" +
+				"		SampleDecoder<?> decoder = cache[index];\n" +
+				"		if (decoder == null) {\n");
+		for (int target_dtype = 1; target_dtype <= 6; ++target_dtype) {
+			final String jT = javaName[target_dtype];
+			if (target_dtype == 1) {
+				pw.print("			if (target_dtype == BinaryTimeseries." + constant[target_dtype] + ") {\n");
+			} else if (target_dtype < 6) {
+				pw.print("			} else if (target_dtype == BinaryTimeseries." + constant[target_dtype] + ") {\n");
+			} else {
+				pw.print("			} else {\n");
+			}
+			pw.print("				decoder = create_" + jT + "(scaling_dtype, data_dtype, specialized);\n");
+		}
+		pw.print("			}\n" +
+				"			cache[index] = decoder;\n" +
+				"		}\n" +
+				"		return decoder;\n" +
+				"	}\n");
+	}
+
+	/**
+	 * Generate the factory of the decoders into the given target type.
+	 */
+	private static void generateCreate(final PrintWriter pw, final int target_dtype) {
+		final String jT = javaName[target_dtype];
+		pw.print("\n" +
+				"	/**\n" +
+				"	 * Create the decoder into {@code " + jT + "} samples for the given combination of\n" +
+				"	 * scaling and raw data type.\n" +
+				"	 * \n" +
+				"	 * @param scaling_dtype scaling data type\n" +
+				"	 * @param data_dtype    raw data type\n" +
+				"	 * @param specialized   whether to use the bulk kernels where available\n" +
+				"	 * @return new decoder\n" +
+				"	 */\n" +
+				"	private static SampleDecoder<" + jT + "[]> create_" + jT
+				+ "(final byte scaling_dtype, final byte data_dtype,\n" +
+				"			final boolean specialized) {\n");
+		for (int scaling_dtype = 0; scaling_dtype <= 6; ++scaling_dtype) {
+			pw.print((scaling_dtype == 0 ? "		if" : "		} else if") + " (scaling_dtype == BinaryTimeseries."
+					+ constant[scaling_dtype] + ") {\n");
+			for (int data_dtype = 1; data_dtype <= 6; ++data_dtype) {
+				pw.print((data_dtype == 1 ? "			if" : "			} else if") + " (data_dtype == BinaryTimeseries."
+						+ constant[data_dtype] + ") {\n");
+				if (scaling_dtype == 0) {
+					lambdaStart(pw, "				");
+					if (data_dtype == target_dtype) {
+						pw.print("					BinaryTimeseries.readRawData(source, target, targetOffset, numToRead);\n");
+					} else {
+						pw.print("					for (int i = 0; i < numToRead; ++i) {\n" +
+								"						target[targetOffset + i] = (" + jT + ") source." + getter[data_dtype]
+								+ "();\n" +
+								"					}\n");
+					}
+					pw.print("				};\n");
+				} else {
+					// bulk kernels exist for raw data of the target type if the scaling has the same type
+					final boolean bulk = (target_dtype == 5 || target_dtype == 6) && scaling_dtype == target_dtype
+							&& data_dtype == target_dtype;
+					if (bulk) {
+						pw.print("				if (specialized) {\n");
+						lambdaStart(pw, "					");
+						scalingParameters(pw, "						", scaling_dtype);
+						pw.print("						if (numToRead >= BulkDecoder.MIN_SAMPLES) {\n" +
+								"							BulkDecoder.decode(source, scalingOffset, scalingFactor, target, targetOffset,\n" +
+								"									numToRead);\n" +
+								"						} else {\n");
+						scaledLoop(pw, "							", target_dtype, data_dtype);
+						pw.print("						}\n" +
+								"					};\n" +
+								"				}\n");
+					}
+					lambdaStart(pw, "				");
+					scalingParameters(pw, "					", scaling_dtype);
+					scaledLoop(pw, "					", target_dtype, data_dtype);
+					pw.print("				};\n");
+				}
+			}
+			pw.print("			}\n");
+		}
+		pw.print("		}\n" +
+				"		throw new RuntimeException(\"unknown scaling dtype or data dtype\");\n" +
+				"	}\n");
+	}
+
+	/**
+	 * Generate the start of a decoder lambda at the given indentation.
+	 */
+	private static void lambdaStart(final PrintWriter pw, final String indent) {
+		pw.print(indent + "return (source, scalingOffset_long, scalingFactor_long, scalingOffset_double,\n" +
+				indent + "		scalingFactor_double, target, targetOffset, numToRead) -> {\n");
+	}
+
+	/**
+	 * Generate the narrowing of the widened scaling parameters to the scaling
+	 * type.
+	 */
+	private static void scalingParameters(final PrintWriter pw, final String indent, final int scaling_dtype) {
+		final String jS = javaName[scaling_dtype];
+		final String widened = (scaling_dtype >= 5) ? "_double" : "_long";
+		final String cast = (scaling_dtype == 4 || scaling_dtype == 6) ? "" : "(" + jS + ") ";
+		pw.print(indent + "final " + jS + " scalingOffset = " + cast + "scalingOffset" + widened + ";\n" +
+				indent + "final " + jS + " scalingFactor = " + cast + "scalingFactor" + widened + ";\n");
+	}
+
+	/**
+	 * Generate the loop which scales the raw samples one by one.
+	 */
+	private static void scaledLoop(final PrintWriter pw, final String indent, final int target_dtype,
+			final int data_dtype) {
+		pw.print(indent + "for (int i = 0; i < numToRead; ++i) {\n" +
+				indent + "	target[targetOffset + i] = (" + javaName[target_dtype]
+				+ ") (scalingOffset + scalingFactor * source." + getter[data_dtype] + "());\n" +
+				indent + "}\n");
+	}
+}
@@ -0,0 +1,181 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache of memory-mapped files.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class MappedCacheTests {
+
+	/**
+	 * Check reuse of mappings, LRU and idle timeout eviction, and remapping of
+	 * rewritten files, using a manual clock.
+	 *
+	 * @throws IOException if the temporary files could not be written or read
+	 */
+	@Test
+	public void testLeases() throws IOException {
+		final Path directory = Files.createTempDirectory("mapped");
+		try {
+			final Path[] files = new Path[3];
+			for (int i = 0; i < files.length; ++i) {
+				files[i] = directory.resolve("shot" + i + ".bts");
+				write(files[i], i);
+			}
+
+			final AtomicLong now = new AtomicLong();
+			final MappedFileCache cache = new MappedFileCache(2, TimeUnit.SECONDS.toNanos(10), now::get);
+
+			final MappedFileCache.Lease first = cache.acquire(files[0]);
+			final BinaryTimeseriesFile mapped = first.getFile();
+			try (MappedFileCache.Lease second = cache.acquire(directory.resolve("..").resolve(
+					directory.getFileName()).resolve("shot0.bts"))) {
+				assertSame(first.getReader(), second.getReader());
+				assertArrayEquals(new double[] { 0.0, 1.0, 2.0 }, second.getReader().readData_double(0, 2));
+			}
+			assertEquals(1, cache.getMisses());
+			assertEquals(1, cache.getHits());
+
+			// leased files are not evicted, even beyond the maximum number of files
+			try (MappedFileCache.Lease lease1 = cache.acquire(files[1]);
+					MappedFileCache.Lease lease2 = cache.acquire(files[2])) {
+				assertEquals(3, cache.getNumOpenFiles());
+			}
+			// releasing lease2 evicted shot2, the only idle file at that time
+			assertEquals(2, cache.getNumOpenFiles());
+			assertEquals(1, cache.getEvictions());
+			first.close();
+			first.close();
+			assertThrows(RuntimeException.class, () -> first.getReader());
+			assertFalse(mapped.isClosed());
+
+			// mapping shot2 again evicts shot0, the least recently used idle file
+			cache.acquire(files[2]).close();
+			assertEquals(2, cache.getNumOpenFiles());
+			assertTrue(mapped.isClosed());
+			assertEquals(2, cache.getEvictions());
+
+			// idle files are unmapped after the timeout
+			now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+			cache.evictIdle();
+			assertEquals(0, cache.getNumOpenFiles());
+			assertEquals(4, cache.getEvictions());
+
+			// a rewritten file is mapped again; the old mapping lives until its lease is closed
+			final MappedFileCache.Lease old = cache.acquire(files[1]);
+			write(files[1], 100);
+			Files.setLastModifiedTime(files[1], FileTime.fromMillis(Files.getLastModifiedTime(files[1]).toMillis()
+					+ 2000));
+			try (MappedFileCache.Lease updated = cache.acquire(files[1])) {
+				assertNotSame(old.getFile(), updated.getFile());
+				assertEquals(100.0, updated.getReader().readData_double(0, 0)[0]);
+				assertFalse(old.getFile().isClosed());
+				final BinaryTimeseriesFile oldFile = old.getFile();
+				old.close();
+				assertTrue(oldFile.isClosed());
+			}
+
+			cache.close();
+			assertEquals(0, cache.getNumOpenFiles());
+			assertThrows(RuntimeException.class, () -> cache.acquire(files[0]));
+		} finally {
+			deleteAll(directory);
+		}
+	}
+
+	/**
+	 * Lease the same file from many threads at the same time and check that it is
+	 * mapped only once.
+	 *
+	 * @throws IOException          if the temporary file could not be written
+	 * @throws InterruptedException if a thread was interrupted
+	 * @throws ExecutionException   if a read failed
+	 */
+	@Test
+	public void testConcurrentLeases() throws IOException, InterruptedException, ExecutionException {
+		final Path directory = Files.createTempDirectory("mapped");
+		final MappedFileCache cache = new MappedFileCache(4, 1, TimeUnit.MINUTES);
+		try {
+			final Path file = directory.resolve("popular.bts");
+			write(file, 0);
+
+			final ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				final List<Future<double[]>> results = new ArrayList<>();
+				for (int i = 0; i < 100; ++i) {
+					results.add(executor.submit(() -> {
+						try (MappedFileCache.Lease lease = cache.acquire(file)) {
+							return lease.getReader().readData_double(10, 12);
+						}
+					}));
+				}
+				for (final Future<double[]> result : results) {
+					assertArrayEquals(new double[] { 10.0, 11.0, 12.0 }, result.get());
+				}
+			} finally {
+				executor.shutdown();
+			}
+			assertEquals(1, cache.getMisses());
+			assertEquals(99, cache.getHits());
+			assertEquals(1, cache.getNumOpenFiles());
+		} finally {
+			cache.close();
+			deleteAll(directory);
+		}
+	}
+
+	/**
+	 * Write a time series of 100 consecutive values.
+	 *
+	 * @param file  file to write
+	 * @param first first value
+	 * @throws IOException if the file could not be written
+	 */
+	private static void write(final Path file, final int first) throws IOException {
+		final int[] values = new int[100];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = first + i;
+		}
+		BinaryTimeseriesFile.write(file, BinaryTimeseriesFile.DEFAULT_SEGMENT_SIZE, 0L, 1L, values, null, null)
+				.close();
+	}
+
+	/**
+	 * Delete a directory and the files in it.
+	 *
+	 * @param directory directory to delete
+	 * @throws IOException if a file could not be deleted
+	 */
+	private static void deleteAll(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (final Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+}
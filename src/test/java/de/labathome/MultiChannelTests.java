@@ -0,0 +1,130 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the multi-channel containers sharing one timebase.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class MultiChannelTests {
+
+	/**
+	 * Write three channels with individual scaling in both layouts and check that
+	 * all channels, single channels and time windows are read back correctly.
+	 */
+	@Test
+	public void testLayouts() {
+		final int numSamples = 10000;
+		final int numChannels = 3;
+		final short[][] values = new short[numChannels][numSamples];
+		for (int c = 0; c < numChannels; ++c) {
+			for (int i = 0; i < numSamples; ++i) {
+				values[c][i] = (short) ((c + 1) * i - 5000);
+			}
+		}
+		final Object[] scalingOffsets = { null, 1.5, 10L };
+		final Object[] scalingFactors = { null, 0.5, 3L };
+
+		for (byte layout : new byte[] { BinaryTimeseries.LAYOUT_INTERLEAVED, BinaryTimeseries.LAYOUT_PLANAR }) {
+			for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+				final ByteBuffer target = ByteBuffer.allocate(
+						(int) MultiChannelTimeseries.size(numChannels, BinaryTimeseries.DTYPE_SHORT, numSamples));
+				target.order(order);
+				MultiChannelTimeseries.write(target, 1000L, 10L, layout, values, scalingOffsets, scalingFactors);
+				assertEquals(target.capacity(), target.position());
+				target.flip();
+
+				final MultiChannelReader reader = new MultiChannelReader(target);
+				assertEquals(layout, reader.getLayout());
+				assertEquals(numChannels, reader.getNumChannels());
+				assertEquals(numSamples, reader.getNumSamples());
+				assertEquals(BinaryTimeseries.DTYPE_SHORT, reader.getDataType());
+				assertEquals(BinaryTimeseries.DTYPE_NONE, reader.getScalingType(0));
+				assertEquals(BinaryTimeseries.DTYPE_DOUBLE, reader.getScalingType(1));
+				assertEquals(1000L, reader.getT0_long());
+
+				final double[][] all = reader.readData_double(0, -1);
+				for (int i = 0; i < numSamples; ++i) {
+					assertEquals(values[0][i], all[0][i]);
+					assertEquals(1.5 + 0.5 * values[1][i], all[1][i]);
+					assertEquals(10L + 3L * values[2][i], all[2][i]);
+				}
+
+				// the raw data is aligned behind the padded scaling table
+				assertEquals(0, MultiChannelTimeseries.dataOffset(numChannels) % 8);
+				final float[] channel1 = reader.readData_float(1, 0, -1);
+				for (int i = 0; i < numSamples; ++i) {
+					assertEquals((float) (1.5 + 0.5 * values[1][i]), channel1[i]);
+				}
+
+				assertArrayEquals(values[0], reader.readData_short(0, 0, -1));
+				final long[] channel2 = reader.readData_long(2, 4000, 4002);
+				assertArrayEquals(new long[] { 10L + 3L * values[2][4000], 10L + 3L * values[2][4001],
+						10L + 3L * values[2][4002] }, channel2);
+
+				// samples 3 to 5 are at 1030, 1040 and 1050
+				final int[][] window = reader.readDataInside_int(1025L, 1055L);
+				assertEquals(numChannels, window.length);
+				assertArrayEquals(new int[] { values[0][3], values[0][4], values[0][5] }, window[0]);
+				assertEquals(0, reader.readDataInside_int(0L, 999L)[1].length);
+
+				// single-channel readers refuse multi-channel containers
+				assertThrows(RuntimeException.class, () -> new BinaryTimeseriesReader(target));
+				assertThrows(RuntimeException.class, () -> BinaryTimeseries.readData_short(target));
+				assertThrows(RuntimeException.class, () -> reader.readData_short(3, 0, -1));
+			}
+		}
+	}
+
+	/**
+	 * Read an interleaved container with more samples than are de-interleaved at
+	 * once from a file using a {@link FileChannel}.
+	 *
+	 * @throws IOException if the temporary file could not be written
+	 */
+	@Test
+	public void testChannelReader() throws IOException {
+		final int numSamples = 100000;
+		final double[][] values = new double[2][numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[0][i] = Math.sin(i * 1.0e-3);
+			values[1][i] = i;
+		}
+		final ByteBuffer target = ByteBuffer.allocate(
+				(int) MultiChannelTimeseries.size(2, BinaryTimeseries.DTYPE_DOUBLE, numSamples));
+		MultiChannelTimeseries.write(target, 0.0, 0.25, BinaryTimeseries.LAYOUT_INTERLEAVED, values);
+		target.flip();
+
+		final Path file = Files.createTempFile("multichannel", ".bts");
+		try {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.write(target);
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				final MultiChannelReader reader = new MultiChannelReader(channel);
+				final double[][] all = reader.readData_double(0, -1);
+				assertArrayEquals(values[0], all[0]);
+				assertArrayEquals(values[1], all[1]);
+
+				final double[][] window = reader.readDataInside_double(12500.0, 15000.0);
+				assertEquals(10001, window[1].length);
+				assertEquals(50000.0, window[1][0]);
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
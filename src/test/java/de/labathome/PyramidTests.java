@@ -0,0 +1,109 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the min/max/mean pyramid companion files.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class PyramidTests {
+
+	/**
+	 * Build a pyramid for a time series whose length is not a multiple of the
+	 * block size and compare the summaries at all levels with the samples.
+	 * 
+	 * @throws IOException if the companion file could not be written or read
+	 */
+	@Test
+	public void testSummaries() throws IOException {
+		final Path tmpFile = Files.createTempFile("pyramid", ".bts.pyr");
+
+		final int numSamples = 100_003;
+		final double[] values = new double[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = Math.sin(1.0e-3 * i) + 1.0e-2 * (i % 7);
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Double.BYTES, numSamples));
+		BinaryTimeseries.write(source, 1000L, 10L, values);
+		source.position(0);
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		try {
+			try (BinaryTimeseriesPyramid pyramid = BinaryTimeseriesPyramid.build(reader, tmpFile, 64)) {
+				// 64 * 2^11 = 131072 is the first block size covering all samples
+				assertEquals(12, pyramid.getNumLevels());
+			}
+
+			final BinaryTimeseriesPyramid closed;
+			try (BinaryTimeseriesPyramid pyramid = BinaryTimeseriesPyramid.open(reader, tmpFile)) {
+				closed = pyramid;
+				for (int numPixels : new int[] { 1, 3, 100, 1000, 1500 }) {
+					final int firstIndex = 1234;
+					final int lastIndex = 98765;
+					final BinaryTimeseriesPyramid.Summary summary = pyramid.summarize(firstIndex, lastIndex, numPixels);
+					final int blockSize = summary.getBlockSize();
+					assertEquals(true, blockSize >= 64);
+					assertEquals(true, summary.getNumBlocks() >= numPixels);
+					assertEquals(0, summary.getFirstIndex() % blockSize);
+					assertEquals(true, summary.getFirstIndex() <= firstIndex);
+					assertEquals(true, summary.getFirstIndex() + summary.getNumBlocks() * blockSize > lastIndex);
+
+					for (int block = 0; block < summary.getNumBlocks(); ++block) {
+						final int start = summary.getFirstIndex() + block * blockSize;
+						final int end = Math.min(numSamples, start + blockSize);
+						double min = values[start];
+						double max = values[start];
+						double sum = 0.0;
+						for (int i = start; i < end; ++i) {
+							min = Math.min(min, values[i]);
+							max = Math.max(max, values[i]);
+							sum += values[i];
+						}
+						assertEquals(min, summary.getMin()[block]);
+						assertEquals(max, summary.getMax()[block]);
+						assertEquals(sum / (end - start), summary.getMean()[block], 1.0e-12);
+					}
+				}
+
+				// zoomed in so far that the samples themselves are returned
+				final BinaryTimeseriesPyramid.Summary samples = pyramid.summarize(1015L, 2000L, 500);
+				assertEquals(1, samples.getBlockSize());
+				assertEquals(2, samples.getFirstIndex());
+				final double[] expected = new double[99];
+				System.arraycopy(values, 2, expected, 0, expected.length);
+				assertArrayEquals(expected, samples.getMin());
+
+				// whole time series in a single pixel: the coarsest level with at least one
+				// full block per pixel has blocks of 65536 samples
+				final BinaryTimeseriesPyramid.Summary overview = pyramid.summarize(0, numSamples - 1, 1);
+				assertEquals(65536, overview.getBlockSize());
+				assertEquals(2, overview.getNumBlocks());
+			}
+			assertThrows(RuntimeException.class, () -> closed.summarize(0, numSamples - 1, 1));
+			closed.close();
+
+			// the base block size is bounded, so that the chunks read while building fit into an array
+			assertThrows(RuntimeException.class, () -> BinaryTimeseriesPyramid.build(reader, tmpFile,
+					BinaryTimeseriesPyramid.MAX_BASE_BLOCK_SIZE * 2));
+
+			// a companion file does not fit a different time series
+			final ByteBuffer other = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Double.BYTES, 10));
+			BinaryTimeseries.write(other, 1000L, 10L, new double[10]);
+			other.position(0);
+			assertThrows(RuntimeException.class,
+					() -> BinaryTimeseriesPyramid.open(new BinaryTimeseriesReader(other), tmpFile));
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+}
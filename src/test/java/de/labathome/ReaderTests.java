@@ -0,0 +1,297 @@
+package de.labathome;
+
+import static de.labathome.GenerateTestData.data_dtypes;
+import static de.labathome.GenerateTestData.scaling_dtypes;
+import static de.labathome.GenerateTestData.time_dtypes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check that the BinaryTimeseriesReader yields the same results as the static
+ * reading methods in BinaryTimeseries for all test data files.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class ReaderTests {
+
+	/**
+	 * Load one of the test data files into a buffer.
+	 * 
+	 * @param time_dtype    timestamp dtype
+	 * @param scaling_dtype scaling dtype
+	 * @param data_dtype    raw data dtype
+	 * @return buffer containing the test data file
+	 * @throws IOException if the test data file could not be read
+	 */
+	static ByteBuffer loadTestData(final byte time_dtype, final byte scaling_dtype, final byte data_dtype)
+			throws IOException {
+		final String testId = BinaryTimeseries.dtypeStr(time_dtype) + "_" + BinaryTimeseries.dtypeStr(scaling_dtype)
+				+ "_" + BinaryTimeseries.dtypeStr(data_dtype);
+		return ByteBuffer.wrap(Files.readAllBytes(Paths.get("src/test/resources/" + testId + ".bts")));
+	}
+
+	/**
+	 * Compare the reader against the static reading methods for all test data
+	 * files, both for the whole time series and for a subset of it.
+	 * 
+	 * @throws IOException if a test data file could not be read
+	 */
+	@Test
+	public void testReaderMatchesStaticMethods() throws IOException {
+		for (byte time_dtype : time_dtypes) {
+			for (byte scaling_dtype : scaling_dtypes) {
+				for (byte data_dtype : data_dtypes) {
+					final ByteBuffer source = loadTestData(time_dtype, scaling_dtype, data_dtype);
+					final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+					assertEquals(0, source.position());
+
+					assertEquals(time_dtype, reader.getTimeType());
+					assertEquals(scaling_dtype, reader.getScalingType());
+					assertEquals(data_dtype, reader.getDataType());
+					assertEquals(10, reader.getNumSamples());
+
+					final int[][] ranges = { { 0, -1 }, { 2, 6 }, { 9, 9 } };
+					for (int[] range : ranges) {
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_byte(source, range[0], range[1]),
+								reader.readData_byte(range[0], range[1]));
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_short(source, range[0], range[1]),
+								reader.readData_short(range[0], range[1]));
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_int(source, range[0], range[1]),
+								reader.readData_int(range[0], range[1]));
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_long(source, range[0], range[1]),
+								reader.readData_long(range[0], range[1]));
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_float(source, range[0], range[1]),
+								reader.readData_float(range[0], range[1]));
+						source.position(19);
+						assertArrayEquals(BinaryTimeseries.readData_double(source, range[0], range[1]),
+								reader.readData_double(range[0], range[1]));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check that a buffer with swapped byte order is read correctly and that time
+	 * ranges are limited to the available samples.
+	 */
+	@Test
+	public void testTimeRangeAndByteOrder() {
+		final int[] values = new int[100];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = 3 * i;
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Integer.BYTES, values.length))
+				.order(ByteOrder.LITTLE_ENDIAN);
+		BinaryTimeseries.write(source, 1000L, 10L, values);
+		source.order(ByteOrder.BIG_ENDIAN);
+		source.position(0);
+
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+		assertEquals(ByteOrder.LITTLE_ENDIAN, reader.getByteOrder());
+		assertEquals(1000L, reader.getT0_long());
+		assertEquals(10L, reader.getDt_long());
+
+		// [1015, 1040] contains the samples at 1020, 1030 and 1040
+		assertArrayEquals(new int[] { 6, 9, 12 }, reader.readDataInside_int(1015L, 1040L));
+
+		// intervals partially outside the time series are limited to the available
+		// samples
+		assertArrayEquals(new int[] { 0, 3 }, reader.readDataInside_int(0L, 1010L));
+		assertArrayEquals(new int[] { 294, 297 }, reader.readDataInside_int(1980L, 5000L));
+
+		// intervals completely outside the time series are empty
+		assertEquals(0, reader.readDataInside_int(0L, 999L).length);
+		assertEquals(0, reader.readDataInside_int(2000L, 3000L).length);
+		assertEquals(0, source.position());
+	}
+
+	/**
+	 * Check that many threads can read different windows of the same buffer
+	 * through one reader at the same time.
+	 * 
+	 * @throws Exception if one of the reading threads failed
+	 */
+	@Test
+	public void testConcurrentReads() throws Exception {
+		final int numSamples = 1_000_000;
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i % Short.MAX_VALUE);
+		}
+		final ByteBuffer source = ByteBuffer.allocateDirect(BinaryTimeseries.fileOffset(Short.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0L, 1L, values, 0.5, 2.0);
+		source.position(0);
+
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		final int numThreads = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			final List<Future<Boolean>> results = new ArrayList<>();
+			for (int t = 0; t < numThreads; ++t) {
+				final long seed = t;
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() {
+						final Random random = new Random(seed);
+						for (int n = 0; n < 200; ++n) {
+							final int first = random.nextInt(numSamples);
+							final int last = first + random.nextInt(Math.min(10_000, numSamples - first));
+							final double[] data = reader.readData_double(first, last);
+							for (int i = 0; i < data.length; ++i) {
+								if (data[i] != 0.5 + 2.0 * values[first + i]) {
+									return false;
+								}
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertEquals(true, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Check the statistics over index and time ranges, which span several chunks,
+	 * against values computed from the decoded samples.
+	 */
+	@Test
+	public void testStatistics() {
+		final int numSamples = 10_000;
+		final int[] values = new int[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (i * 37) % 1001 - 500;
+		}
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Integer.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0.0, 0.5, values, 1.0, 0.25);
+		source.position(0);
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		final int[][] ranges = { { 0, -1 }, { 17, 9000 }, { 5000, 5000 } };
+		for (int[] range : ranges) {
+			final double[] data = reader.readData_double(range[0], range[1]);
+			double min = data[0];
+			double max = data[0];
+			double sum = 0.0;
+			double sumOfSquares = 0.0;
+			for (double value : data) {
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+				sum += value;
+				sumOfSquares += value * value;
+			}
+
+			final BinaryTimeseriesStatistics statistics = reader.statistics(range[0], range[1]);
+			assertEquals(data.length, statistics.getCount());
+			assertEquals(min, statistics.getMin());
+			assertEquals(max, statistics.getMax());
+			assertEquals(sum, statistics.getSum(), 1.0e-9);
+			assertEquals(sum / data.length, statistics.getMean(), 1.0e-12);
+			assertEquals(Math.sqrt(sumOfSquares / data.length), statistics.getRms(), 1.0e-12);
+		}
+
+		// [10.0, 20.0] contains the samples 20 to 40
+		final BinaryTimeseriesStatistics window = reader.statistics(10.0, 20.0);
+		assertEquals(21, window.getCount());
+		assertEquals(reader.statistics(20, 40).getMean(), window.getMean());
+
+		// no samples inside the interval
+		final BinaryTimeseriesStatistics empty = reader.statistics(-10.0, -1.0);
+		assertEquals(0, empty.getCount());
+		assertEquals(true, Double.isNaN(empty.getMean()));
+	}
+
+	/**
+	 * Check that parallel reads yield the same samples as sequential reads, for
+	 * ranges that are split into many tasks and for ranges that are not split.
+	 */
+	@Test
+	public void testParallelReads() {
+		final int numSamples = 5 * BinaryTimeseriesReader.PARALLEL_CHUNK_SIZE + 12345;
+		final short[] values = new short[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i * 7);
+		}
+		final ByteBuffer source = ByteBuffer.allocateDirect(BinaryTimeseries.fileOffset(Short.BYTES, numSamples));
+		BinaryTimeseries.write(source, 0L, 1L, values, 0.5, 2.0);
+		source.position(0);
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		assertArrayEquals(reader.readData_double(), reader.readDataParallel_double(0, -1));
+		assertArrayEquals(reader.readData_short(), reader.readDataParallel_short(0, -1));
+		assertArrayEquals(reader.readData_float(3, 1000), reader.readDataParallel_float(3, 1000));
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final int first = 777;
+			final int last = numSamples - 999;
+			final long[] target = new long[last - first + 11];
+			assertEquals(last - first + 1, reader.readDataParallel_long(first, last, target, 10, pool));
+			final long[] expected = reader.readData_long(first, last);
+			for (int i = 0; i < expected.length; ++i) {
+				assertEquals(expected[i], target[10 + i]);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Check that the header parser used by all readers detects the byte order,
+	 * widens the timestamps and scaling parameters and rejects invalid headers.
+	 */
+	@Test
+	public void testHeader() {
+		final ByteBuffer header = ByteBuffer.allocate(BinaryTimeseriesHeader.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		BinaryTimeseries.writeHeader(header, 0.5, 0.25, (short) -3, (short) 7, BinaryTimeseries.DTYPE_BYTE, 42);
+		header.order(ByteOrder.BIG_ENDIAN);
+
+		final BinaryTimeseriesHeader parsed = new BinaryTimeseriesHeader(header);
+		assertEquals(ByteOrder.LITTLE_ENDIAN, parsed.order);
+		assertEquals(ByteOrder.LITTLE_ENDIAN, header.order());
+		assertEquals(BinaryTimeseries.DTYPE_DOUBLE, parsed.time_dtype);
+		assertEquals(0.5, parsed.t0_double);
+		assertEquals(0.25, parsed.dt_double);
+		assertEquals(BinaryTimeseries.DTYPE_SHORT, parsed.scaling_dtype);
+		assertEquals(-3L, parsed.scalingOffset_long);
+		assertEquals(7L, parsed.scalingFactor_long);
+		assertEquals(BinaryTimeseries.DTYPE_BYTE, parsed.data_dtype);
+		assertEquals(1, parsed.dataSize);
+		assertEquals(42, parsed.numSamples);
+		assertEquals(BinaryTimeseries.COMPRESSION_NONE, parsed.compression);
+		assertEquals(BinaryTimeseries.LAYOUT_SINGLE_CHANNEL, parsed.layout);
+
+		header.put(19, (byte) 9);
+		assertThrows(RuntimeException.class, () -> new BinaryTimeseriesHeader(header));
+		header.putShort(0, (short) 2);
+		assertThrows(RuntimeException.class, () -> new BinaryTimeseriesHeader(header));
+	}
+}
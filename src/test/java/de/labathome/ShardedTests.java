@@ -0,0 +1,140 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of time series split into several files by the sharded writer.
+ *
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class ShardedTests {
+
+	/**
+	 * Record a scaled time series in chunks which do not align with the shards
+	 * and check the shards, the manifest and reads across shard boundaries.
+	 *
+	 * @throws IOException if the temporary files could not be written or read
+	 */
+	@Test
+	public void testSampleThreshold() throws IOException {
+		final Path directory = Files.createTempDirectory("sharded");
+		try {
+			final Path manifestFile = directory.resolve("recording.btsm");
+			final int numSamples = 4321;
+			final int[] values = new int[numSamples];
+			for (int i = 0; i < numSamples; ++i) {
+				values[i] = 3 * i - 1000;
+			}
+
+			try (BinaryTimeseriesShardedWriter writer = BinaryTimeseriesShardedWriter.create(manifestFile, 1000,
+					BinaryTimeseriesShardedWriter.DEFAULT_MAX_SHARD_SIZE, 100L, 10L, BinaryTimeseries.DTYPE_INT,
+					1.0, 0.5)) {
+				for (int i = 0; i < numSamples; i += 300) {
+					writer.append(values, i, Math.min(300, numSamples - i));
+				}
+				assertEquals(numSamples, writer.getNumSamples());
+				assertEquals(5, writer.getNumShards());
+				assertThrows(RuntimeException.class, () -> writer.append(new double[1]));
+			}
+
+			// every shard is a regular time series with its own t0
+			final Path thirdShard = directory.resolve("recording.00002.bts");
+			try (FileChannel channel = FileChannel.open(thirdShard, StandardOpenOption.READ)) {
+				final BinaryTimeseriesReader shard = new BinaryTimeseriesReader(channel);
+				assertEquals(1000, shard.getNumSamples());
+				assertEquals(100L + 2000L * 10L, shard.getT0_long());
+				assertEquals(1.0 + 0.5 * values[2000], shard.readData_double(0, 0)[0]);
+			}
+
+			try (BinaryTimeseriesShardedReader reader = BinaryTimeseriesShardedReader.open(manifestFile)) {
+				assertEquals(numSamples, reader.getNumSamples());
+				assertEquals(5, reader.getNumShards());
+				assertEquals(0, reader.getNumOpenShards());
+				assertEquals(100L, reader.getT0_long());
+
+				// samples 1995 to 2005 are at 20050 to 20150 and cross one shard boundary
+				final double[] window = reader.readDataInside_double(20050L, 20150L);
+				assertEquals(11, window.length);
+				for (int i = 0; i < window.length; ++i) {
+					assertEquals(1.0 + 0.5 * values[1995 + i], window[i]);
+				}
+				assertEquals(2, reader.getNumOpenShards());
+
+				final double[] all = reader.readData_double(0, -1);
+				for (int i = 0; i < numSamples; ++i) {
+					assertEquals(1.0 + 0.5 * values[i], all[i]);
+				}
+				assertEquals(5, reader.getNumOpenShards());
+				assertEquals(0, reader.readDataInside_double(0L, 99L).length);
+				assertArrayEquals(new double[] { 1.0 + 0.5 * values[numSamples - 1] },
+						reader.readData_double(numSamples - 1, numSamples - 1));
+				assertThrows(RuntimeException.class, () -> reader.readData_double(0, numSamples));
+			}
+		} finally {
+			deleteAll(directory);
+		}
+	}
+
+	/**
+	 * Check that the byte size threshold limits the number of samples per shard
+	 * and that {@code double} timestamps are stitched correctly.
+	 *
+	 * @throws IOException if the temporary files could not be written or read
+	 */
+	@Test
+	public void testSizeThreshold() throws IOException {
+		final Path directory = Files.createTempDirectory("sharded");
+		try {
+			final Path manifestFile = directory.resolve("sizes.btsm");
+			final double[] values = new double[1050];
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = Math.sin(0.01 * i);
+			}
+
+			final long maxShardSize = BinaryTimeseries.fileOffset_long(Double.BYTES, 100);
+			try (BinaryTimeseriesShardedWriter writer = BinaryTimeseriesShardedWriter.create(manifestFile,
+					Integer.MAX_VALUE, maxShardSize, 0.0, 0.25, BinaryTimeseries.DTYPE_DOUBLE, null, null)) {
+				assertEquals(100, writer.getMaxShardSamples());
+				writer.append(values);
+				writer.flush();
+				assertEquals(values.length, BinaryTimeseriesShardedReader.open(manifestFile).getNumSamples());
+			}
+			assertEquals(maxShardSize, Files.size(directory.resolve("sizes.00000.bts")));
+
+			try (BinaryTimeseriesShardedReader reader = BinaryTimeseriesShardedReader.open(manifestFile)) {
+				assertEquals(11, reader.getNumShards());
+				assertArrayEquals(values, reader.readData_double(0, -1));
+				assertArrayEquals(Arrays.copyOfRange(values, 399, 801), reader.readDataInside_double(99.75, 200.0));
+			}
+		} finally {
+			deleteAll(directory);
+		}
+	}
+
+	/**
+	 * Delete a directory and the files in it.
+	 *
+	 * @param directory directory to delete
+	 * @throws IOException if a file could not be deleted
+	 */
+	private static void deleteAll(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (final Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+}
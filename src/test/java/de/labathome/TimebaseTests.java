@@ -0,0 +1,68 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the lazy timebase views.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class TimebaseTests {
+
+	/**
+	 * Check that the timestamps computed by the views agree with the materialized
+	 * timebase, for single values, batches, streams and parts of the views.
+	 */
+	@Test
+	public void testTimebaseViews() {
+		final int numSamples = 1000;
+		final ByteBuffer source = ByteBuffer.allocate(BinaryTimeseries.fileOffset(Integer.BYTES, numSamples));
+		BinaryTimeseries.write(source, 1_600_000_000_000L, 7L, new int[numSamples]);
+		source.flip();
+		final BinaryTimeseriesReader reader = new BinaryTimeseriesReader(source);
+
+		final long[] expected_long = new long[numSamples];
+		BinaryTimeseries.buildTimebase(expected_long, reader.getT0_long(), reader.getDt_long());
+		final LongTimebase timebase_long = reader.getTimebase_long();
+		assertEquals(numSamples, timebase_long.size());
+		assertArrayEquals(expected_long, timebase_long.toArray());
+		assertArrayEquals(expected_long, timebase_long.stream().toArray());
+		assertEquals(expected_long[123], timebase_long.get(123));
+		assertThrows(RuntimeException.class, () -> timebase_long.get(numSamples));
+
+		// fill in batches which do not divide the number of samples
+		final long[] batch = new long[64];
+		for (int first = 0; first < numSamples; first += batch.length) {
+			final int numInBatch = Math.min(batch.length, numSamples - first);
+			timebase_long.fill(first, batch, 0, numInBatch);
+			for (int i = 0; i < numInBatch; ++i) {
+				assertEquals(expected_long[first + i], batch[i]);
+			}
+		}
+		assertThrows(RuntimeException.class, () -> timebase_long.fill(numSamples - 10, batch, 0, 11));
+
+		final LongTimebase range_long = reader.getTimebase_long(100, 199);
+		assertEquals(100, range_long.getOffset());
+		assertEquals(expected_long[100], range_long.get(0));
+		assertEquals(expected_long[150], range_long.subrange(40, 20).get(10));
+		assertEquals(reader.firstIndexInside(range_long.get(0)), range_long.getOffset());
+
+		final double[] expected_double = new double[numSamples];
+		BinaryTimeseries.buildTimebase(expected_double, reader.getT0_double(), reader.getDt_double());
+		final DoubleTimebase timebase_double = reader.getTimebase_double(10, -1);
+		assertEquals(numSamples - 10, timebase_double.size());
+		assertEquals(expected_double[10], timebase_double.get(0));
+		assertEquals(expected_double[numSamples - 1], timebase_double.stream().max().getAsDouble());
+		final double[] filled = new double[numSamples + 5];
+		timebase_double.fill(filled, 5, numSamples - 10);
+		assertArrayEquals(Arrays.copyOfRange(expected_double, 10, numSamples),
+				Arrays.copyOfRange(filled, 5, numSamples - 5));
+	}
+}
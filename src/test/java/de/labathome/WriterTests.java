@@ -0,0 +1,81 @@
+package de.labathome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the streaming BinaryTimeseriesWriter.
+ * 
+ * @author Jonathan Schilling (jonathan.schilling@mail.de)
+ */
+public class WriterTests {
+
+	/**
+	 * Append a time series in chunks of varying size, which in total exceed the
+	 * staging buffer and many extents, and check that the number of samples in the
+	 * header is updated on flush and close.
+	 * 
+	 * @throws IOException if the temporary file could not be written or read
+	 */
+	@Test
+	public void testAppendInChunks() throws IOException {
+		final Path tmpFile = Paths.get(System.getProperty("java.io.tmpdir") + File.separator + "appended.bts");
+
+		final int numSamples = 3 * BinaryTimeseriesWriter.STAGING_SIZE / Short.BYTES + 123;
+		final short[] values = new short[numSamples];
+		final double[] scaled = new double[numSamples];
+		for (int i = 0; i < numSamples; ++i) {
+			values[i] = (short) (i % 4096 - 2048);
+			scaled[i] = 1.0 + 0.25 * values[i];
+		}
+
+		try {
+			try (BinaryTimeseriesWriter writer = BinaryTimeseriesWriter.create(tmpFile, 100_000L, 0L, 10L,
+					BinaryTimeseries.DTYPE_SHORT, 1.0, 0.25)) {
+				int numAppended = 0;
+				int chunkSize = 1;
+				while (numAppended < numSamples / 2) {
+					writer.append(values, numAppended, chunkSize);
+					numAppended += chunkSize;
+					chunkSize = 2 * chunkSize + 1;
+				}
+				assertEquals(numAppended, writer.getNumSamples());
+
+				// appending a different type is not allowed
+				assertThrows(RuntimeException.class, () -> writer.append(new int[] { 1 }));
+
+				// after a flush, the samples appended so far are readable from the file
+				writer.flush();
+				assertEquals(0, Files.size(tmpFile) % 100_000L);
+				try (BinaryTimeseriesFile btsFile = BinaryTimeseriesFile.open(tmpFile)) {
+					final BinaryTimeseriesReader reader = btsFile.getReader();
+					assertEquals(numAppended, reader.getNumSamples());
+					assertEquals(scaled[numAppended - 1], reader.readData_double(numAppended - 1, numAppended - 1)[0]);
+				}
+
+				writer.append(values, numAppended, numSamples - numAppended);
+			}
+
+			// after closing, the file has exactly the size of the time series
+			assertEquals(BinaryTimeseries.fileOffset_long(Short.BYTES, numSamples), Files.size(tmpFile));
+			try (BinaryTimeseriesFile btsFile = BinaryTimeseriesFile.open(tmpFile)) {
+				final BinaryTimeseriesReader reader = btsFile.getReader();
+				assertEquals(BinaryTimeseries.DTYPE_LONG, reader.getTimeType());
+				assertEquals(10L, reader.getDt_long());
+				assertEquals(numSamples, reader.getNumSamples());
+				assertArrayEquals(scaled, reader.readData_double());
+			}
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+}